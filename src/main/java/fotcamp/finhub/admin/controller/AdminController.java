@@ -38,8 +38,9 @@ public class AdminController {
             @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
             @ApiResponse(responseCode = "404", description = "NOT FOUND"),
     })
-    public ResponseEntity<ApiResponseWrapper> login(@RequestBody LoginRequestDto loginRequestDto) {
-        return adminService.login(loginRequestDto);
+    public ResponseEntity<ApiResponseWrapper> login(@RequestBody LoginRequestDto loginRequestDto,
+                                                    @RequestHeader(name = "deviceId", required = false) String deviceId) {
+        return adminService.login(loginRequestDto, deviceId);
     }
 
     @GetMapping("/category")
@@ -175,16 +176,18 @@ public class AdminController {
     @PreAuthorize("hasRole('SUPER')")
     @Operation(summary = "토픽 요약 gpt 내용 생성", description = "토픽 요약 gpt 생성 후 답변 반환")
     public ResponseEntity<ApiResponseWrapper> createTopicSummaryGptContent(@RequestBody CreateTopicSummaryGptContentRequestDto createTopicSummaryGptContentRequestDto,
+                                                               @RequestParam(name = "regenerate", defaultValue = "false") boolean regenerate,
                                                                @AuthenticationPrincipal CustomUserDetails userDetails) {
-        return adminService.createTopicSummaryGptContent(createTopicSummaryGptContentRequestDto, userDetails);
+        return adminService.createTopicSummaryGptContent(createTopicSummaryGptContentRequestDto, regenerate, userDetails);
     }
 
     @PostMapping("/topic-usertype")
     @PreAuthorize("hasRole('SUPER')")
     @Operation(summary = "토픽 유저타입 gpt 내용 생성", description = "토픽 유저타입 gpt 내용 생성 후 질문 답변 로그 저장 및 답변 반환")
     public ResponseEntity<ApiResponseWrapper> createTopicUsertypeGptContent(@RequestBody CreateGptContentRequestDto createGptContentRequestDto,
+                                                               @RequestParam(name = "regenerate", defaultValue = "false") boolean regenerate,
                                                                @AuthenticationPrincipal CustomUserDetails userDetails) {
-        return adminService.createTopicUsertypeGptContent(createGptContentRequestDto, userDetails);
+        return adminService.createTopicUsertypeGptContent(createGptContentRequestDto, regenerate, userDetails);
     }
     @GetMapping("/gpt-log")
     @PreAuthorize("hasRole('SUPER')")
@@ -199,6 +202,13 @@ public class AdminController {
         return adminService.getGptLog(pageable, topicId, usertypeId);
     }
 
+    @GetMapping("/gpt-log/{id}")
+    @PreAuthorize("hasRole('SUPER')")
+    @Operation(summary = "gpt 질문 답변 로그 상세", description = "질문/답변 본문과 토큰 사용량")
+    public ResponseEntity<ApiResponseWrapper> getGptLogDetail(@PathVariable(name = "id") Long id) {
+        return adminService.getGptLogDetail(id);
+    }
+
     @PostMapping(value ="/img", consumes = { "multipart/form-data" })
     @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
     @Operation(summary = "이미지 저장", description = "이미지 s3 저장 후 이미지 s3 url 반환")
@@ -343,15 +353,19 @@ public class AdminController {
     @PostMapping(value = "/gpt-column/content")
     @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
     @Operation(summary = "GPT COLUMN 내용 생성", description = "GPT COLUMN 내용 생성")
-    public ResponseEntity<ApiResponseWrapper> creteGptColumnContent(@RequestBody CreateGptColumnRequestDto createGptColumnRequestDto) {
-        return adminService.createGptColumnContent(createGptColumnRequestDto);
+    public ResponseEntity<ApiResponseWrapper> creteGptColumnContent(@RequestBody CreateGptColumnRequestDto createGptColumnRequestDto,
+                                                                @RequestParam(name = "regenerate", defaultValue = "false") boolean regenerate,
+                                                                @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return adminService.createGptColumnContent(createGptColumnRequestDto, regenerate, userDetails);
     }
 
     @PostMapping(value = "/gpt-column/summary")
     @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
     @Operation(summary = "GPT COLUMN 요약 생성", description = "GPT COLUMN 요약 생성")
-    public ResponseEntity<ApiResponseWrapper> createGptColumnSummary(@RequestBody CreateGptColumnRequestDto createGptColumnRequestDto) {
-        return adminService.createGptColumnSummary(createGptColumnRequestDto);
+    public ResponseEntity<ApiResponseWrapper> createGptColumnSummary(@RequestBody CreateGptColumnRequestDto createGptColumnRequestDto,
+                                                                 @RequestParam(name = "regenerate", defaultValue = "false") boolean regenerate,
+                                                                 @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return adminService.createGptColumnSummary(createGptColumnRequestDto, regenerate, userDetails);
     }
 
     @PostMapping(value = "/gpt-column")
@@ -452,7 +466,7 @@ public class AdminController {
 
     @PostMapping("/send-noti")
     @PreAuthorize("hasRole('SUPER') or hasRole('BE')")
-    @Operation(summary = "알림메시지 전송", description = "type 0 : 멤버 이메일 리스트 , 1 : 관리자 이메일 리스트, 2 : 푸시 허용한 멤버 전체, 3 : 푸시 설정 무관 관리자 전체, 4 : 멤버+관리자전체")
+    @Operation(summary = "알림메시지 전송", description = "type 0 : 멤버 이메일 리스트 , 1 : 관리자 이메일 리스트, 2 : 푸시 허용한 멤버 전체, 3 : 푸시 설정 무관 관리자 전체, 4 : 멤버+관리자전체, 5 : 세그먼트(segmentId)")
     public ResponseEntity<ApiResponseWrapper> sendNotification(
             @Valid @RequestBody CreateFcmMessageRequestDto dto
             ) throws JsonProcessingException {
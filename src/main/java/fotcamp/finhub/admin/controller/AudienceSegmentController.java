@@ -0,0 +1,49 @@
+package fotcamp.finhub.admin.controller;
+
+import fotcamp.finhub.admin.dto.request.CreateAudienceSegmentRequestDto;
+import fotcamp.finhub.admin.service.push.AudienceSegmentService;
+import fotcamp.finhub.common.api.ApiResponseWrapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "G admin push segment", description = "admin push segment api")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/push-segment")
+public class AudienceSegmentController {
+
+    private final AudienceSegmentService audienceSegmentService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE')")
+    @Operation(summary = "푸시 세그먼트 생성", description = "criteria USER_TYPE(refId), QUIZ_ACTIVE(activeDays), TOPIC_SCRAP(refId), SIGNUP_DATE(signupFrom, signupTo)")
+    public ResponseEntity<ApiResponseWrapper> createSegment(@Valid @RequestBody CreateAudienceSegmentRequestDto dto) {
+        return audienceSegmentService.createSegment(dto);
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
+    @Operation(summary = "푸시 세그먼트 목록", description = "세그먼트별 회원 수 및 갱신 시각")
+    public ResponseEntity<ApiResponseWrapper> getSegmentList() {
+        return audienceSegmentService.getSegmentList();
+    }
+
+    @PostMapping("/{id}/rebuild")
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE')")
+    @Operation(summary = "푸시 세그먼트 재구성", description = "조건을 처음부터 다시 계산")
+    public ResponseEntity<ApiResponseWrapper> rebuildSegment(@PathVariable(name = "id") Long id) {
+        return audienceSegmentService.rebuildSegment(id);
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE')")
+    @Operation(summary = "푸시 세그먼트 삭제")
+    public ResponseEntity<ApiResponseWrapper> deleteSegment(@PathVariable(name = "id") Long id) {
+        return audienceSegmentService.deleteSegment(id);
+    }
+}
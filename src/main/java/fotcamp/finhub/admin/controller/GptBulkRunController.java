@@ -0,0 +1,55 @@
+package fotcamp.finhub.admin.controller;
+
+import fotcamp.finhub.admin.dto.request.CreateGptBulkRunRequestDto;
+import fotcamp.finhub.admin.service.gpt.GptBulkRunService;
+import fotcamp.finhub.common.api.ApiResponseWrapper;
+import fotcamp.finhub.common.security.CustomUserDetails;
+import fotcamp.finhub.common.utils.PageableUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "H admin gpt bulk", description = "admin gpt bulk generation api")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/gpt-bulk")
+public class GptBulkRunController {
+
+    private final GptBulkRunService gptBulkRunService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('SUPER')")
+    @Operation(summary = "토픽 유저타입 gpt 일괄 생성", description = "Gpt 내용이 없는 (토픽, 유저타입) 조합을 백그라운드에서 생성. categoryId, usertypeId 로 범위 제한 (선택)")
+    public ResponseEntity<ApiResponseWrapper> createRun(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                        @RequestBody CreateGptBulkRunRequestDto dto) {
+        return gptBulkRunService.createRun(dto, userDetails);
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
+    @Operation(summary = "gpt 일괄 생성 목록", description = "최신순 일괄 생성 목록 및 진행률")
+    public ResponseEntity<ApiResponseWrapper> getRunList(
+            @RequestParam(name = "page", defaultValue = "1") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        return gptBulkRunService.getRunList(PageableUtil.createPageableWithNoSort(page, size));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
+    @Operation(summary = "gpt 일괄 생성 상세", description = "진행률 및 셀 상태별 건수")
+    public ResponseEntity<ApiResponseWrapper> getRun(@PathVariable(name = "id") Long id) {
+        return gptBulkRunService.getRun(id);
+    }
+
+    @PostMapping("/{id}/cancel")
+    @PreAuthorize("hasRole('SUPER')")
+    @Operation(summary = "gpt 일괄 생성 취소", description = "미생성 셀 생성 중단")
+    public ResponseEntity<ApiResponseWrapper> cancelRun(@PathVariable(name = "id") Long id) {
+        return gptBulkRunService.cancelRun(id);
+    }
+}
@@ -0,0 +1,81 @@
+package fotcamp.finhub.admin.controller;
+
+import fotcamp.finhub.admin.dto.request.CreateGptColumnRequestDto;
+import fotcamp.finhub.admin.dto.request.CreateGptContentRequestDto;
+import fotcamp.finhub.admin.dto.request.CreateTopicSummaryGptContentRequestDto;
+import fotcamp.finhub.admin.service.gpt.GptJobService;
+import fotcamp.finhub.common.api.ApiResponseWrapper;
+import fotcamp.finhub.common.security.CustomUserDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "H admin gpt job", description = "admin gpt job api")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/gpt-job")
+public class GptJobController {
+
+    private final GptJobService gptJobService;
+
+    @PostMapping("/topic-usertype")
+    @PreAuthorize("hasRole('SUPER')")
+    @Operation(summary = "토픽 유저타입 gpt 작업 접수", description = "작업 ID 반환, regenerate=true 면 캐시 무시, stream=true 면 GET /{id}/stream 으로 답변 조각 구독, 완료 시 질문 답변 로그 저장. GET /{id} 로 결과 조회")
+    public ResponseEntity<ApiResponseWrapper> submitTopicUsertype(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                  @RequestBody CreateGptContentRequestDto dto,
+                                                                  @RequestParam(name = "regenerate", defaultValue = "false") boolean regenerate,
+                                                                  @RequestParam(name = "stream", defaultValue = "false") boolean stream) {
+        return gptJobService.submitTopicUsertype(dto, regenerate, stream, userDetails);
+    }
+
+    @PostMapping("/topic-summary")
+    @PreAuthorize("hasRole('SUPER')")
+    @Operation(summary = "토픽 요약 gpt 작업 접수", description = "작업 ID 반환, regenerate=true 면 캐시 무시, stream=true 면 GET /{id}/stream 으로 답변 조각 구독. GET /{id} 로 결과 조회")
+    public ResponseEntity<ApiResponseWrapper> submitTopicSummary(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                 @Valid @RequestBody CreateTopicSummaryGptContentRequestDto dto,
+                                                                 @RequestParam(name = "regenerate", defaultValue = "false") boolean regenerate,
+                                                                 @RequestParam(name = "stream", defaultValue = "false") boolean stream) {
+        return gptJobService.submitTopicSummary(dto, regenerate, stream, userDetails);
+    }
+
+    @PostMapping("/gpt-column/content")
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
+    @Operation(summary = "GPT COLUMN 내용 작업 접수", description = "작업 ID 반환, regenerate=true 면 캐시 무시, stream=true 면 GET /{id}/stream 으로 답변 조각 구독. GET /{id} 로 결과 조회")
+    public ResponseEntity<ApiResponseWrapper> submitColumnContent(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                  @Valid @RequestBody CreateGptColumnRequestDto dto,
+                                                                  @RequestParam(name = "regenerate", defaultValue = "false") boolean regenerate,
+                                                                  @RequestParam(name = "stream", defaultValue = "false") boolean stream) {
+        return gptJobService.submitColumnContent(dto, regenerate, stream, userDetails);
+    }
+
+    @PostMapping("/gpt-column/summary")
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
+    @Operation(summary = "GPT COLUMN 요약 작업 접수", description = "작업 ID 반환, regenerate=true 면 캐시 무시, stream=true 면 GET /{id}/stream 으로 답변 조각 구독. GET /{id} 로 결과 조회")
+    public ResponseEntity<ApiResponseWrapper> submitColumnSummary(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                  @Valid @RequestBody CreateGptColumnRequestDto dto,
+                                                                  @RequestParam(name = "regenerate", defaultValue = "false") boolean regenerate,
+                                                                  @RequestParam(name = "stream", defaultValue = "false") boolean stream) {
+        return gptJobService.submitColumnSummary(dto, regenerate, stream, userDetails);
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
+    @Operation(summary = "gpt 작업 상태 조회", description = "PENDING, RUNNING, COMPLETED(answer), FAILED(errorMessage, rawAnswer)")
+    public ResponseEntity<ApiResponseWrapper> getJob(@PathVariable(name = "id") Long id) {
+        return gptJobService.getJob(id);
+    }
+
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
+    @Operation(summary = "gpt 작업 답변 스트리밍 구독 (SSE)", description = "event delta : 파싱된 답변 조각, done : 최종 작업 상태, status : 다른 노드에서 실행 중이라 조각 없이 현재 상태만 전달 (폴링으로 확인)")
+    public SseEmitter subscribe(@PathVariable(name = "id") Long id) {
+        return gptJobService.subscribe(id);
+    }
+}
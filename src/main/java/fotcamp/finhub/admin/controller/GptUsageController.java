@@ -0,0 +1,35 @@
+package fotcamp.finhub.admin.controller;
+
+import fotcamp.finhub.admin.service.gpt.GptUsageService;
+import fotcamp.finhub.common.api.ApiResponseWrapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@Tag(name = "H admin gpt usage", description = "admin gpt token usage api")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/gpt-usage")
+public class GptUsageController {
+
+    private final GptUsageService gptUsageService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
+    @Operation(summary = "gpt 토큰 사용량", description = "일자/관리자/호출 경로별 사용량과 일/월 예산. 기간 미지정 시 이번 달")
+    public ResponseEntity<ApiResponseWrapper> getUsage(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return gptUsageService.getUsage(from, to);
+    }
+}
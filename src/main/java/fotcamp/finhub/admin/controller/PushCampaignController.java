@@ -0,0 +1,59 @@
+package fotcamp.finhub.admin.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import fotcamp.finhub.admin.dto.request.CreateFcmMessageRequestDto;
+import fotcamp.finhub.admin.service.push.PushCampaignService;
+import fotcamp.finhub.common.api.ApiResponseWrapper;
+import fotcamp.finhub.common.security.CustomUserDetails;
+import fotcamp.finhub.common.utils.PageableUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "G admin push campaign", description = "admin push campaign api")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/push-campaign")
+public class PushCampaignController {
+
+    private final PushCampaignService pushCampaignService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE')")
+    @Operation(summary = "푸시 캠페인 생성", description = "대상 저장 후 백그라운드 발송. type 0 : 멤버 이메일 리스트 , 1 : 관리자 이메일 리스트, 2 : 푸시 허용한 멤버 전체, 3 : 푸시 설정 무관 관리자 전체, 4 : 멤버+관리자전체, 5 : 세그먼트(segmentId)")
+    public ResponseEntity<ApiResponseWrapper> createCampaign(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody CreateFcmMessageRequestDto dto
+    ) throws JsonProcessingException {
+        return pushCampaignService.createCampaign(dto, userDetails.getRole());
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
+    @Operation(summary = "푸시 캠페인 목록", description = "최신순 캠페인 목록 및 진행률")
+    public ResponseEntity<ApiResponseWrapper> getCampaignList(
+            @RequestParam(name = "page", defaultValue = "1") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        return pushCampaignService.getCampaignList(PageableUtil.createPageableWithNoSort(page, size));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE') or hasRole('FE')")
+    @Operation(summary = "푸시 캠페인 상세", description = "진행률 및 대상 발송 상태별 건수")
+    public ResponseEntity<ApiResponseWrapper> getCampaign(@PathVariable(name = "id") Long id) {
+        return pushCampaignService.getCampaign(id);
+    }
+
+    @PostMapping("/{id}/cancel")
+    @PreAuthorize("hasRole('SUPER') or hasRole('BE')")
+    @Operation(summary = "푸시 캠페인 취소", description = "미발송 대상 발송 중단")
+    public ResponseEntity<ApiResponseWrapper> cancelCampaign(@PathVariable(name = "id") Long id) {
+        return pushCampaignService.cancelCampaign(id);
+    }
+}
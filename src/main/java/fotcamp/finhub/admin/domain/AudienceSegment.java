@@ -0,0 +1,92 @@
+package fotcamp.finhub.admin.domain;
+
+import fotcamp.finhub.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 푸시 대상 세그먼트. 조건에 맞는 회원 id 를 RoaringBitmap 으로 압축 저장한다.
+ * sourceWatermark 는 마지막으로 반영한 원천 행 id (회원/퀴즈 풀이/스크랩) 로, 증분 갱신 시 그 이후 행만 읽는다.
+ * 증분 갱신과 전체 재구성(스케줄, 관리자 요청, 다른 노드)이 겹쳐도 서로의 비트맵을 덮어쓰지 않도록 version 으로 낙관적 잠금을 건다.
+ */
+@Entity
+@Table(name = "AUDIENCE_SEGMENT")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AudienceSegment extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "AUDIENCE_SEGMENT_ID")
+    private Long id;
+
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    private SegmentCriteria criteria;
+
+    private Long refId; // USER_TYPE : 유저타입 id, TOPIC_SCRAP : 토픽 id
+    private Integer activeDays; // QUIZ_ACTIVE
+    private LocalDate signupFrom; // SIGNUP_DATE
+    private LocalDate signupTo; // SIGNUP_DATE, null 이면 현재까지
+
+    @Lob
+    @Column(columnDefinition = "LONGBLOB")
+    private byte[] bitmap;
+
+    private int memberCount;
+    private long sourceWatermark;
+    private LocalDateTime refreshedAt; // 마지막 갱신을 시작한 시각 (다음 증분 갱신은 이 시각 이후 변경을 읽는다)
+    private LocalDateTime rebuiltAt;
+
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0") // 기존 행은 0 으로 채워진다
+    private long version;
+
+    @Builder
+    public AudienceSegment(String name, SegmentCriteria criteria, Long refId, Integer activeDays, LocalDate signupFrom, LocalDate signupTo) {
+        this.name = name;
+        this.criteria = criteria;
+        this.refId = refId;
+        this.activeDays = activeDays;
+        this.signupFrom = signupFrom;
+        this.signupTo = signupTo;
+    }
+
+    public RoaringBitmap getMemberBitmap() {
+        RoaringBitmap members = new RoaringBitmap();
+        if (bitmap == null) {
+            return members;
+        }
+        try {
+            members.deserialize(ByteBuffer.wrap(bitmap));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return members;
+    }
+
+    // 증분 갱신이면 rebuilt = false, startedAt 은 원천 행을 읽기 시작한 시각
+    public void updateMembers(RoaringBitmap members, long sourceWatermark, boolean rebuilt, LocalDateTime startedAt) {
+        members.runOptimize();
+        ByteBuffer buffer = ByteBuffer.allocate(members.serializedSizeInBytes());
+        members.serialize(buffer);
+        this.bitmap = buffer.array();
+        this.memberCount = members.getCardinality();
+        this.sourceWatermark = sourceWatermark;
+        this.refreshedAt = startedAt;
+        if (rebuilt) {
+            this.rebuiltAt = this.refreshedAt;
+        }
+    }
+}
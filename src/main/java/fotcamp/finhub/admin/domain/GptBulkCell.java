@@ -0,0 +1,91 @@
+package fotcamp.finhub.admin.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** 일괄 생성 대상 (토픽, 유저타입) 셀별 진행 상태. 완료된 셀이 체크포인트가 된다. */
+@Entity
+@Table(name = "GPT_BULK_CELL", indexes = {
+        @Index(name = "idx_gpt_bulk_cell_due", columnList = "run_id, status, next_attempt_at"),
+        @Index(name = "idx_gpt_bulk_cell_claim", columnList = "claim_token")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GptBulkCell {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "GPT_BULK_CELL_ID")
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "topic_id", nullable = false)
+    private Long topicId;
+
+    @Column(name = "usertype_id", nullable = false)
+    private Long usertypeId;
+
+    @Enumerated(EnumType.STRING)
+    private GptBulkCellStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+    private Long gptId;
+
+    @Column(name = "claim_token")
+    private String claimToken; // 생성 노드 점유 식별값
+
+    public GptBulkCell(Long runId, Long categoryId, Long topicId, Long usertypeId) {
+        this.runId = runId;
+        this.categoryId = categoryId;
+        this.topicId = topicId;
+        this.usertypeId = usertypeId;
+        this.status = GptBulkCellStatus.PENDING;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void done(Long gptId) {
+        this.status = GptBulkCellStatus.DONE;
+        this.attempts++;
+        this.gptId = gptId;
+        this.lastError = null;
+    }
+
+    public void skipped() {
+        this.status = GptBulkCellStatus.SKIPPED;
+        this.lastError = null;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = GptBulkCellStatus.RETRY;
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error;
+    }
+
+    // 호출하지 못한 경우 (예산 초과 등). 시도 횟수는 늘리지 않는다
+    public void deferUntil(LocalDateTime nextAttemptAt, String reason) {
+        this.status = GptBulkCellStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = reason;
+    }
+
+    public void failed(String error) {
+        this.status = GptBulkCellStatus.FAILED;
+        this.attempts++;
+        this.lastError = error;
+    }
+}
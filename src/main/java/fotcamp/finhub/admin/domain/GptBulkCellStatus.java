@@ -0,0 +1,14 @@
+package fotcamp.finhub.admin.domain;
+
+import java.util.List;
+
+public enum GptBulkCellStatus {
+    PENDING,    // 생성 전
+    RUNNING,    // 생성 노드가 점유 중 (next_attempt_at 까지 점유, 지나면 다시 생성 대상)
+    RETRY,      // 호출/파싱 실패, next_attempt_at 이후 재시도
+    DONE,       // Gpt 내용 저장 완료
+    SKIPPED,    // 그 사이 다른 경로로 Gpt 내용이 생겨 건너뜀
+    FAILED;
+
+    public static final List<GptBulkCellStatus> UNFINISHED = List.of(PENDING, RUNNING, RETRY);
+}
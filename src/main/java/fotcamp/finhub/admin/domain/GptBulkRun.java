@@ -0,0 +1,83 @@
+package fotcamp.finhub.admin.domain;
+
+import fotcamp.finhub.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토픽 x 유저타입 GPT 내용 일괄 생성. 셀별 진행 상태는 GptBulkCell 에 저장되어 재시작 후에도 이어서 생성한다.
+ * 처리 건수는 벌크 UPDATE 로 누적하므로, 상태 변경 시 변경된 컬럼만 UPDATE 한다(@DynamicUpdate).
+ */
+@Entity
+@DynamicUpdate
+@Table(name = "GPT_BULK_RUN")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GptBulkRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "GPT_BULK_RUN_ID")
+    private Long id;
+
+    private Long categoryId; // null 이면 전체 카테고리
+    private Long usertypeId; // null 이면 전체 유저타입
+
+    @Enumerated(EnumType.STRING)
+    private GptBulkRunStatus status;
+
+    private int totalCount;
+    private int succeededCount;
+    private int skippedCount;
+    private int failedCount;
+    private long usedTokens;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    private String createdBy;
+    private Long managerId; // 요청 관리자 (사용량 집계용)
+
+    @Builder
+    public GptBulkRun(Long categoryId, Long usertypeId, String createdBy, Long managerId) {
+        this.categoryId = categoryId;
+        this.usertypeId = usertypeId;
+        this.createdBy = createdBy;
+        this.managerId = managerId;
+        this.status = GptBulkRunStatus.PREPARING;
+    }
+
+    public void prepared(int totalCount) {
+        this.totalCount = totalCount;
+        if (this.status == GptBulkRunStatus.PREPARING) {
+            this.status = GptBulkRunStatus.PENDING;
+        }
+    }
+
+    public void start() {
+        if (this.status == GptBulkRunStatus.PENDING) {
+            this.status = GptBulkRunStatus.RUNNING;
+            this.startedAt = LocalDateTime.now();
+        }
+    }
+
+    public void complete() {
+        this.status = GptBulkRunStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void cancel() {
+        this.status = GptBulkRunStatus.CANCELED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == GptBulkRunStatus.COMPLETED || status == GptBulkRunStatus.CANCELED;
+    }
+}
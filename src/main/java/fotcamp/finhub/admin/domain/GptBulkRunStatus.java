@@ -0,0 +1,9 @@
+package fotcamp.finhub.admin.domain;
+
+public enum GptBulkRunStatus {
+    PREPARING,  // 생성 대상 셀 적재 중
+    PENDING,    // 적재 완료, 생성 전
+    RUNNING,    // 생성 중 (재시도 대기 포함)
+    COMPLETED,  // 모든 셀 처리 완료
+    CANCELED
+}
@@ -0,0 +1,71 @@
+package fotcamp.finhub.admin.domain;
+
+import fotcamp.finhub.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * GPT 응답 캐시. temperature 0 호출은 같은 입력에 같은 답을 주므로 (모델, 시스템 메시지, 프롬프트) 해시로 답변을 재사용한다.
+ * 토큰 수는 처음 생성할 때의 사용량이며, 캐시 적중 시 절약한 토큰 수로 쓴다.
+ * TTL 은 cachedAt(답변을 마지막으로 저장한 시각) 기준이다. 같은 답으로 교체하면 변경 감지가 안 돼 modifiedTime 이 그대로이므로 따로 둔다.
+ */
+@Entity
+@Table(name = "GPT_RESPONSE_CACHE",
+        uniqueConstraints = @UniqueConstraint(name = "uk_gpt_response_cache_key", columnNames = "cache_key"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GptCachedResponse extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "GPT_RESPONSE_CACHE_ID")
+    private Long id;
+
+    @Column(name = "cache_key", nullable = false, length = 64)
+    private String cacheKey; // sha-256 hex
+
+    private String model;
+
+    @Column(columnDefinition = "MEDIUMTEXT", nullable = false)
+    private String answer;
+
+    private long promptTokens;
+    private long completionTokens;
+    private long totalTokens;
+
+    private long hitCount;
+    private LocalDateTime lastHitAt;
+
+    private LocalDateTime cachedAt;
+
+    @Builder
+    public GptCachedResponse(String cacheKey, String model, String answer, long promptTokens, long completionTokens, long totalTokens) {
+        this.cacheKey = cacheKey;
+        this.model = model;
+        this.answer = answer;
+        this.promptTokens = promptTokens;
+        this.completionTokens = completionTokens;
+        this.totalTokens = totalTokens;
+        this.cachedAt = LocalDateTime.now();
+    }
+
+    // 강제 재생성한 답변으로 교체
+    public void replace(String answer, long promptTokens, long completionTokens, long totalTokens) {
+        this.answer = answer;
+        this.promptTokens = promptTokens;
+        this.completionTokens = completionTokens;
+        this.totalTokens = totalTokens;
+        this.cachedAt = LocalDateTime.now(); // 값이 같아도 항상 갱신
+    }
+
+    // cachedAt 이 없는 기존 행은 생성 시각 기준
+    public boolean isFresh(LocalDateTime expiredBefore) {
+        LocalDateTime storedAt = cachedAt != null ? cachedAt : getCreatedTime();
+        return storedAt == null || storedAt.isAfter(expiredBefore);
+    }
+}
@@ -0,0 +1,128 @@
+package fotcamp.finhub.admin.domain;
+
+import fotcamp.finhub.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 GPT 생성 작업. 요청 스레드는 작업을 저장하고 ID 만 반환하며,
+ * GptJobExecutor 가 실행한 결과(파싱된 내용 또는 실패 사유)를 여기에 기록한다.
+ */
+@Entity
+@Table(name = "GPT_JOB", indexes = @Index(name = "idx_gpt_job_status", columnList = "status"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GptJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "GPT_JOB_ID")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private GptJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private GptJobStatus status;
+
+    private Long categoryId;
+    private Long topicId;
+    private Long usertypeId;
+
+    @Column(columnDefinition = "MEDIUMTEXT", nullable = false)
+    private String prompt;
+
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String result;
+
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String rawAnswer; // 파싱 실패 시 원문 확인용
+
+    private boolean regenerate; // 캐시를 건너뛰고 새로 생성
+    private boolean stream; // 답변 조각을 SSE 구독자에게 전달
+
+    private Long gptLogId;
+    private String errorMessage;
+    private String createdBy;
+    private Long managerId; // 요청 관리자 (사용량 집계용)
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    private String ownerNode; // 작업을 대기열에 넣은 노드 (GptJobExecutor 노드 ID)
+    private LocalDateTime heartbeatAt; // 소유 노드가 살아있는 동안 주기적으로 갱신
+
+    @Builder
+    public GptJob(GptJobType type, Long categoryId, Long topicId, Long usertypeId, String prompt, boolean regenerate, boolean stream, String createdBy,
+                  Long managerId, String ownerNode) {
+        this.type = type;
+        this.categoryId = categoryId;
+        this.topicId = topicId;
+        this.usertypeId = usertypeId;
+        this.prompt = prompt;
+        this.regenerate = regenerate;
+        this.stream = stream;
+        this.createdBy = createdBy;
+        this.managerId = managerId;
+        this.ownerNode = ownerNode;
+        this.heartbeatAt = LocalDateTime.now();
+        this.status = GptJobStatus.PENDING;
+    }
+
+    public boolean start() {
+        if (this.status != GptJobStatus.PENDING) {
+            return false;
+        }
+        this.status = GptJobStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+        return true;
+    }
+
+    /** 실행 중인 작업만 완료 처리한다. 그 사이 정리 스케줄러가 실패 처리했으면 false */
+    public boolean complete(String result, String rawAnswer, Long gptLogId) {
+        if (this.status != GptJobStatus.RUNNING) {
+            return false;
+        }
+        this.status = GptJobStatus.COMPLETED;
+        this.result = result;
+        this.rawAnswer = rawAnswer;
+        this.gptLogId = gptLogId;
+        this.finishedAt = LocalDateTime.now();
+        return true;
+    }
+
+    /** 실행 중인 작업만 실패 처리한다. 이미 끝난 작업이면 false */
+    public boolean fail(String errorMessage, String rawAnswer, Long gptLogId) {
+        if (this.status != GptJobStatus.RUNNING) {
+            return false;
+        }
+        finishAsFailed(errorMessage);
+        this.rawAnswer = rawAnswer;
+        this.gptLogId = gptLogId;
+        return true;
+    }
+
+    // 실행 전(대기열 초과 등)에 거절된 작업
+    public void reject(String errorMessage) {
+        if (this.status == GptJobStatus.PENDING) {
+            finishAsFailed(errorMessage);
+        }
+    }
+
+    private void finishAsFailed(String errorMessage) {
+        this.status = GptJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == GptJobStatus.COMPLETED || status == GptJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,8 @@
+package fotcamp.finhub.admin.domain;
+
+public enum GptJobStatus {
+    PENDING,    // 실행 대기열
+    RUNNING,    // GPT 호출 중
+    COMPLETED,  // 답변 파싱까지 완료
+    FAILED      // 호출/파싱 실패, 대기열 초과, 중단
+}
@@ -0,0 +1,14 @@
+package fotcamp.finhub.admin.domain;
+
+/** GPT 생성 작업 종류. 종류별 답변 형식은 GptAnswerParser 가 처리한다. */
+public enum GptJobType {
+    TOPIC_USERTYPE,
+    TOPIC_SUMMARY,
+    COLUMN_CONTENT,
+    COLUMN_SUMMARY;
+
+    // GptLog 는 카테고리/토픽/유저타입 조합 답변만 기록한다
+    public boolean isLogged() {
+        return this == TOPIC_USERTYPE;
+    }
+}
@@ -1,14 +1,18 @@
 package fotcamp.finhub.admin.domain;
 
 import fotcamp.finhub.common.domain.BaseEntity;
+import fotcamp.finhub.common.utils.CompressUtil;
 import jakarta.persistence.*;
 import lombok.*;
 
+/**
+ * GPT 질문/답변 로그
+ * 프롬프트와 답변은 deflate 로 압축해 question_data/answer_data 에 저장하고, getQuestion/getAnswer 를 호출할 때 푼다.
+ * 목록 조회는 본문 컬럼을 읽지 않는다 (GptLogRepositoryImpl). 오래된 로그는 GptLogArchiver 가 보관 파일로 옮기고 삭제한다.
+ */
 @Entity
 @Getter
-@Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor
 public class GptLog extends BaseEntity {
 
     @Id
@@ -24,12 +28,66 @@ public class GptLog extends BaseEntity {
     @Column(nullable = false)
     private Long usertypeId;
 
-    @Column(nullable = false)
-    private String question;
+    // 압축 저장 이전 로그 (GptLogArchiver 가 압축 컬럼으로 옮기고 비운다)
+    // 기존 question 컬럼은 NOT NULL 이라 배포 전 resources/db/gpt_log_compressed_body.sql 로 nullable 로 바꿔야 한다
+    @Getter(AccessLevel.NONE)
+    @Column(name = "question")
+    private String legacyQuestion;
+
+    @Getter(AccessLevel.NONE)
+    @Column(name = "answer", columnDefinition = "MEDIUMTEXT")
+    private String legacyAnswer;
 
-    @Column(columnDefinition = "MEDIUMTEXT")
-    private String answer;
+    @Getter(AccessLevel.NONE)
+    @Column(name = "question_data", columnDefinition = "MEDIUMBLOB")
+    private byte[] questionData;
+
+    @Getter(AccessLevel.NONE)
+    @Column(name = "answer_data", columnDefinition = "MEDIUMBLOB")
+    private byte[] answerData;
 
     private String createdBy;
 
+    // 토큰 사용량 (캐시 적중은 0, 스트리밍은 추정치, 기록 이전 로그는 null)
+    private Long promptTokens;
+    private Long completionTokens;
+    private Long totalTokens;
+
+    @Builder
+    public GptLog(Long categoryId, Long topicId, Long usertypeId, String question, String answer, String createdBy,
+                  Long promptTokens, Long completionTokens, Long totalTokens) {
+        this.categoryId = categoryId;
+        this.topicId = topicId;
+        this.usertypeId = usertypeId;
+        this.questionData = CompressUtil.deflate(question);
+        this.answerData = CompressUtil.deflate(answer);
+        this.createdBy = createdBy;
+        this.promptTokens = promptTokens;
+        this.completionTokens = completionTokens;
+        this.totalTokens = totalTokens;
+    }
+
+    public String getQuestion() {
+        return questionData != null ? CompressUtil.inflate(questionData) : legacyQuestion;
+    }
+
+    public String getAnswer() {
+        return answerData != null ? CompressUtil.inflate(answerData) : legacyAnswer;
+    }
+
+    public boolean isCompressed() {
+        return legacyQuestion == null && legacyAnswer == null;
+    }
+
+    // 평문 본문을 압축 컬럼으로 옮긴다
+    public void compress() {
+        if (legacyQuestion != null) {
+            this.questionData = CompressUtil.deflate(legacyQuestion);
+            this.legacyQuestion = null;
+        }
+        if (legacyAnswer != null) {
+            this.answerData = CompressUtil.deflate(legacyAnswer);
+            this.legacyAnswer = null;
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package fotcamp.finhub.admin.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일자/관리자/호출 경로별 GPT 토큰 사용량. GptUsageMeter 가 메모리에 모은 값을 주기적으로 upsert 로 더한다.
+ * 예산(일/월) 판단과 사용량 조회는 이 테이블 기준이라 노드 간에 공유된다.
+ */
+@Entity
+@Table(name = "GPT_USAGE_DAILY",
+        uniqueConstraints = @UniqueConstraint(name = "uk_gpt_usage_daily", columnNames = {"usage_date", "admin", "endpoint"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GptUsageDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "GPT_USAGE_DAILY_ID")
+    private Long id;
+
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+
+    @Column(name = "admin", nullable = false)
+    private String admin;
+
+    @Column(name = "endpoint", nullable = false)
+    private String endpoint;
+
+    private long calls;
+    private long promptTokens;
+    private long completionTokens;
+    private long totalTokens;
+}
@@ -1,16 +1,22 @@
 package fotcamp.finhub.admin.domain;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_manager_refresh_token_email_device", columnNames = {"email", "device_id"}),
+        indexes = {
+                @Index(name = "idx_manager_refresh_token_token", columnList = "refresh_token"),
+                @Index(name = "idx_manager_refresh_token_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_manager_refresh_token_previous_token", columnList = "previous_token")
+        })
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -25,12 +31,22 @@ public class ManagerRefreshToken {
     @NotBlank
     private String email;
 
-    public ManagerRefreshToken(String refreshToken, String email) {
+    @Column(name = "device_id")
+    private String deviceId;
+
+    @Column(name = "expires_at") // 기존 데이터는 null 이며 유효한 것으로 취급
+    private LocalDateTime expiresAt;
+
+    @Column(name = "previous_token") // 직전 토큰 (재사용 감지용)
+    private String previousToken;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    public ManagerRefreshToken(String refreshToken, String email, String deviceId, LocalDateTime expiresAt) {
         this.refreshToken = refreshToken;
         this.email = email;
+        this.deviceId = deviceId;
+        this.expiresAt = expiresAt;
     }
-
-    public void updateToken(String token){
-        this.refreshToken = token;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+package fotcamp.finhub.admin.domain;
+
+import fotcamp.finhub.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 푸시 발송 캠페인. 대상별 발송 상태는 PushDelivery 에 저장되어 재시작 후에도 이어서 발송한다.
+ * 발송 건수는 벌크 UPDATE 로 누적하므로, 상태 변경 시 변경된 컬럼만 UPDATE 한다(@DynamicUpdate).
+ */
+@Entity
+@DynamicUpdate
+@Table(name = "PUSH_CAMPAIGN")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PushCampaign extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "PUSH_CAMPAIGN_ID")
+    private Long id;
+
+    private Long type;
+    private String title;
+    private String content;
+    private String view;
+
+    @Column(columnDefinition = "TEXT")
+    private String actionJson;
+
+    private Long notificationId; // 알림함 이력
+
+    @Enumerated(EnumType.STRING)
+    private PushCampaignStatus status;
+
+    private int totalCount;
+    private int sentCount;
+    private int failedCount;
+    private int prunedTokenCount; // 만료 응답으로 삭제한 FCM 토큰 수
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    private String createdBy;
+
+    @Builder
+    public PushCampaign(Long type, String title, String content, String view, String actionJson, String createdBy) {
+        this.type = type;
+        this.title = title;
+        this.content = content;
+        this.view = view;
+        this.actionJson = actionJson;
+        this.createdBy = createdBy;
+        this.status = PushCampaignStatus.PREPARING;
+    }
+
+    // 적재 실패 시 정리할 수 있도록 알림함 이력을 먼저 연결한다
+    public void attachNotification(Long notificationId) {
+        this.notificationId = notificationId;
+    }
+
+    // 대상 적재가 끝나야 발송 대상이 된다
+    public void prepared(int totalCount) {
+        this.totalCount = totalCount;
+        if (this.status == PushCampaignStatus.PREPARING) {
+            this.status = PushCampaignStatus.PENDING;
+        }
+    }
+
+    public void start() {
+        if (this.status == PushCampaignStatus.PENDING) {
+            this.status = PushCampaignStatus.RUNNING;
+            this.startedAt = LocalDateTime.now();
+        }
+    }
+
+    public void complete() {
+        this.status = PushCampaignStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void cancel() {
+        this.status = PushCampaignStatus.CANCELED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail() {
+        this.status = PushCampaignStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isPreparing() {
+        return status == PushCampaignStatus.PREPARING;
+    }
+
+    public boolean isFinished() {
+        return status == PushCampaignStatus.COMPLETED || status == PushCampaignStatus.CANCELED || status == PushCampaignStatus.FAILED;
+    }
+}
@@ -0,0 +1,10 @@
+package fotcamp.finhub.admin.domain;
+
+public enum PushCampaignStatus {
+    PREPARING,  // 발송 대상 적재 중
+    PENDING,    // 적재 완료, 발송 전
+    RUNNING,    // 발송 중 (재시도 대기 포함)
+    COMPLETED,  // 모든 대상 처리 완료
+    CANCELED,
+    FAILED      // 대상 적재 실패 (적재된 발송 대기/알림함 행은 삭제)
+}
@@ -0,0 +1,74 @@
+package fotcamp.finhub.admin.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** 캠페인 대상별 발송 상태 */
+@Entity
+@Table(name = "PUSH_DELIVERY", indexes = {
+        @Index(name = "idx_push_delivery_due", columnList = "campaign_id, status, next_attempt_at"),
+        @Index(name = "idx_push_delivery_claim", columnList = "claim_token")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PushDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "PUSH_DELIVERY_ID")
+    private Long id;
+
+    @Column(name = "campaign_id", nullable = false)
+    private Long campaignId;
+
+    private Long memberId; // 관리자 대상이면 null
+    private String name;
+    private String fcmToken;
+
+    @Enumerated(EnumType.STRING)
+    private PushDeliveryStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+    private LocalDateTime sentAt;
+
+    @Column(name = "claim_token")
+    private String claimToken; // 발송 노드 점유 식별값
+
+    public PushDelivery(Long campaignId, Long memberId, String name, String fcmToken) {
+        this.campaignId = campaignId;
+        this.memberId = memberId;
+        this.name = name;
+        this.fcmToken = fcmToken;
+        this.status = PushDeliveryStatus.PENDING;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void sent() {
+        this.status = PushDeliveryStatus.SENT;
+        this.attempts++;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = PushDeliveryStatus.RETRY;
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error;
+    }
+
+    public void failed(String error) {
+        this.status = PushDeliveryStatus.FAILED;
+        this.attempts++;
+        this.lastError = error;
+    }
+}
@@ -0,0 +1,13 @@
+package fotcamp.finhub.admin.domain;
+
+import java.util.List;
+
+public enum PushDeliveryStatus {
+    PENDING,    // 발송 전
+    SENDING,    // 발송 노드가 점유 중 (next_attempt_at 까지 점유, 지나면 다시 발송 대상)
+    RETRY,      // 재시도 가능한 오류, next_attempt_at 이후 재발송
+    SENT,
+    FAILED;
+
+    public static final List<PushDeliveryStatus> UNFINISHED = List.of(PENDING, SENDING, RETRY);
+}
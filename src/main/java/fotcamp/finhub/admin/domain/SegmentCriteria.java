@@ -0,0 +1,11 @@
+package fotcamp.finhub.admin.domain;
+
+/**
+ * USER_TYPE : 유저 타입(refId) 회원
+ * QUIZ_ACTIVE : 최근 activeDays 일 안에 퀴즈를 푼 회원
+ * TOPIC_SCRAP : 토픽(refId)을 스크랩한 회원
+ * SIGNUP_DATE : signupFrom ~ signupTo 사이 가입 회원
+ */
+public enum SegmentCriteria {
+    USER_TYPE, QUIZ_ACTIVE, TOPIC_SCRAP, SIGNUP_DATE
+}
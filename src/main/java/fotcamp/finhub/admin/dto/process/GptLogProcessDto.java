@@ -1,30 +1,29 @@
 package fotcamp.finhub.admin.dto.process;
 
-import fotcamp.finhub.admin.domain.GptLog;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
+// 목록용 메타데이터 (질문/답변 본문은 상세 조회에서만 내려준다)
 @Getter
 public class GptLogProcessDto {
     private final Long id;
     private final String categoryName;
     private final String topicTitle;
     private final String usertypeName;
-    private final String question;
-    private final String answer;
     private final LocalDateTime createdTime;
     private final String createdBy;
+    private final Long totalTokens;
 
-    public GptLogProcessDto(GptLog gptLog, String categoryName, String topicTitle, String usertypeName) {
-        this.id = gptLog.getId();
+    public GptLogProcessDto(Long id, String categoryName, String topicTitle, String usertypeName,
+                            LocalDateTime createdTime, String createdBy, Long totalTokens) {
+        this.id = id;
         this.categoryName = categoryName;
         this.topicTitle = topicTitle;
         this.usertypeName = usertypeName;
-        this.question = gptLog.getQuestion();
-        this.answer = gptLog.getAnswer();
-        this.createdTime = gptLog.getCreatedTime();
-        this.createdBy = gptLog.getCreatedBy();
+        this.createdTime = createdTime;
+        this.createdBy = createdBy;
+        this.totalTokens = totalTokens;
     }
 
 }
@@ -0,0 +1,23 @@
+package fotcamp.finhub.admin.dto.request;
+
+import fotcamp.finhub.admin.domain.SegmentCriteria;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+public class CreateAudienceSegmentRequestDto {
+
+    @NotBlank
+    private String name;
+    @NotNull
+    private SegmentCriteria criteria;
+    private Long refId; // USER_TYPE : 유저타입 id, TOPIC_SCRAP : 토픽 id
+    private Integer activeDays; // QUIZ_ACTIVE
+    private LocalDate signupFrom; // SIGNUP_DATE
+    private LocalDate signupTo; // SIGNUP_DATE (선택)
+}
@@ -12,17 +12,19 @@ import java.util.List;
 @NoArgsConstructor
 public class CreateFcmMessageRequestDto {
 
-    private Long type; // 0 ~ 4번
+    private Long type; // 0 ~ 5번
     private List<String> target; // 이메일 리스트, 혹은 빈 리스트
+    private Long segmentId; // type 5 대상 세그먼트
     private String title;
     private String content;
     private String view;
     private FcmMessageProcessDto.Action action;
 
     @Builder
-    public CreateFcmMessageRequestDto(Long type, List<String> target, String title, String content, String view, FcmMessageProcessDto.Action action) {
+    public CreateFcmMessageRequestDto(Long type, List<String> target, Long segmentId, String title, String content, String view, FcmMessageProcessDto.Action action) {
         this.type = type;
         this.target = target;
+        this.segmentId = segmentId;
         this.title = title;
         this.content = content;
         this.view = view;
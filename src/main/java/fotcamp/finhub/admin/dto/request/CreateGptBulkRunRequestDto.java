@@ -0,0 +1,5 @@
+package fotcamp.finhub.admin.dto.request;
+
+// 비어 있으면 전체 카테고리 / 전체 유저타입
+public record CreateGptBulkRunRequestDto(Long categoryId, Long usertypeId) {
+}
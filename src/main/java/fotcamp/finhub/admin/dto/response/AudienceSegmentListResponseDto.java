@@ -0,0 +1,6 @@
+package fotcamp.finhub.admin.dto.response;
+
+import java.util.List;
+
+public record AudienceSegmentListResponseDto(List<AudienceSegmentResponseDto> segmentList) {
+}
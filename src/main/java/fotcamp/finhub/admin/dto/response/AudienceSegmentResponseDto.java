@@ -0,0 +1,18 @@
+package fotcamp.finhub.admin.dto.response;
+
+import fotcamp.finhub.admin.domain.AudienceSegment;
+import fotcamp.finhub.admin.domain.SegmentCriteria;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record AudienceSegmentResponseDto(Long id, String name, SegmentCriteria criteria, Long refId, Integer activeDays,
+                                         LocalDate signupFrom, LocalDate signupTo, int memberCount,
+                                         LocalDateTime refreshedAt, LocalDateTime rebuiltAt) {
+
+    public AudienceSegmentResponseDto(AudienceSegment segment) {
+        this(segment.getId(), segment.getName(), segment.getCriteria(), segment.getRefId(), segment.getActiveDays(),
+                segment.getSignupFrom(), segment.getSignupTo(), segment.getMemberCount(),
+                segment.getRefreshedAt(), segment.getRebuiltAt());
+    }
+}
@@ -0,0 +1,35 @@
+package fotcamp.finhub.admin.dto.response;
+
+import fotcamp.finhub.admin.domain.GptLog;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class DetailGptLogResponseDto {
+    private final Long id;
+    private final Long categoryId;
+    private final Long topicId;
+    private final Long usertypeId;
+    private final String question;
+    private final String answer;
+    private final String createdBy;
+    private final LocalDateTime createdTime;
+    private final Long promptTokens;
+    private final Long completionTokens;
+    private final Long totalTokens;
+
+    public DetailGptLogResponseDto(GptLog gptLog) {
+        this.id = gptLog.getId();
+        this.categoryId = gptLog.getCategoryId();
+        this.topicId = gptLog.getTopicId();
+        this.usertypeId = gptLog.getUsertypeId();
+        this.question = gptLog.getQuestion();
+        this.answer = gptLog.getAnswer();
+        this.createdBy = gptLog.getCreatedBy();
+        this.createdTime = gptLog.getCreatedTime();
+        this.promptTokens = gptLog.getPromptTokens();
+        this.completionTokens = gptLog.getCompletionTokens();
+        this.totalTokens = gptLog.getTotalTokens();
+    }
+}
@@ -2,5 +2,6 @@ package fotcamp.finhub.admin.dto.response;
 
 import java.util.List;
 
-public record FcmResponseDto(List<String> failList) {
+/** @param prunedTokenCount 만료 토큰으로 판정되어 토큰이 삭제된 회원/관리자 수 */
+public record FcmResponseDto(List<String> failList, int prunedTokenCount) {
 }
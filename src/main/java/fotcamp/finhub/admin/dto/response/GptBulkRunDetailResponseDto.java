@@ -0,0 +1,7 @@
+package fotcamp.finhub.admin.dto.response;
+
+import java.util.Map;
+
+/** @param cellStatusCount 셀 상태별 건수 (PENDING, RUNNING, RETRY, DONE, SKIPPED, FAILED) */
+public record GptBulkRunDetailResponseDto(GptBulkRunResponseDto run, Map<String, Long> cellStatusCount) {
+}
@@ -0,0 +1,8 @@
+package fotcamp.finhub.admin.dto.response;
+
+import fotcamp.finhub.common.dto.process.PageInfoProcessDto;
+
+import java.util.List;
+
+public record GptBulkRunListResponseDto(List<GptBulkRunResponseDto> runList, PageInfoProcessDto pageInfo) {
+}
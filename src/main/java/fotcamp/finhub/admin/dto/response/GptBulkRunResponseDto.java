@@ -0,0 +1,19 @@
+package fotcamp.finhub.admin.dto.response;
+
+import fotcamp.finhub.admin.domain.GptBulkRun;
+import fotcamp.finhub.admin.domain.GptBulkRunStatus;
+
+import java.time.LocalDateTime;
+
+public record GptBulkRunResponseDto(Long id, Long categoryId, Long usertypeId, GptBulkRunStatus status,
+                                    int totalCount, int succeededCount, int skippedCount, int failedCount, int remainingCount,
+                                    long usedTokens, String createdBy,
+                                    LocalDateTime createdTime, LocalDateTime startedAt, LocalDateTime finishedAt) {
+
+    public GptBulkRunResponseDto(GptBulkRun run) {
+        this(run.getId(), run.getCategoryId(), run.getUsertypeId(), run.getStatus(),
+                run.getTotalCount(), run.getSucceededCount(), run.getSkippedCount(), run.getFailedCount(),
+                Math.max(0, run.getTotalCount() - run.getSucceededCount() - run.getSkippedCount() - run.getFailedCount()),
+                run.getUsedTokens(), run.getCreatedBy(), run.getCreatedTime(), run.getStartedAt(), run.getFinishedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package fotcamp.finhub.admin.dto.response;
+
+import fotcamp.finhub.admin.domain.GptJob;
+import fotcamp.finhub.admin.domain.GptJobStatus;
+import fotcamp.finhub.admin.domain.GptJobType;
+
+import java.time.LocalDateTime;
+
+public record GptJobResponseDto(Long id, GptJobType type, GptJobStatus status, String answer, String rawAnswer,
+                                String errorMessage, Long gptLogId, String createdBy,
+                                LocalDateTime createdTime, LocalDateTime startedAt, LocalDateTime finishedAt) {
+
+    public GptJobResponseDto(GptJob job) {
+        this(job.getId(), job.getType(), job.getStatus(), job.getResult(), job.getRawAnswer(),
+                job.getErrorMessage(), job.getGptLogId(), job.getCreatedBy(),
+                job.getCreatedTime(), job.getStartedAt(), job.getFinishedAt());
+    }
+}
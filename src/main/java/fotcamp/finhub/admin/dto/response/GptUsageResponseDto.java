@@ -0,0 +1,21 @@
+package fotcamp.finhub.admin.dto.response;
+
+import fotcamp.finhub.admin.domain.GptUsageDaily;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// limit 이 0 이면 무제한
+public record GptUsageResponseDto(long dailyUsedTokens, long dailyLimitTokens,
+                                  long monthlyUsedTokens, long monthlyLimitTokens,
+                                  List<Row> usageList) {
+
+    public record Row(LocalDate date, String admin, String endpoint,
+                      long calls, long promptTokens, long completionTokens, long totalTokens) {
+
+        public Row(GptUsageDaily usage) {
+            this(usage.getUsageDate(), usage.getAdmin(), usage.getEndpoint(), usage.getCalls(),
+                    usage.getPromptTokens(), usage.getCompletionTokens(), usage.getTotalTokens());
+        }
+    }
+}
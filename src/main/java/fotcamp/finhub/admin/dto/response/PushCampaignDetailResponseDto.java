@@ -0,0 +1,7 @@
+package fotcamp.finhub.admin.dto.response;
+
+import java.util.Map;
+
+/** @param deliveryStatusCount 대상 발송 상태별 건수 (PENDING, SENDING, RETRY, SENT, FAILED) */
+public record PushCampaignDetailResponseDto(PushCampaignResponseDto campaign, Map<String, Long> deliveryStatusCount) {
+}
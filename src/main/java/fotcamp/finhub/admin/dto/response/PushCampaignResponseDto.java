@@ -0,0 +1,19 @@
+package fotcamp.finhub.admin.dto.response;
+
+import fotcamp.finhub.admin.domain.PushCampaign;
+import fotcamp.finhub.admin.domain.PushCampaignStatus;
+
+import java.time.LocalDateTime;
+
+public record PushCampaignResponseDto(Long id, Long type, String title, PushCampaignStatus status,
+                                      int totalCount, int sentCount, int failedCount, int remainingCount, int prunedTokenCount,
+                                      String createdBy, LocalDateTime createdTime, LocalDateTime startedAt, LocalDateTime finishedAt) {
+
+    public PushCampaignResponseDto(PushCampaign campaign) {
+        this(campaign.getId(), campaign.getType(), campaign.getTitle(), campaign.getStatus(),
+                campaign.getTotalCount(), campaign.getSentCount(), campaign.getFailedCount(),
+                Math.max(0, campaign.getTotalCount() - campaign.getSentCount() - campaign.getFailedCount()),
+                campaign.getPrunedTokenCount(),
+                campaign.getCreatedBy(), campaign.getCreatedTime(), campaign.getStartedAt(), campaign.getFinishedAt());
+    }
+}
@@ -0,0 +1,17 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.AudienceSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AudienceSegmentRepository extends JpaRepository<AudienceSegment, Long>, AudienceSegmentRepositoryCustom {
+
+    @Query("SELECT s.id FROM AudienceSegment s ORDER BY s.id")
+    List<Long> findAllIds();
+
+    List<AudienceSegment> findAllByOrderByIdDesc();
+}
@@ -0,0 +1,19 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.AudienceSegment;
+import fotcamp.finhub.admin.service.push.SegmentSourceRow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AudienceSegmentRepositoryCustom {
+
+    // 세그먼트 조건에 맞는 원천 행을 sourceId 오름차순 keyset 으로 조회
+    List<SegmentSourceRow> findSourceRowsAfter(AudienceSegment segment, long afterSourceId, int limit);
+
+    // since 이후 유저타입을 userTypeId 로 바꾼 회원
+    List<Long> findUserTypeJoinedSince(Long userTypeId, LocalDateTime since);
+
+    // since 이후 유저타입을 userTypeId 가 아닌 값(또는 없음)으로 바꾼 회원
+    List<Long> findUserTypeLeftSince(Long userTypeId, LocalDateTime since);
+}
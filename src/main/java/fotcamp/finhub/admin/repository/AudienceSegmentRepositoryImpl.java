@@ -0,0 +1,77 @@
+package fotcamp.finhub.admin.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import fotcamp.finhub.admin.domain.AudienceSegment;
+import fotcamp.finhub.admin.service.push.SegmentSourceRow;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static fotcamp.finhub.common.domain.QMember.member;
+import static fotcamp.finhub.common.domain.QMemberQuiz.memberQuiz;
+import static fotcamp.finhub.common.domain.QMemberScrap.memberScrap;
+
+@RequiredArgsConstructor
+public class AudienceSegmentRepositoryImpl implements AudienceSegmentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<SegmentSourceRow> findSourceRowsAfter(AudienceSegment segment, long afterSourceId, int limit) {
+        return switch (segment.getCriteria()) {
+            case USER_TYPE -> findMembersAfter(afterSourceId, limit, member.userType.id.eq(segment.getRefId()));
+            case SIGNUP_DATE -> findMembersAfter(afterSourceId, limit, signupBetween(segment));
+            case QUIZ_ACTIVE -> queryFactory
+                    .select(Projections.constructor(SegmentSourceRow.class, memberQuiz.id, memberQuiz.member.memberId))
+                    .from(memberQuiz)
+                    .where(memberQuiz.id.gt(afterSourceId),
+                            memberQuiz.solvedTime.goe(LocalDateTime.now().minusDays(segment.getActiveDays())))
+                    .orderBy(memberQuiz.id.asc())
+                    .limit(limit)
+                    .fetch();
+            case TOPIC_SCRAP -> queryFactory
+                    .select(Projections.constructor(SegmentSourceRow.class, memberScrap.id, memberScrap.member.memberId))
+                    .from(memberScrap)
+                    .where(memberScrap.id.gt(afterSourceId), memberScrap.topic.id.eq(segment.getRefId()))
+                    .orderBy(memberScrap.id.asc())
+                    .limit(limit)
+                    .fetch();
+        };
+    }
+
+    @Override
+    public List<Long> findUserTypeJoinedSince(Long userTypeId, LocalDateTime since) {
+        return queryFactory
+                .select(member.memberId)
+                .from(member)
+                .where(member.userTypeChangedAt.goe(since), member.userType.id.eq(userTypeId))
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findUserTypeLeftSince(Long userTypeId, LocalDateTime since) {
+        return queryFactory
+                .select(member.memberId)
+                .from(member)
+                .where(member.userTypeChangedAt.goe(since), member.userType.isNull().or(member.userType.id.ne(userTypeId)))
+                .fetch();
+    }
+
+    private List<SegmentSourceRow> findMembersAfter(long afterMemberId, int limit, BooleanExpression condition) {
+        return queryFactory
+                .select(Projections.constructor(SegmentSourceRow.class, member.memberId, member.memberId))
+                .from(member)
+                .where(member.memberId.gt(afterMemberId), condition)
+                .orderBy(member.memberId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression signupBetween(AudienceSegment segment) {
+        BooleanExpression from = member.createdAt.goe(segment.getSignupFrom().atStartOfDay());
+        return segment.getSignupTo() == null ? from : from.and(member.createdAt.lt(segment.getSignupTo().plusDays(1).atStartOfDay()));
+    }
+}
@@ -2,9 +2,7 @@ package fotcamp.finhub.admin.repository;
 
 import fotcamp.finhub.common.domain.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,11 +17,5 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     @Query("SELECT COALESCE(MAX(c.position), 0) FROM Category c")
     Long findMaxPosition();
 
-    @Modifying
-    @Query("UPDATE Category c SET c.position = :position WHERE c.id = :id")
-    void updatePosition(@Param("id") Long id, @Param("position") Long position);
-
-
-
 }
 
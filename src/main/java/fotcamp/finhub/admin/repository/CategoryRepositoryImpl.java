@@ -1,28 +1,29 @@
 package fotcamp.finhub.admin.repository;
 
-import com.querydsl.core.types.Expression;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import fotcamp.finhub.common.domain.Category;
-import lombok.RequiredArgsConstructor;
+import fotcamp.finhub.common.repository.QuerydslPagingSupport;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static fotcamp.finhub.common.domain.QCategory.category;
 
 
-@RequiredArgsConstructor
-public class CategoryRepositoryImpl implements CategoryRepositoryCustom{
+public class CategoryRepositoryImpl extends QuerydslPagingSupport<Category> implements CategoryRepositoryCustom {
 
-    private final JPAQueryFactory queryFactory;
+    public CategoryRepositoryImpl(JPAQueryFactory queryFactory) {
+        super(queryFactory, category, "id", "position");
+    }
 
     // 기존 메서드
     @Override
@@ -36,32 +37,7 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom{
     // 페이징 처리를 위한 메서드 구현
     @Override
     public Page<Category> searchAllCategoryFilterList(Pageable pageable, String useYN) {
-        // 데이터 목록 조회
-        List<Category> categories = queryFactory
-                .selectFrom(category)
-                .where(useYNEq(useYN))
-                .orderBy(getOrderSpecifiers(pageable.getSort())) // 정렬 조건 적용
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .stream().toList();
-
-        long total = queryFactory
-                .selectFrom(category)
-                .where(useYNEq(useYN))
-                .stream().count();
-
-        return new PageImpl<>(categories, pageable, total);
-    }
-
-    // Pageable의 Sort 객체를 이용해 Querydsl의 OrderSpecifier 배열로 변환
-    private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
-        return sort.stream()
-                .map(order -> {
-                    PathBuilder<Category> entityPath = new PathBuilder<>(Category.class, "category");
-                    Expression<?> expression = entityPath.get(order.getProperty());
-                    return new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, expression);
-                })
-                .toArray(OrderSpecifier[]::new);
+        return fetchPage(pageable, useYNEq(useYN));
     }
 
     private BooleanExpression useYNEq(String useYN) {
@@ -75,4 +51,30 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom{
         }
         return null; // useYN이 null이거나 비어있는 경우 모든 카테고리를 반환
     }
+
+    @Override
+    public Map<Long, Long> findPositions(Collection<Long> ids) {
+        Map<Long, Long> positions = new HashMap<>();
+        for (Tuple row : queryFactory.select(category.id, category.position).from(category).where(category.id.in(ids)).fetch()) {
+            positions.put(row.get(category.id), row.get(category.position));
+        }
+        return positions;
+    }
+
+    @Override
+    public long updatePositions(Map<Long, Long> positions) {
+        CaseBuilder.Cases<Long, NumberExpression<Long>> cases = null;
+        for (Map.Entry<Long, Long> position : positions.entrySet()) {
+            cases = cases == null
+                    ? new CaseBuilder().when(category.id.eq(position.getKey())).then(position.getValue())
+                    : cases.when(category.id.eq(position.getKey())).then(position.getValue());
+        }
+        if (cases == null) {
+            return 0;
+        }
+        return queryFactory.update(category)
+                .set(category.position, cases.otherwise(category.position))
+                .where(category.id.in(positions.keySet()))
+                .execute();
+    }
 }
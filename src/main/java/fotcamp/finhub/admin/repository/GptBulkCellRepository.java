@@ -0,0 +1,50 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.GptBulkCell;
+import fotcamp.finhub.admin.domain.GptBulkCellStatus;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GptBulkCellRepository extends JpaRepository<GptBulkCell, Long>, GptBulkCellRepositoryCustom {
+
+    @Query("SELECT c.id FROM GptBulkCell c " +
+            "WHERE c.runId = :runId AND c.status IN :statuses AND c.nextAttemptAt <= :now ORDER BY c.id")
+    List<Long> findDueIds(@Param("runId") Long runId, @Param("statuses") Collection<GptBulkCellStatus> statuses,
+                          @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 다른 노드가 먼저 점유한 행은 조건에서 빠지므로, 실제로 점유한 행은 claimToken 으로 다시 조회한다
+    @Modifying
+    @Query("UPDATE GptBulkCell c SET c.status = :running, c.claimToken = :claimToken, c.nextAttemptAt = :leaseUntil " +
+            "WHERE c.id IN :ids AND c.status IN :statuses AND c.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids, @Param("statuses") Collection<GptBulkCellStatus> statuses,
+              @Param("running") GptBulkCellStatus running, @Param("claimToken") String claimToken,
+              @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    List<GptBulkCell> findByClaimToken(String claimToken);
+
+    // 결과 반영용 : 아직 이 노드가 점유 중인 셀만 잠가서 조회한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM GptBulkCell c WHERE c.claimToken = :claimToken AND c.status = :running")
+    List<GptBulkCell> findClaimedForUpdate(@Param("claimToken") String claimToken, @Param("running") GptBulkCellStatus running);
+
+    long countByRunIdAndStatusIn(Long runId, Collection<GptBulkCellStatus> statuses);
+
+    @Query("SELECT c.status, COUNT(c) FROM GptBulkCell c WHERE c.runId = :runId GROUP BY c.status")
+    List<Object[]> countByStatus(@Param("runId") Long runId);
+
+    @Modifying
+    @Query("UPDATE GptBulkCell c SET c.status = :failed, c.lastError = 'CANCELED' WHERE c.runId = :runId AND c.status IN :statuses")
+    int cancelUnfinished(@Param("runId") Long runId, @Param("statuses") Collection<GptBulkCellStatus> statuses,
+                         @Param("failed") GptBulkCellStatus failed);
+}
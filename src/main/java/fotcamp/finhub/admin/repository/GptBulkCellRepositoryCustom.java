@@ -0,0 +1,11 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.GptBulkCell;
+
+import java.util.List;
+
+public interface GptBulkCellRepositoryCustom {
+
+    // 일괄 생성 대상 셀 적재 (JDBC batch)
+    void bulkInsert(List<GptBulkCell> cells);
+}
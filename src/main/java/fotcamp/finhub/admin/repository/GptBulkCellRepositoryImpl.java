@@ -0,0 +1,35 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.GptBulkCell;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+// IDENTITY 전략 엔티티라 saveAll 은 행마다 insert 하므로 JdbcTemplate batch 로 저장
+@RequiredArgsConstructor
+public class GptBulkCellRepositoryImpl implements GptBulkCellRepositoryCustom {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String INSERT_SQL = "INSERT INTO gpt_bulk_cell " +
+            "(run_id, category_id, topic_id, usertype_id, status, attempts, next_attempt_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void bulkInsert(List<GptBulkCell> cells) {
+        if (cells.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, cells, BATCH_SIZE, (ps, cell) -> {
+            ps.setLong(1, cell.getRunId());
+            ps.setLong(2, cell.getCategoryId());
+            ps.setLong(3, cell.getTopicId());
+            ps.setLong(4, cell.getUsertypeId());
+            ps.setString(5, cell.getStatus().name());
+            ps.setInt(6, cell.getAttempts());
+            ps.setTimestamp(7, Timestamp.valueOf(cell.getNextAttemptAt()));
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.GptBulkRun;
+import fotcamp.finhub.admin.domain.GptBulkRunStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GptBulkRunRepository extends JpaRepository<GptBulkRun, Long> {
+
+    @Query("SELECT r.id FROM GptBulkRun r WHERE r.status IN :statuses ORDER BY r.id")
+    List<Long> findIdsByStatusIn(@Param("statuses") Collection<GptBulkRunStatus> statuses);
+
+    Page<GptBulkRun> findAllByOrderByIdDesc(Pageable pageable);
+
+    // 대상 범위(카테고리, 유저타입. null 은 전체)가 겹치는 끝나지 않은 일괄 생성
+    @Query("SELECT r.id FROM GptBulkRun r WHERE r.status IN :statuses " +
+            "AND (:categoryId IS NULL OR r.categoryId IS NULL OR r.categoryId = :categoryId) " +
+            "AND (:usertypeId IS NULL OR r.usertypeId IS NULL OR r.usertypeId = :usertypeId) ORDER BY r.id")
+    List<Long> findOverlappingIds(@Param("statuses") Collection<GptBulkRunStatus> statuses,
+                                  @Param("categoryId") Long categoryId, @Param("usertypeId") Long usertypeId);
+
+    @Modifying
+    @Query("UPDATE GptBulkRun r SET r.succeededCount = r.succeededCount + :succeeded, r.skippedCount = r.skippedCount + :skipped, " +
+            "r.failedCount = r.failedCount + :failed, r.usedTokens = r.usedTokens + :tokens WHERE r.id = :id")
+    int addProgress(@Param("id") Long id, @Param("succeeded") int succeeded, @Param("skipped") int skipped,
+                    @Param("failed") int failed, @Param("tokens") long tokens);
+}
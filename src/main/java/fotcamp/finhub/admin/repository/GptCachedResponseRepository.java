@@ -0,0 +1,21 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.GptCachedResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface GptCachedResponseRepository extends JpaRepository<GptCachedResponse, Long> {
+
+    Optional<GptCachedResponse> findByCacheKey(String cacheKey);
+
+    @Modifying
+    @Query("UPDATE GptCachedResponse c SET c.hitCount = c.hitCount + 1, c.lastHitAt = :now WHERE c.id = :id")
+    int recordHit(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
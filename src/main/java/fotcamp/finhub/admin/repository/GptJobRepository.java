@@ -0,0 +1,35 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.GptJob;
+import fotcamp.finhub.admin.domain.GptJobStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface GptJobRepository extends JpaRepository<GptJob, Long> {
+
+    Page<GptJob> findAllByOrderByIdDesc(Pageable pageable);
+
+    // 소유 노드가 살아있음을 알린다
+    @Modifying
+    @Query("UPDATE GptJob j SET j.heartbeatAt = :now WHERE j.ownerNode = :ownerNode AND j.status IN :statuses")
+    int touchOwned(@Param("ownerNode") String ownerNode, @Param("statuses") Collection<GptJobStatus> statuses, @Param("now") LocalDateTime now);
+
+    // 소유 노드의 heartbeat 가 끊긴 작업(노드 종료)과 너무 오래 실행 중인 작업 정리.
+    // heartbeat 도입 이전 행은 생성 시각을 기준으로 본다
+    @Modifying
+    @Query("UPDATE GptJob j SET j.status = :failed, j.errorMessage = :reason, j.finishedAt = :now " +
+            "WHERE j.status IN :unfinished AND (COALESCE(j.heartbeatAt, j.createdTime) < :heartbeatCutoff " +
+            "OR (j.status = :running AND j.startedAt < :runningCutoff))")
+    int failStale(@Param("unfinished") Collection<GptJobStatus> unfinished, @Param("heartbeatCutoff") LocalDateTime heartbeatCutoff,
+                  @Param("running") GptJobStatus running, @Param("runningCutoff") LocalDateTime runningCutoff,
+                  @Param("failed") GptJobStatus failed, @Param("reason") String reason, @Param("now") LocalDateTime now);
+}
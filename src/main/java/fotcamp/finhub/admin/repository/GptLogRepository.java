@@ -1,9 +1,34 @@
 package fotcamp.finhub.admin.repository;
 
 import fotcamp.finhub.admin.domain.GptLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface GptLogRepository extends JpaRepository<GptLog, Long> {
+
+    @Query("SELECT MIN(g.id) FROM GptLog g WHERE g.createdTime < :cutoff")
+    Long findMinIdCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 보관 구간 [from, to) 의 로그
+    @Query("SELECT g.id FROM GptLog g WHERE g.id >= :from AND g.id < :to ORDER BY g.id")
+    List<Long> findIdsBetween(@Param("from") long from, @Param("to") long to);
+
+    boolean existsByIdGreaterThanEqual(Long id);
+
+    // 압축 저장 이전에 쌓인 평문 로그
+    @Query("SELECT g.id FROM GptLog g WHERE g.legacyQuestion IS NOT NULL OR g.legacyAnswer IS NOT NULL ORDER BY g.id")
+    List<Long> findUncompressedIds(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM GptLog g WHERE g.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
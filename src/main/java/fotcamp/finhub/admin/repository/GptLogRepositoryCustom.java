@@ -1,6 +1,7 @@
 package fotcamp.finhub.admin.repository;
 
 import fotcamp.finhub.admin.domain.GptLog;
+import fotcamp.finhub.admin.dto.process.GptLogProcessDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -10,6 +11,6 @@ public interface GptLogRepositoryCustom {
     // 기존 메서드
     List<GptLog> searchAllGptLogFilterList(Long topicId, Long usertypeId);
 
-    // 페이징 처리를 위한 메서드 추가
-    Page<GptLog> searchAllGptLogFilterList(Pageable pageable, Long topicId, Long usertypeId);
+    // 목록 페이징 (메타데이터 컬럼만 조회, 카테고리/토픽/유저타입이 삭제된 로그는 제외)
+    Page<GptLogProcessDto> searchAllGptLogFilterList(Pageable pageable, Long topicId, Long usertypeId);
 }
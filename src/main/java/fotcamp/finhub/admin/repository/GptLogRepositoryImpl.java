@@ -1,26 +1,27 @@
 package fotcamp.finhub.admin.repository;
 
-import com.querydsl.core.types.Expression;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import fotcamp.finhub.admin.domain.GptLog;
-import lombok.RequiredArgsConstructor;
+import fotcamp.finhub.admin.dto.process.GptLogProcessDto;
+import fotcamp.finhub.common.repository.QuerydslPagingSupport;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 import static fotcamp.finhub.admin.domain.QGptLog.gptLog;
 import static fotcamp.finhub.common.domain.QCategory.category;
+import static fotcamp.finhub.common.domain.QTopic.topic;
+import static fotcamp.finhub.common.domain.QUserType.userType;
 
-@RequiredArgsConstructor
-public class GptLogRepositoryImpl implements GptLogRepositoryCustom{
+public class GptLogRepositoryImpl extends QuerydslPagingSupport<GptLog> implements GptLogRepositoryCustom {
 
-    private final JPAQueryFactory queryFactory;
+    public GptLogRepositoryImpl(JPAQueryFactory queryFactory) {
+        super(queryFactory, gptLog, "id", "createdTime");
+    }
 
     // 기존 메서드
     @Override
@@ -31,35 +32,27 @@ public class GptLogRepositoryImpl implements GptLogRepositoryCustom{
                 .fetch();
     }
 
-    // 페이징 처리를 위한 메서드 구현
+    // 본문(압축 blob) 은 읽지 않고, 이름은 행마다 조회하지 않고 join 으로 가져온다
     @Override
-    public Page<GptLog> searchAllGptLogFilterList(Pageable pageable, Long topicId, Long usertypeId) {
-        // 데이터 목록 조회
-        List<GptLog> gptLogs = queryFactory
-                .selectFrom(gptLog)
-                .where(topicEq(topicId), usertypeEq(usertypeId))
-                .orderBy(getOrderSpecifiers(pageable.getSort())) // 정렬 조건 적용
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .stream().toList();
-
-        long total = queryFactory
-                .selectFrom(gptLog)
-                .where(topicEq(topicId), usertypeEq(usertypeId))
-                .stream().count();
-
-        return new PageImpl<>(gptLogs, pageable, total);
+    public Page<GptLogProcessDto> searchAllGptLogFilterList(Pageable pageable, Long topicId, Long usertypeId) {
+        JPAQuery<GptLogProcessDto> contentQuery = withNames(queryFactory
+                .select(Projections.constructor(GptLogProcessDto.class,
+                        gptLog.id, category.name, topic.title, userType.name,
+                        gptLog.createdTime, gptLog.createdBy, gptLog.totalTokens))
+                .from(gptLog))
+                .where(topicEq(topicId), usertypeEq(usertypeId));
+        JPAQuery<Long> countQuery = withNames(queryFactory
+                .select(gptLog.count())
+                .from(gptLog))
+                .where(topicEq(topicId), usertypeEq(usertypeId));
+        return fetchPage(pageable, contentQuery, countQuery);
     }
 
-    // Pageable의 Sort 객체를 이용해 Querydsl의 OrderSpecifier 배열로 변환
-    private com.querydsl.core.types.OrderSpecifier<?>[] getOrderSpecifiers(org.springframework.data.domain.Sort sort) {
-        return sort.stream()
-                .map(order -> {
-                    PathBuilder<GptLog> entityPath = new PathBuilder<>(GptLog.class, "gptLog");
-                    Expression<?> expression = entityPath.get(order.getProperty());
-                    return new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, expression);
-                })
-                .toArray(OrderSpecifier[]::new);
+    private <R> JPAQuery<R> withNames(JPAQuery<R> query) {
+        return query
+                .join(category).on(category.id.eq(gptLog.categoryId))
+                .join(topic).on(topic.id.eq(gptLog.topicId))
+                .join(userType).on(userType.id.eq(gptLog.usertypeId));
     }
 
     private BooleanExpression topicEq(Long id) {
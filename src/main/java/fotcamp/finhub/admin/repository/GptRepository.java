@@ -1,5 +1,6 @@
 package fotcamp.finhub.admin.repository;
 
+import fotcamp.finhub.admin.service.gpt.GptMatrixCell;
 import fotcamp.finhub.common.domain.Gpt;
 import fotcamp.finhub.common.domain.Topic;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface GptRepository extends JpaRepository<Gpt, Long> {
@@ -19,4 +21,14 @@ public interface GptRepository extends JpaRepository<Gpt, Long> {
 
     @Query("SELECT COUNT(g) FROM Gpt g WHERE g.topic.id = :topicId")
     Long countGptListById(@Param("topicId") Long id);
+
+    boolean existsByTopicIdAndUserTypeId(Long topicId, Long userTypeId);
+
+    Optional<Gpt> findByTopicIdAndUserTypeId(Long topicId, Long userTypeId);
+
+    // 카테고리에 속한 토픽 x 유저타입 중 Gpt 내용이 없는 조합 (null 조건은 전체)
+    @Query("SELECT new fotcamp.finhub.admin.service.gpt.GptMatrixCell(t.category.id, t.id, u.id) FROM Topic t, UserType u " +
+            "WHERE t.category IS NOT NULL AND (:categoryId IS NULL OR t.category.id = :categoryId) AND (:usertypeId IS NULL OR u.id = :usertypeId) " +
+            "AND NOT EXISTS (SELECT g.id FROM Gpt g WHERE g.topic = t AND g.userType = u) ORDER BY t.id, u.id")
+    List<GptMatrixCell> findMissingCells(@Param("categoryId") Long categoryId, @Param("usertypeId") Long usertypeId);
 }
@@ -0,0 +1,19 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.GptUsageDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface GptUsageDailyRepository extends JpaRepository<GptUsageDaily, Long>, GptUsageDailyRepositoryCustom {
+
+    @Query("SELECT COALESCE(SUM(u.totalTokens), 0) FROM GptUsageDaily u WHERE u.usageDate BETWEEN :from AND :to")
+    long sumTotalTokens(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    List<GptUsageDaily> findByUsageDateBetweenOrderByUsageDateDescAdminAscEndpointAsc(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,11 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.service.gpt.GptUsageDelta;
+
+import java.util.Collection;
+
+public interface GptUsageDailyRepositoryCustom {
+
+    // 일자/관리자/호출 경로별 사용량 누적 (upsert, JDBC batch)
+    void addUsage(Collection<GptUsageDelta> deltas);
+}
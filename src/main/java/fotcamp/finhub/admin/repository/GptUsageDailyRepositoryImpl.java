@@ -0,0 +1,37 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.service.gpt.GptUsageDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.Collection;
+
+// MariaDB upsert(ON DUPLICATE KEY UPDATE)로 행 생성과 누적을 한 번에 처리
+@RequiredArgsConstructor
+public class GptUsageDailyRepositoryImpl implements GptUsageDailyRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String UPSERT_SQL = "INSERT INTO gpt_usage_daily " +
+            "(usage_date, admin, endpoint, calls, prompt_tokens, completion_tokens, total_tokens) VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE calls = calls + VALUES(calls), prompt_tokens = prompt_tokens + VALUES(prompt_tokens), " +
+            "completion_tokens = completion_tokens + VALUES(completion_tokens), total_tokens = total_tokens + VALUES(total_tokens)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addUsage(Collection<GptUsageDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, BATCH_SIZE, (ps, delta) -> {
+            ps.setDate(1, Date.valueOf(delta.usageDate()));
+            ps.setString(2, delta.admin());
+            ps.setString(3, delta.endpoint());
+            ps.setLong(4, delta.calls());
+            ps.setLong(5, delta.promptTokens());
+            ps.setLong(6, delta.completionTokens());
+            ps.setLong(7, delta.totalTokens());
+        });
+    }
+}
@@ -1,17 +1,57 @@
 package fotcamp.finhub.admin.repository;
 
-import fotcamp.finhub.admin.domain.Manager;
 import fotcamp.finhub.admin.domain.ManagerRefreshToken;
-import fotcamp.finhub.common.domain.Member;
-import fotcamp.finhub.common.domain.RefreshToken;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 
 @Repository
-public interface ManagerRefreshRepository extends JpaRepository<ManagerRefreshToken, String> {
+public interface ManagerRefreshRepository extends JpaRepository<ManagerRefreshToken, Long> {
 
-    Optional<ManagerRefreshToken> findByEmail(String email);
+    // (email, device_id) 유니크 키 기준 upsert. ON DUPLICATE KEY UPDATE 는 MariaDB/MySQL 전용 문법이다
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO manager_refresh_token (email, device_id, refresh_token, expires_at) VALUES (:email, :deviceId, :token, :expiresAt) " +
+            "ON DUPLICATE KEY UPDATE refresh_token = VALUES(refresh_token), expires_at = VALUES(expires_at)", nativeQuery = true)
+    int upsert(@Param("email") String email, @Param("deviceId") String deviceId,
+               @Param("token") String token, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 관리자의 해당 기기 토큰이 oldToken 이고 유효할 때만 교체하고 직전 토큰과 교체 시각을 남긴다 (previousToken 을 먼저 대입)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ManagerRefreshToken r SET r.previousToken = r.refreshToken, r.rotatedAt = :now, r.refreshToken = :newToken, r.expiresAt = :expiresAt " +
+            "WHERE r.email = :email AND r.deviceId = :deviceId AND r.refreshToken = :oldToken " +
+            "AND (r.expiresAt IS NULL OR r.expiresAt > :now)")
+    int rotate(@Param("email") String email, @Param("deviceId") String deviceId, @Param("oldToken") String oldToken,
+               @Param("newToken") String newToken, @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ManagerRefreshToken r WHERE r.email = :email AND r.previousToken = :token")
+    List<ManagerRefreshToken> findRotatedFromForUpdate(@Param("email") String email, @Param("token") String token);
+
+    @Query("SELECT COUNT(r) > 0 FROM ManagerRefreshToken r WHERE r.refreshToken = :token AND (r.expiresAt IS NULL OR r.expiresAt > :now)")
+    boolean existsActiveToken(@Param("token") String token, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM ManagerRefreshToken r WHERE r.refreshToken = :token")
+    int deleteByToken(@Param("token") String token);
+
+    @Modifying
+    @Query("DELETE FROM ManagerRefreshToken r WHERE r.email = :email")
+    int deleteAllByEmail(@Param("email") String email);
+
+    @Modifying
+    @Query("DELETE FROM ManagerRefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ManagerRefreshToken r SET r.deviceId = CONCAT('legacy-', CAST(r.id AS String)), r.expiresAt = :expiresAt " +
+            "WHERE r.deviceId IS NULL OR r.expiresAt IS NULL")
+    int backfillLegacy(@Param("expiresAt") LocalDateTime expiresAt);
 }
@@ -2,10 +2,12 @@ package fotcamp.finhub.admin.repository;
 
 import fotcamp.finhub.admin.domain.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +18,8 @@ public interface ManagerRepository extends JpaRepository<Manager, Long> {
 
     @Query("SELECT m FROM Manager m WHERE m.email IN :emails")
     List<Manager> findByPushYnAndEmails(@Param("emails") List<String> emails);
+
+    @Modifying
+    @Query("UPDATE Manager m SET m.fcmToken = NULL WHERE m.fcmToken IN :tokens")
+    int clearFcmTokens(@Param("tokens") Collection<String> tokens);
 }
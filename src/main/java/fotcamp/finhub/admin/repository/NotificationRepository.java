@@ -2,9 +2,28 @@ package fotcamp.finhub.admin.repository;
 
 
 import fotcamp.finhub.common.domain.Notification;
+import fotcamp.finhub.main.dto.process.AlarmDetailProcessDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 회원에게 보이는 BROADCAST 알림 + 읽음 기록. 정렬/커서 조건은 MemberNotificationRepository.findNotificationsForMember 와 동일
+    @Query("SELECT new fotcamp.finhub.main.dto.process.AlarmDetailProcessDto(n.id, n.title, n.message, n.url, n.sentAt, mn.receivedAt) " +
+            "FROM Notification n LEFT JOIN MemberNotification mn ON mn.notification = n AND mn.member.memberId = :memberId " +
+            "WHERE n.audience = fotcamp.finhub.common.domain.NotificationAudience.BROADCAST " +
+            "AND n.audienceMaxMemberId >= :memberId " +
+            "AND (n.id < :cursorId OR (mn.receivedAt IS NOT NULL AND n.id >= :cursorId)) " +
+            "ORDER BY (CASE WHEN mn.receivedAt IS NULL THEN 0 ELSE 1 END), n.sentAt DESC, n.id DESC")
+    List<AlarmDetailProcessDto> findBroadcastsForMember(@Param("memberId") Long memberId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM Notification n " +
+            "WHERE n.audience = fotcamp.finhub.common.domain.NotificationAudience.BROADCAST AND n.audienceMaxMemberId >= :memberId")
+    long countBroadcastsVisibleTo(@Param("memberId") Long memberId);
 }
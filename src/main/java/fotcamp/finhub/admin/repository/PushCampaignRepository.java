@@ -0,0 +1,40 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.PushCampaign;
+import fotcamp.finhub.admin.domain.PushCampaignStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PushCampaignRepository extends JpaRepository<PushCampaign, Long> {
+
+    @Query("SELECT c.id FROM PushCampaign c WHERE c.status IN :statuses ORDER BY c.id")
+    List<Long> findIdsByStatusIn(@Param("statuses") Collection<PushCampaignStatus> statuses);
+
+    Page<PushCampaign> findAllByOrderByIdDesc(Pageable pageable);
+
+    // 적재 중 점검/실패 처리가 겹치지 않도록 캠페인 행을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM PushCampaign c WHERE c.id = :id")
+    Optional<PushCampaign> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT c.id FROM PushCampaign c WHERE c.status = :status AND c.createdTime < :before ORDER BY c.id")
+    List<Long> findIdsByStatusAndCreatedBefore(@Param("status") PushCampaignStatus status, @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("UPDATE PushCampaign c SET c.sentCount = c.sentCount + :sent, c.failedCount = c.failedCount + :failed, " +
+            "c.prunedTokenCount = c.prunedTokenCount + :pruned WHERE c.id = :id")
+    int addProgress(@Param("id") Long id, @Param("sent") int sent, @Param("failed") int failed, @Param("pruned") int pruned);
+}
@@ -0,0 +1,55 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.PushDelivery;
+import fotcamp.finhub.admin.domain.PushDeliveryStatus;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PushDeliveryRepository extends JpaRepository<PushDelivery, Long>, PushDeliveryRepositoryCustom {
+
+    @Query("SELECT d.id FROM PushDelivery d " +
+            "WHERE d.campaignId = :campaignId AND d.status IN :statuses AND d.nextAttemptAt <= :now ORDER BY d.id")
+    List<Long> findDueIds(@Param("campaignId") Long campaignId, @Param("statuses") Collection<PushDeliveryStatus> statuses,
+                          @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 다른 노드가 먼저 점유한 행은 조건에서 빠지므로, 실제로 점유한 행은 claimToken 으로 다시 조회한다
+    @Modifying
+    @Query("UPDATE PushDelivery d SET d.status = :sending, d.claimToken = :claimToken, d.nextAttemptAt = :leaseUntil " +
+            "WHERE d.id IN :ids AND d.status IN :statuses AND d.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids, @Param("statuses") Collection<PushDeliveryStatus> statuses,
+              @Param("sending") PushDeliveryStatus sending, @Param("claimToken") String claimToken,
+              @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    List<PushDelivery> findByClaimToken(String claimToken);
+
+    // 결과 반영용 : 아직 이 노드가 점유 중인 행만 잠가서 조회한다.
+    // lease 가 끝나 다른 노드가 다시 점유한 행은 claimToken 이 바뀌어 빠지고, 잠금 동안에는 재점유 UPDATE 가 대기한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM PushDelivery d WHERE d.claimToken = :claimToken AND d.status = :sending")
+    List<PushDelivery> findClaimedForUpdate(@Param("claimToken") String claimToken, @Param("sending") PushDeliveryStatus sending);
+
+    long countByCampaignIdAndStatusIn(Long campaignId, Collection<PushDeliveryStatus> statuses);
+
+    @Query("SELECT d.status, COUNT(d) FROM PushDelivery d WHERE d.campaignId = :campaignId GROUP BY d.status")
+    List<Object[]> countByStatus(@Param("campaignId") Long campaignId);
+
+    @Modifying
+    @Query("DELETE FROM PushDelivery d WHERE d.campaignId = :campaignId")
+    int deleteByCampaignId(@Param("campaignId") Long campaignId);
+
+    @Modifying
+    @Query("UPDATE PushDelivery d SET d.status = :failed, d.lastError = 'CANCELED' WHERE d.campaignId = :campaignId AND d.status IN :statuses")
+    int cancelUnfinished(@Param("campaignId") Long campaignId, @Param("statuses") Collection<PushDeliveryStatus> statuses,
+                         @Param("failed") PushDeliveryStatus failed);
+}
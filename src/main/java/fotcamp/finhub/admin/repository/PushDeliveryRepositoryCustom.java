@@ -0,0 +1,11 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.PushDelivery;
+
+import java.util.List;
+
+public interface PushDeliveryRepositoryCustom {
+
+    // 캠페인 발송 대상 일괄 적재 (JDBC batch)
+    void bulkInsert(List<PushDelivery> deliveries);
+}
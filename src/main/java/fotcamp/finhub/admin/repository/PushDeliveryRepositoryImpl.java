@@ -0,0 +1,40 @@
+package fotcamp.finhub.admin.repository;
+
+import fotcamp.finhub.admin.domain.PushDelivery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+// IDENTITY 전략 엔티티라 saveAll 은 행마다 insert 하므로 JdbcTemplate batch 로 저장
+@RequiredArgsConstructor
+public class PushDeliveryRepositoryImpl implements PushDeliveryRepositoryCustom {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String INSERT_SQL = "INSERT INTO push_delivery " +
+            "(campaign_id, member_id, name, fcm_token, status, attempts, next_attempt_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void bulkInsert(List<PushDelivery> deliveries) {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, deliveries, BATCH_SIZE, (ps, delivery) -> {
+            ps.setLong(1, delivery.getCampaignId());
+            if (delivery.getMemberId() != null) {
+                ps.setLong(2, delivery.getMemberId());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setString(3, delivery.getName());
+            ps.setString(4, delivery.getFcmToken());
+            ps.setString(5, delivery.getStatus().name());
+            ps.setInt(6, delivery.getAttempts());
+            ps.setTimestamp(7, Timestamp.valueOf(delivery.getNextAttemptAt()));
+        });
+    }
+}
@@ -5,7 +5,6 @@ import fotcamp.finhub.common.domain.Topic;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -33,9 +32,6 @@ public interface TopicRepository extends JpaRepository<Topic, Long> {
     @Query("SELECT COUNT(t) FROM Topic t WHERE t.category.id = :categoryId")
     long countTopicsById(@Param("categoryId") Long id);
 
-    @Modifying
-    @Query("UPDATE Topic t SET t.position = :position WHERE t.id = :id")
-    void updatePosition(@Param("id") Long id, @Param("position") Long position);
 
     @Query("SELECT COALESCE(MAX(t.position), 0) FROM Topic t")
     Long findMaxPosition();
@@ -5,7 +5,9 @@ import fotcamp.finhub.common.domain.Topic;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface TopicRepositoryCustom {
     // 기존 메서드
@@ -13,4 +15,10 @@ public interface TopicRepositoryCustom {
 
     // 페이징 처리를 위한 메서드 추가
     Page<Topic> searchAllTopicFilterList(Pageable pageable, Long id, String useYN);
+
+    // id -> 현재 순서 (없는 id 는 빠진다)
+    Map<Long, Long> findPositions(Collection<Long> ids);
+
+    // 순서 일괄 변경 (CASE 문 UPDATE 한 번)
+    long updatePositions(Map<Long, Long> positions);
 }
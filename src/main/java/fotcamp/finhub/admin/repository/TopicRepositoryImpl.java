@@ -1,29 +1,30 @@
 package fotcamp.finhub.admin.repository;
 
-import com.querydsl.core.types.Expression;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import fotcamp.finhub.common.domain.Category;
 import fotcamp.finhub.common.domain.Topic;
-import lombok.RequiredArgsConstructor;
+import fotcamp.finhub.common.repository.QuerydslPagingSupport;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static fotcamp.finhub.common.domain.QCategory.category;
 import static fotcamp.finhub.common.domain.QTopic.topic;
 
-@RequiredArgsConstructor
-public class TopicRepositoryImpl implements TopicRepositoryCustom{
+public class TopicRepositoryImpl extends QuerydslPagingSupport<Topic> implements TopicRepositoryCustom {
 
-    private final JPAQueryFactory queryFactory;
+    public TopicRepositoryImpl(JPAQueryFactory queryFactory) {
+        super(queryFactory, topic, "id", "position", "createdTime");
+    }
 
     // 기존 메서드
     @Override
@@ -38,34 +39,13 @@ public class TopicRepositoryImpl implements TopicRepositoryCustom{
     // 페이징 처리를 위한 메서드 구현
     @Override
     public Page<Topic> searchAllTopicFilterList(Pageable pageable, Long id, String useYN) {
-        // 데이터 목록 조회
-        List<Topic> topics = queryFactory
-                .selectFrom(topic)
-                .join(topic.category, category).fetchJoin()
-                .where(categoryEq(id), useYNEq(useYN))
-                .orderBy(getOrderSpecifiers(pageable.getSort())) // 정렬 조건 적용
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .stream().toList();
-
-        long total = queryFactory
-                .selectFrom(topic)
-                .join(topic.category, category).fetchJoin()
-                .where(categoryEq(id), useYNEq(useYN))
-                .stream().count();
-
-        return new PageImpl<>(topics, pageable, total);
-    }
-
-    // Pageable의 Sort 객체를 이용해 Querydsl의 OrderSpecifier 배열로 변환
-    private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
-        return sort.stream()
-                .map(order -> {
-                    PathBuilder<Topic> entityPath = new PathBuilder<>(Topic.class, "topic");
-                    Expression<?> expression = entityPath.get(order.getProperty());
-                    return new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, expression);
-                })
-                .toArray(OrderSpecifier[]::new);
+        // 목록만 category fetch join, count 는 조인 없이
+        return fetchPage(pageable,
+                queryFactory
+                        .selectFrom(topic)
+                        .join(topic.category, category).fetchJoin()
+                        .where(categoryEq(id), useYNEq(useYN)),
+                countQuery(categoryEq(id), useYNEq(useYN)));
     }
 
     private BooleanExpression categoryEq(Long id) {
@@ -86,4 +66,30 @@ public class TopicRepositoryImpl implements TopicRepositoryCustom{
         }
         return null; // useYN이 null이거나 비어있는 경우 모든 카테고리를 반환
     }
+
+    @Override
+    public Map<Long, Long> findPositions(Collection<Long> ids) {
+        Map<Long, Long> positions = new HashMap<>();
+        for (Tuple row : queryFactory.select(topic.id, topic.position).from(topic).where(topic.id.in(ids)).fetch()) {
+            positions.put(row.get(topic.id), row.get(topic.position));
+        }
+        return positions;
+    }
+
+    @Override
+    public long updatePositions(Map<Long, Long> positions) {
+        CaseBuilder.Cases<Long, NumberExpression<Long>> cases = null;
+        for (Map.Entry<Long, Long> position : positions.entrySet()) {
+            cases = cases == null
+                    ? new CaseBuilder().when(topic.id.eq(position.getKey())).then(position.getValue())
+                    : cases.when(topic.id.eq(position.getKey())).then(position.getValue());
+        }
+        if (cases == null) {
+            return 0;
+        }
+        return queryFactory.update(topic)
+                .set(topic.position, cases.otherwise(topic.position))
+                .where(topic.id.in(positions.keySet()))
+                .execute();
+    }
 }
@@ -1,22 +1,31 @@
 package fotcamp.finhub.admin.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import fotcamp.finhub.admin.domain.GptJobType;
 import fotcamp.finhub.admin.domain.GptLog;
 import fotcamp.finhub.admin.domain.GptPrompt;
 import fotcamp.finhub.admin.domain.Manager;
-import fotcamp.finhub.admin.domain.ManagerRefreshToken;
 import fotcamp.finhub.admin.dto.process.*;
 import fotcamp.finhub.admin.dto.request.*;
 import fotcamp.finhub.admin.dto.response.*;
 import fotcamp.finhub.admin.repository.*;
+import fotcamp.finhub.admin.service.gpt.GptAnswer;
+import fotcamp.finhub.admin.service.gpt.GptAnswerParser;
+import fotcamp.finhub.admin.service.gpt.GptPromptBuilder;
+import fotcamp.finhub.admin.service.gpt.GptPromptRequest;
 import fotcamp.finhub.admin.service.gpt.GptService;
+import fotcamp.finhub.admin.service.gpt.GptUsageTag;
+import fotcamp.finhub.admin.service.push.PushCampaignService;
 import fotcamp.finhub.common.api.ApiResponseWrapper;
 import fotcamp.finhub.common.domain.*;
 import fotcamp.finhub.common.dto.process.PageInfoProcessDto;
+import fotcamp.finhub.common.exception.ExternalServiceUnavailableException;
+import fotcamp.finhub.common.exception.GptBudgetExceededException;
 import fotcamp.finhub.common.security.CustomUserDetails;
 import fotcamp.finhub.common.security.TokenDto;
 import fotcamp.finhub.common.service.AwsS3Service;
 import fotcamp.finhub.common.service.CommonService;
+import fotcamp.finhub.common.service.RefreshTokenStore;
 import fotcamp.finhub.common.utils.DateUtil;
 import fotcamp.finhub.common.utils.JwtUtil;
 import fotcamp.finhub.main.dto.process.AnnouncementProcessDto;
@@ -33,7 +42,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.domain.Page;
@@ -43,6 +51,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.NoSuchFileException;
@@ -66,13 +75,14 @@ public class AdminService {
     private final UserTypeRepositoryCustom userTypeRepositoryCustom;
     private final TopicRepositoryCustom topicRepositoryCustom;
     private final GptService gptService;
+    private final GptPromptBuilder gptPromptBuilder;
     private final GptLogRepository gptLogRepository;
     private final GptLogRepositoryCustom gptLogRepositoryCustom;
     private final GptPromptRepository gptPromptRepository;
     private final GptRepository gptRepository;
     private final AwsS3Service awsS3Service;
     private final CommonService commonService;
-    private final ManagerRefreshRepository managerRefreshRepository;
+    private final ManagerRefreshTokenStore managerRefreshTokenStore;
     private final JwtUtil jwtUtil;
     private final ManagerRepository managerRepository;
     private final QuizRepository quizRepository;
@@ -92,30 +102,18 @@ public class AdminService {
     private final CommentsRepository commentsRepository;
     private final FeedbackRepository feedbackRepository;
 
-    private final FcmService fcmService;
+    private final PushCampaignService pushCampaignService;
     private final EmailService emailService;
 
-    @Value("${promise.category}") String promiseCategory;
-    @Value("${promise.topic}") String promiseTopic;
-    @Value("${promise.usertype}") String promiseUsertype;
-
     // 로그인
-    @Transactional(readOnly = true)
-    public ResponseEntity<ApiResponseWrapper> login(LoginRequestDto loginRequestDto) {
+    public ResponseEntity<ApiResponseWrapper> login(LoginRequestDto loginRequestDto, String deviceId) {
         try {
             Manager manager = managerRepository.findByEmail(loginRequestDto.email()).orElseThrow(EntityNotFoundException::new);
 
             if (manager.getPassword().equals(loginRequestDto.password())) {
                 TokenDto allTokens = jwtUtil.createAllTokens(manager.getManagerUuid(), manager.getRole().toString(), "admin");
-                // 이미 존재하는 이메일인 경우 해당 레코드를 업데이트하고, 아닌 경우 새로운 레코드 추가
-                Optional<ManagerRefreshToken> refreshToken = managerRefreshRepository.findByEmail(manager.getEmail());
-                if (refreshToken.isPresent()) {
-                    refreshToken.get().updateToken(allTokens.getRefreshToken());
-                    managerRefreshRepository.save(refreshToken.get());
-                } else {
-                    ManagerRefreshToken managerRefreshToken = new ManagerRefreshToken(allTokens.getRefreshToken(), manager.getEmail());
-                    managerRefreshRepository.save(managerRefreshToken);
-                }
+                // 같은 기기 세션이 있으면 토큰 교체, 없으면 새로운 레코드 추가
+                managerRefreshTokenStore.issue(manager, deviceId, allTokens.getRefreshToken());
                 AdminLoginResponseDto responseDto = new AdminLoginResponseDto(manager.getRole(), allTokens);
                 return ResponseEntity.ok(ApiResponseWrapper.success(responseDto)); // 200
             }
@@ -308,19 +306,25 @@ public class AdminService {
                 if (!("Y".equals(gptProcessDto.getUseYN()) || "N".equals(gptProcessDto.getUseYN()))) {
                     throw new IllegalArgumentException();
                 }
-                // gpt id null 일 때 gpt save 추가
+                // gpt id null 일 때 gpt save 추가. (토픽, 유저타입) 유니크 키가 있으므로 이미 있으면(일괄 생성 등) 그 행을 수정한다
                 if (gptProcessDto.getGptId() == null) {
                     UserType userType = userTypeRepository.findById(gptProcessDto.getUsertypeId()).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 유저타입"));
-                    Gpt newGpt = Gpt.builder()
-                            .categoryId(modifyTopicRequestDto.getCategoryId())
-                            .topic(topic)
-                            .userType(userType)
-                            .content(gptProcessDto.getContent())
-                            .useYN(gptProcessDto.getUseYN())
-                            .createdBy(userDetails.getRole())
-                            .build();
-                    gptRepository.save(newGpt);
-                    updateGptList.add(newGpt);
+                    Optional<Gpt> existing = gptRepository.findByTopicIdAndUserTypeId(topic.getId(), userType.getId());
+                    if (existing.isPresent()) {
+                        existing.get().modifyContentUseYN(gptProcessDto, userDetails.getRole(), modifyTopicRequestDto.getCategoryId());
+                        updateGptList.add(existing.get());
+                    } else {
+                        Gpt newGpt = Gpt.builder()
+                                .categoryId(modifyTopicRequestDto.getCategoryId())
+                                .topic(topic)
+                                .userType(userType)
+                                .content(gptProcessDto.getContent())
+                                .useYN(gptProcessDto.getUseYN())
+                                .createdBy(userDetails.getRole())
+                                .build();
+                        gptRepository.save(newGpt);
+                        updateGptList.add(newGpt);
+                    }
                 }
                 if (gptProcessDto.getGptId() != null) {
                     // gpt entity 내용 수정
@@ -435,55 +439,38 @@ public class AdminService {
 
     // 토픽 유저타입 내용 GPT 질문 답변 로그 저장 및 답변 반환
     public ResponseEntity<ApiResponseWrapper> createTopicUsertypeGptContent(CreateGptContentRequestDto createGptContentRequestDto,
-                                                               CustomUserDetails userDetails) {
+                                                               boolean regenerate, CustomUserDetails userDetails) {
         try {
-            Topic topic = topicRepository.findById(createGptContentRequestDto.topicId()).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 토픽"));
-            UserType userType = userTypeRepository.findById(createGptContentRequestDto.usertypeId()).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 유저타입"));
-            Category category = categoryRepository.findById(createGptContentRequestDto.categoryId()).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 카테고리"));
-
-            String categoryName = category.getName();
-            String topicTitle = topic.getTitle();
-            String usertypeName = userType.getName();
-
-            // 최신 프롬프트 가져오기 from DB
-            GptPrompt gptPrompt = gptPromptRepository.findFirstByOrderByIdDesc().orElseThrow(() -> new EntityNotFoundException("프롬프트가 존재하지 않음"));
-            String prompt = gptPrompt.getPrompt();
-
-            // 프롬프트 약속 단어 치환 (TO-BE : 약속 더 만들어야 할 것 같음)
-            String resultPrompt = prompt.replaceAll(promiseCategory, categoryName)
-                                        .replaceAll(promiseTopic, topicTitle)
-                                        .replaceAll(promiseUsertype, usertypeName);
+            GptPromptRequest request = gptPromptBuilder.topicUsertype(createGptContentRequestDto.categoryId(),
+                    createGptContentRequestDto.topicId(), createGptContentRequestDto.usertypeId());
+
             // GPT 답변 받기
             log.info("--gpt 실행 중---");
-            log.info("prompt : " + resultPrompt);
-            String gptAnswer = gptService.returnGptAnswer(resultPrompt);
+            log.info("prompt : " + request.prompt());
+            GptAnswer answer = gptService.generate(request.prompt(), regenerate, GptUsageTag.sync(request.type(), userDetails.getMemberIdasLong(), userDetails.getRole()), request.type());
+            String gptAnswer = answer.content();
             log.info("---gpt 답변 완료---");
             log.info("answer : " + gptAnswer);
 
             // 로그 DB 저장
             log.info("---gpt log 저장 중---");
             GptLog gptLog = GptLog.builder()
-                    .categoryId(category.getId())
-                    .topicId(topic.getId())
-                    .usertypeId(userType.getId())
-                    .question(resultPrompt)
+                    .categoryId(request.categoryId())
+                    .topicId(request.topicId())
+                    .usertypeId(request.usertypeId())
+                    .question(request.prompt())
                     .answer(gptAnswer)
                     .createdBy(userDetails.getRole())
+                    .promptTokens(answer.promptTokens())
+                    .completionTokens(answer.completionTokens())
+                    .totalTokens(answer.totalTokens())
                     .build();
 
             gptLogRepository.save(gptLog);
 
-            String prefix = "[설명] : ";
-
-            // '[요약] :' 문자열 뒤의 내용을 추출
-            int summaryStart = gptAnswer.indexOf(prefix);
-
-            if (summaryStart != -1) {
-                String summary = gptAnswer.substring(summaryStart + prefix.length()).trim();
-                return ResponseEntity.ok(ApiResponseWrapper.success(new GptResponseDto(summary)));
-            } else {
-                return ResponseEntity.internalServerError().body(ApiResponseWrapper.fail("GPT 답변 파싱 실패", gptAnswer));
-            }
+            return gptAnswerResponse(request.type(), gptAnswer);
+        } catch (GptBudgetExceededException | ExternalServiceUnavailableException e) {
+            throw e;
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseWrapper.fail(e.getMessage()));
@@ -516,6 +503,7 @@ public class AdminService {
                     .createdBy(userDetails.getRole())
                     .build();
             gptPromptRepository.save(prompt);
+            gptPromptBuilder.invalidate();
             return ResponseEntity.ok(ApiResponseWrapper.success());
         } catch (Exception e) {
             log.error(e.getMessage());
@@ -530,9 +518,7 @@ public class AdminService {
         try {
             GptPrompt gptPrompt = gptPromptRepository.findFirstByOrderByIdDesc().orElseThrow(EntityNotFoundException::new);
             List<RecentPromptProcessDto> promiseList = new ArrayList<>();
-            promiseList.add(new RecentPromptProcessDto("category", promiseCategory));
-            promiseList.add(new RecentPromptProcessDto("topic", promiseTopic));
-            promiseList.add(new RecentPromptProcessDto("usertype", promiseUsertype));
+            gptPromptBuilder.getPlaceholders().forEach((slot, placeholder) -> promiseList.add(new RecentPromptProcessDto(slot, placeholder)));
             RecentPromptResponseDto recentPromptResponseDto = new RecentPromptResponseDto(gptPrompt, promiseList);
 
             return ResponseEntity.ok(ApiResponseWrapper.success(recentPromptResponseDto));
@@ -552,21 +538,8 @@ public class AdminService {
             if (usertypeId != null) {
                 userTypeRepository.findById(usertypeId).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 유저타입"));
             }
-            Page<GptLog> gptLogs = gptLogRepositoryCustom.searchAllGptLogFilterList(pageable, topicId, usertypeId);
-            List<GptLogProcessDto> gptLogProcessDtos = gptLogs.getContent().stream()
-                    .filter(gptLog -> {
-                        // 필터링 조건을 여기에 추가
-                        return categoryRepository.existsById(gptLog.getCategoryId()) &&
-                                topicRepository.existsById(gptLog.getTopicId()) &&
-                                userTypeRepository.existsById(gptLog.getUsertypeId());
-                    })
-                    .map(gptLog -> {
-                        String categoryName = categoryRepository.findById(gptLog.getCategoryId()).get().getName();
-                        String topicTitle = topicRepository.findById(gptLog.getTopicId()).get().getTitle();
-                        String usertypeName = userTypeRepository.findById(gptLog.getUsertypeId()).get().getName();
-
-                        return new GptLogProcessDto(gptLog, categoryName, topicTitle, usertypeName);
-                    }).toList();
+            Page<GptLogProcessDto> gptLogs = gptLogRepositoryCustom.searchAllGptLogFilterList(pageable, topicId, usertypeId);
+            List<GptLogProcessDto> gptLogProcessDtos = gptLogs.getContent();
             PageInfoProcessDto pageInfoProcessDto = commonService.setPageInfo(gptLogs);
             AllGptLogResponseDto allGptLogResponseDto = new AllGptLogResponseDto(gptLogProcessDtos, pageInfoProcessDto);
 
@@ -579,6 +552,18 @@ public class AdminService {
 
     }
 
+    // gpt 질문 답변 로그 상세 조회 (압축된 본문은 여기서만 푼다)
+    @Transactional(readOnly = true)
+    public ResponseEntity<ApiResponseWrapper> getGptLogDetail(Long id) {
+        try {
+            GptLog gptLog = gptLogRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 GPT 로그"));
+            return ResponseEntity.ok(ApiResponseWrapper.success(new DetailGptLogResponseDto(gptLog)));
+        } catch (EntityNotFoundException e) {
+            log.error(e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseWrapper.fail(e.getMessage()));
+        }
+    }
+
     // 퀴즈 생성
     public ResponseEntity<ApiResponseWrapper> createQuiz(CreateQuizRequestDto createQuizRequestDto,
                                                          CustomUserDetails userDetails) {
@@ -882,28 +867,15 @@ public class AdminService {
     }
 
     // 토픽 요약 gpt 내용 생성 및 반환
-    public ResponseEntity<ApiResponseWrapper> createTopicSummaryGptContent(CreateTopicSummaryGptContentRequestDto createTopicSummaryGptContentRequestDto, CustomUserDetails userDetails) {
+    public ResponseEntity<ApiResponseWrapper> createTopicSummaryGptContent(CreateTopicSummaryGptContentRequestDto createTopicSummaryGptContentRequestDto, boolean regenerate, CustomUserDetails userDetails) {
         try {
-            Topic topic = topicRepository.findById(createTopicSummaryGptContentRequestDto.id()).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 토픽"));
-            String prompt = topic.getTitle() + "을 한 문장으로 요약해줘. \n" +
-                    "아래 답변 형식을 꼭 지켜서 답변해줘. \n" +
-                    "[답변형식]\n" +
-                    "[요약] : ";
-            log.info("prompt : " + prompt);
-            String gptAnswer = gptService.returnGptAnswer(prompt);
+            GptPromptRequest request = gptPromptBuilder.topicSummary(createTopicSummaryGptContentRequestDto.id());
+            log.info("prompt : " + request.prompt());
+            String gptAnswer = gptService.generate(request.prompt(), regenerate, GptUsageTag.sync(request.type(), userDetails.getMemberIdasLong(), userDetails.getRole()), request.type()).content();
             log.info("answer : " + gptAnswer);
-
-            String prefix = "[요약] : ";
-
-            // '[요약] :' 문자열 뒤의 내용을 추출
-            int summaryStart = gptAnswer.indexOf(prefix);
-
-            if (summaryStart != -1) {
-                String summary = gptAnswer.substring(summaryStart + prefix.length()).trim();
-                return ResponseEntity.ok(ApiResponseWrapper.success(new GptResponseDto(summary)));
-            } else {
-                return ResponseEntity.internalServerError().body(ApiResponseWrapper.fail("GPT 답변 파싱 실패", gptAnswer));
-            }
+            return gptAnswerResponse(request.type(), gptAnswer);
+        } catch (GptBudgetExceededException | ExternalServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -911,43 +883,30 @@ public class AdminService {
     }
 
     // GPT 컬럼 내용 생성
-    public ResponseEntity<ApiResponseWrapper> createGptColumnContent(CreateGptColumnRequestDto createGptColumnRequestDto) {
-        String prompt = createGptColumnRequestDto.subject() + "에 대해서 한 페이지 정도 분량의 저널을 작성해줘. \n" +
-                "너가 가진 금융지식을 이용해서 분석적으로 작성해줘. \n" +
-                "소제목은 굵게 처리해주면 좋겠어 \n" +
-                "답변 형식은 html 코드 형식으로 반환해줘" ;
-        log.info("prompt : " + prompt);
-        String gptAnswer = gptService.returnGptAnswer(prompt);
+    public ResponseEntity<ApiResponseWrapper> createGptColumnContent(CreateGptColumnRequestDto createGptColumnRequestDto, boolean regenerate, CustomUserDetails userDetails) {
+        GptPromptRequest request = gptPromptBuilder.columnContent(createGptColumnRequestDto.subject());
+        log.info("prompt : " + request.prompt());
+        String gptAnswer = gptService.generate(request.prompt(), regenerate, GptUsageTag.sync(request.type(), userDetails.getMemberIdasLong(), userDetails.getRole()), request.type()).content();
         log.info("answer : " + gptAnswer);
-        // 맨 앞의 "\\html" 문자열 제거
-        gptAnswer = gptAnswer.substring(7);
-
-        // 맨 뒤의 "\\" 문자 제거
-        gptAnswer = gptAnswer.substring(0, gptAnswer.length() - 3);
-        return ResponseEntity.ok(ApiResponseWrapper.success(new GptResponseDto(gptAnswer)));
+        return gptAnswerResponse(request.type(), gptAnswer);
     }
 
     // GPT 컬럼 요약 생성
-    public ResponseEntity<ApiResponseWrapper> createGptColumnSummary(CreateGptColumnRequestDto createGptColumnRequestDto) {
-        String prompt = createGptColumnRequestDto.subject() + "을 한 문장으로 요약해줘. \n" +
-                "아래 답변 형식을 꼭 지켜서 답변해줘. \n" +
-                "[답변형식]\n" +
-                "[요약] : ";
-        log.info("prompt : " + prompt);
-        String gptAnswer = gptService.returnGptAnswer(prompt);
+    public ResponseEntity<ApiResponseWrapper> createGptColumnSummary(CreateGptColumnRequestDto createGptColumnRequestDto, boolean regenerate, CustomUserDetails userDetails) {
+        GptPromptRequest request = gptPromptBuilder.columnSummary(createGptColumnRequestDto.subject());
+        log.info("prompt : " + request.prompt());
+        String gptAnswer = gptService.generate(request.prompt(), regenerate, GptUsageTag.sync(request.type(), userDetails.getMemberIdasLong(), userDetails.getRole()), request.type()).content();
         log.info("answer : " + gptAnswer);
+        return gptAnswerResponse(request.type(), gptAnswer);
+    }
 
-        String prefix = "[요약] : ";
-
-        // '[요약] :' 문자열 뒤의 내용을 추출
-        int summaryStart = gptAnswer.indexOf(prefix);
-
-        if (summaryStart != -1) {
-            String summary = gptAnswer.substring(summaryStart + prefix.length()).trim();
-            return ResponseEntity.ok(ApiResponseWrapper.success(new GptResponseDto(summary)));
-        } else {
+    // 작업 종류별 형식으로 답변을 파싱해 반환
+    private ResponseEntity<ApiResponseWrapper> gptAnswerResponse(GptJobType type, String gptAnswer) {
+        String parsed = GptAnswerParser.parse(type, gptAnswer);
+        if (parsed == null) {
             return ResponseEntity.internalServerError().body(ApiResponseWrapper.fail("GPT 답변 파싱 실패", gptAnswer));
         }
+        return ResponseEntity.ok(ApiResponseWrapper.success(new GptResponseDto(parsed)));
     }
 
     // GPT 컬럼 저장
@@ -1071,6 +1030,8 @@ public class AdminService {
     }
 
     // 공지사항 생성 api
+    // 공지 저장은 짧은 트랜잭션으로 먼저 커밋하고, 전체 발송은 푸시 캠페인으로 넣어 백그라운드에서 보낸다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseEntity<ApiResponseWrapper> createAnnouncement(CustomUserDetails userDetails, CreateAnnounceRequestDto dto) throws JsonProcessingException {
         announcementRepository.save(new Announcement(dto.getTitle(), dto.getContent(), userDetails.getRole()));
         CreateFcmMessageRequestDto newRequest = CreateFcmMessageRequestDto.builder()
@@ -1082,7 +1043,7 @@ public class AdminService {
                 .action(FcmMessageProcessDto.Action.builder().date(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"))).build())
                 .build();
 
-        fcmService.sendFcmNotifications(newRequest);
+        pushCampaignService.createCampaign(newRequest, userDetails.getRole());
         return  ResponseEntity.ok(ApiResponseWrapper.success());
     }
 
@@ -1168,6 +1129,7 @@ public class AdminService {
     public ResponseEntity<ApiResponseWrapper> adminAutoLogin(HttpServletRequest request){
         String accessTokenHeader = request.getHeader("Authorization");
         String refreshToken = request.getHeader("refreshToken");
+        String deviceId = request.getHeader("deviceId");
         String accessToken = null;
         if (accessTokenHeader != null && accessTokenHeader.startsWith("Bearer ")) {
             accessToken = accessTokenHeader.substring(7); // "Bearer " 이후의 JWT만 추출
@@ -1177,32 +1139,37 @@ public class AdminService {
             String uuid = jwtUtil.getUuid(accessToken);
             Manager manager = managerRepository.findByManagerUuid(uuid).orElseThrow(
                     () -> new EntityNotFoundException("MANAGER ID가 존재하지 않습니다."));
-            AdminAutoLoginResponseDto adminAutoLoginResponseDto = updatingLoginResponse(manager);
+            AdminAutoLoginResponseDto adminAutoLoginResponseDto = updatingLoginResponse(manager, deviceId);
             return ResponseEntity.ok(ApiResponseWrapper.success(adminAutoLoginResponseDto));
         }
         if (jwtUtil.validateTokenServiceLayer(refreshToken)) {
-            // 액세스토큰 유효x, 리프레시토큰 유효할 때
+            // 액세스토큰 유효x, 리프레시토큰 유효할 때 : 저장된 토큰과 일치할 때만 새 토큰으로 교체
             String uuid = jwtUtil.getUuid(refreshToken);
             Manager manager = managerRepository.findByManagerUuid(uuid).orElseThrow(
                     () -> new EntityNotFoundException("MEMBER ID가 존재하지 않습니다."));
-            AdminAutoLoginResponseDto adminAutoLoginResponseDto = updatingLoginResponse(manager);
-            return ResponseEntity.ok(ApiResponseWrapper.success(adminAutoLoginResponseDto));
+            TokenDto allTokens = jwtUtil.createAllTokens(manager.getManagerUuid(), manager.getRole().toString(), "admin");
+            RefreshTokenStore.Rotation rotation = managerRefreshTokenStore.rotate(manager, deviceId, refreshToken, allTokens.getRefreshToken());
+            if (rotation.refreshToken() != null) {
+                // 유예 시간 안의 중복 갱신이면 이미 교체된 리프레시 토큰을 그대로 돌려준다
+                TokenDto tokens = new TokenDto(allTokens.getAccessToken(), rotation.refreshToken());
+                return ResponseEntity.ok(ApiResponseWrapper.success(createAutoLoginResponse(manager, tokens)));
+            }
+            if (rotation.state() == RefreshTokenStore.TokenState.REUSED) {
+                // 유예 시간이 지난 직전 토큰의 재사용 : 탈취로 보고 모든 기기 세션 폐기
+                managerRefreshTokenStore.revokeAll(manager);
+                log.warn("폐기된 리프레시 토큰 재사용 감지 - manager: {}, 모든 기기 세션 폐기", manager.getEmail());
+            }
         }
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponseWrapper.fail("로그인이 필요합니다"));
     }
 
-    public AdminAutoLoginResponseDto updatingLoginResponse(Manager manager){
+    public AdminAutoLoginResponseDto updatingLoginResponse(Manager manager, String deviceId){
         TokenDto allTokens = jwtUtil.createAllTokens(manager.getManagerUuid(), manager.getRole().toString(), "admin");
-        Optional<ManagerRefreshToken> existingRefreshToken = managerRefreshRepository.findByEmail(manager.getEmail());
-        if (existingRefreshToken.isPresent()) {
-            // 기존 리프레시 토큰 정보가 있는 경우, 새 리프레시 토큰으로 업데이트
-            ManagerRefreshToken managerRefreshToken = existingRefreshToken.get();
-            managerRefreshToken.updateToken(allTokens.getRefreshToken());
-            managerRefreshRepository.save(managerRefreshToken);
-        } else {
-            // 기존 리프레시 토큰 정보가 없는 경우, 새로운 리프레시 토큰 저장
-            managerRefreshRepository.save(new ManagerRefreshToken(allTokens.getRefreshToken(), manager.getEmail()));
-        }
+        managerRefreshTokenStore.issue(manager, deviceId, allTokens.getRefreshToken());
+        return createAutoLoginResponse(manager, allTokens);
+    }
+
+    private AdminAutoLoginResponseDto createAutoLoginResponse(Manager manager, TokenDto allTokens){
         // 응답 데이터 : 이름, 이메일, 등급
         AdminAutoLoginProcessDto dto = AdminAutoLoginProcessDto.builder()
                 .role(manager.getRole())
@@ -1238,22 +1205,45 @@ public class AdminService {
         return ResponseEntity.ok(ApiResponseWrapper.success());
     }
 
-    // 카테고리, 토픽 순서 지정
+    // 카테고리, 토픽 순서 지정. 요청 전체를 메모리에서 검증한 뒤 바뀐 행만 UPDATE 한 번으로 반영한다
     public ResponseEntity<ApiResponseWrapper> order(OrderRequestDto dto, String type) {
-        try {
-            if ("category".equals(type)) {
-                for (Map.Entry<Long, Long> order : dto.orders().entrySet()) {
-                    categoryRepository.updatePosition(order.getKey(), order.getValue());
-                }
-            } else if ("topic".equals(type)) {
-                for (Map.Entry<Long, Long> order : dto.orders().entrySet()) {
-                    topicRepository.updatePosition(order.getKey(), order.getValue());
-                }
+        if (!"category".equals(type) && !"topic".equals(type)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseWrapper.fail("category, topic 중 하나를 입력해주세요"));
+        }
+        Map<Long, Long> orders = dto.orders();
+        if (orders == null || orders.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseWrapper.fail("변경할 순서가 없습니다."));
+        }
+        if (orders.values().stream().anyMatch(position -> position == null || position < 1)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseWrapper.fail("순서는 1 이상이어야 합니다."));
+        }
+        if (new HashSet<>(orders.values()).size() != orders.size()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseWrapper.fail("중복된 순서가 있습니다."));
+        }
+
+        boolean category = "category".equals(type);
+        Map<Long, Long> current = category
+                ? categoryRepositoryCustom.findPositions(orders.keySet())
+                : topicRepositoryCustom.findPositions(orders.keySet());
+        if (current.size() != orders.size()) {
+            List<Long> missing = orders.keySet().stream().filter(id -> !current.containsKey(id)).sorted().toList();
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseWrapper.fail("존재하지 않는 " + type, missing));
+        }
+
+        Map<Long, Long> changed = new HashMap<>();
+        orders.forEach((id, position) -> {
+            if (!position.equals(current.get(id))) {
+                changed.put(id, position);
+            }
+        });
+        if (!changed.isEmpty()) {
+            if (category) {
+                categoryRepositoryCustom.updatePositions(changed);
+            } else {
+                topicRepositoryCustom.updatePositions(changed);
             }
-            return ResponseEntity.ok(ApiResponseWrapper.success());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseWrapper.fail("알 수 없는 오류 발생"));
         }
+        return ResponseEntity.ok(ApiResponseWrapper.success());
     }
 
     public ResponseEntity<ApiResponseWrapper> vocList(int page, int size, String reply){
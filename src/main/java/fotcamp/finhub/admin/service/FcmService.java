@@ -3,248 +3,67 @@ package fotcamp.finhub.admin.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import fotcamp.finhub.admin.domain.Manager;
 import fotcamp.finhub.admin.dto.request.CreateFcmMessageRequestDto;
 import fotcamp.finhub.admin.dto.response.FcmResponseDto;
-import fotcamp.finhub.admin.repository.ManagerRepository;
-import fotcamp.finhub.admin.repository.NotificationRepository;
+import fotcamp.finhub.admin.service.push.*;
 import fotcamp.finhub.common.api.ApiResponseWrapper;
-import fotcamp.finhub.common.domain.MemberNotification;
-import fotcamp.finhub.common.domain.Notification;
-import fotcamp.finhub.main.repository.AgreementRepository;
-import fotcamp.finhub.main.repository.MemberNotificationRepository;
-import jakarta.transaction.Transactional;
-import org.springframework.http.*;
-import com.google.auth.oauth2.GoogleCredentials;
-import fotcamp.finhub.common.domain.Member;
 import fotcamp.finhub.common.exception.FcmException;
-import fotcamp.finhub.main.config.FcmConfig;
-import fotcamp.finhub.main.dto.process.FcmMessageProcessDto;
-import fotcamp.finhub.main.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-@Transactional
 public class FcmService {
 
-    private final ManagerRepository managerRepository;
-    private final MemberRepository memberRepository;
-    private final FcmConfig fcmConfig;
     private final ObjectMapper objectMapper;
-    private final NotificationRepository notificationRepository;
-    private final MemberNotificationRepository memberNotificationRepository;
-    private final AgreementRepository agreementRepository;
-
+    private final PushAudienceReader pushAudienceReader;
+    private final PushHistoryRecorder pushHistoryRecorder;
+    private final PushDeliveryEngine pushDeliveryEngine;
+    private final FcmSender fcmSender;
+    private final FcmCredentialProvider fcmCredentialProvider;
+    private final FcmTokenPruner fcmTokenPruner;
+
+    // 대상 chunk 조회 -> (트랜잭션 밖) 병렬 발송 -> 알림 이력 저장을 chunk 마다 반복하여 발송 중 DB 커넥션을 잡고 있지 않는다
     public ResponseEntity<ApiResponseWrapper> sendFcmNotifications(CreateFcmMessageRequestDto dto) throws JsonProcessingException {
-        String accessToken = getAccessToken(); // 서버 유효한지 검증
-        FcmMessageProcessDto.Apns apns = buildApnsPayload(dto);
-        FcmMessageProcessDto.DataContent dataContent = buildDataContent(dto);
-        FcmMessageProcessDto.Notification notification = buidNotification(dto);
-
-        Notification dbNotification = Notification.builder()
-                .title(dto.getTitle())
-                .message(dto.getContent())
-                .url(dto.getView())
-                .build();
-
-        List<String> failList = new ArrayList<>();
+        String accessToken = fcmCredentialProvider.getAccessToken(); // 캐시된 토큰, 만료 임박 시에만 갱신
+        PushContent content = PushContent.from(dto, objectMapper);
 
-        try{ // 0 : 멤버 이메일 리스트 , 1 : 관리자 이메일 리스트, 2 : 푸시 허용한 멤버 전체, 3 : 푸시 설정 무관 관리자 전체, 4 : 멤버+관리자전체
-            if (dto.getType() == 0) {
-                checkAvailableTargetList(dto.getTarget());
-                failList.addAll(sendNotificationsToMembers(dto.getTarget(), accessToken, apns, dataContent, notification, dbNotification));
-            } else if (dto.getType() == 1) {
-                checkAvailableTargetList(dto.getTarget());
-                failList.addAll(sendNotificationsToManagers(dto.getTarget(), accessToken, apns, dataContent, notification));
-            } else if (dto.getType() == 2){
-                failList.addAll(sendNotificationsToAllMembers(accessToken, apns, dataContent, notification, dbNotification));
-            } else if (dto.getType() == 3){
-                failList.addAll(sendNotificationsToAllManagers(accessToken, apns, dataContent, notification));
-            } else if (dto.getType() == 4){
-                failList.addAll(sendNotificationsToAllManagers(accessToken, apns, dataContent, notification));
-                failList.addAll(sendNotificationsToAllMembers(accessToken, apns, dataContent, notification, dbNotification));
-            } else {
-                return ResponseEntity.badRequest().body(ApiResponseWrapper.fail("TYPE을 확인하세요."));
-            }
+        if (!PushAudienceReader.isValidType(dto.getType())) {
+            return ResponseEntity.badRequest().body(ApiResponseWrapper.fail("TYPE을 확인하세요."));
+        }
+        try {
+            PushAudienceReader.checkTarget(dto.getType(), dto.getTarget(), dto.getSegmentId());
         } catch (FcmException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseWrapper.fail(e.getMessage()));
         }
-        notificationRepository.save(dbNotification);
-        return ResponseEntity.ok(ApiResponseWrapper.success(new FcmResponseDto(failList)));
-    }
-
-    private void checkAvailableTargetList(List<String> targetList){
-        if(targetList.isEmpty()){
-            throw new FcmException("Target 필드가 비어있습니다.");
-        }
-    }
-
-    private List<String> sendNotificationsToAllManagers(
-            String accessToken, FcmMessageProcessDto.Apns apns, FcmMessageProcessDto.DataContent dataContent, FcmMessageProcessDto.Notification notification) throws JsonProcessingException {
-        List<Manager> allManagers = managerRepository.findAll();
-        List<String> failList = new ArrayList<>();
-        for (Manager manager : allManagers) {
-            if (manager.getFcmToken() != null) {
-                FcmMessageProcessDto.FcmMessage message = buildFcmMessage(manager.getFcmToken(), apns, dataContent, notification);
-                try{
-                    sendFcmMessage(accessToken, message);
-                }catch (FcmException e){
-                    failList.add(manager.getName());
-                }
-            }
-        }
-        return failList;
-    }
-
-    private List<String> sendNotificationsToAllMembers(
-            String accessToken, FcmMessageProcessDto.Apns apns, FcmMessageProcessDto.DataContent dataContent, FcmMessageProcessDto.Notification notification,Notification newNotification) throws FcmException, JsonProcessingException {
-        List<Member> activeMembers = agreementRepository.findMembersByPushYn(true);
-        List<String> failList = new ArrayList<>();
-        List<MemberNotification> notificationsToSave = new ArrayList<>();
-        for (Member member : activeMembers) {
-            if (member.getFcmToken() != null) {
-                FcmMessageProcessDto.FcmMessage message = buildFcmMessage(member.getFcmToken(), apns, dataContent, notification );
-                try{
-                    sendFcmMessage(accessToken, message);
-                }catch (FcmException e){
-                    failList.add(member.getName());
-                }
-            }
-            MemberNotification newSendNoti = new MemberNotification(member, newNotification);
-            notificationsToSave.add(newSendNoti);
-        }
-        memberNotificationRepository.saveAll(notificationsToSave); // save 메소드로 매번 쿼리 날리는 작업 대신 saveAll 메소드로 대체
-        return failList;
-    }
 
-    private List<String> sendNotificationsToMembers(List<String> memberList, String accessToken, FcmMessageProcessDto.Apns apns, FcmMessageProcessDto.DataContent dataContent, FcmMessageProcessDto.Notification notification,Notification newNotification) throws FcmException, JsonProcessingException{
-        // 멤버리스트 순회하면서 푸시허용한 멤버에게만 fcm 전송
-        List<Member> activeMembers = agreementRepository.findMembersByPushYnTrueAndEmails(memberList);
+        Long notificationId = pushHistoryRecorder.createNotification(content, dto.getType());
         List<String> failList = new ArrayList<>();
-        List<MemberNotification> notificationsToSave = new ArrayList<>();
-        for(Member m : activeMembers){
-            if (m.getFcmToken() != null) {
-                FcmMessageProcessDto.FcmMessage message = buildFcmMessage(m.getFcmToken(), apns, dataContent, notification );
-                try{
-                    sendFcmMessage(accessToken, message);
-                }catch (FcmException e){
-                    failList.add(m.getName());
+        Set<String> deadTokens = new HashSet<>();
+        pushAudienceReader.forEachChunk(dto.getType(), dto.getTarget(), dto.getSegmentId(), chunk -> {
+            List<PushTarget> tokenHolders = chunk.stream().filter(PushTarget::hasToken).toList();
+            pushDeliveryEngine.deliver(tokenHolders, target -> fcmSender.send(accessToken, target.fcmToken(), content), result -> {
+                if (result.isSuccess()) {
+                    return;
                 }
-            }
-            MemberNotification newSendNoti = new MemberNotification(m, newNotification);
-            notificationsToSave.add(newSendNoti);
-        }
-        memberNotificationRepository.saveAll(notificationsToSave);
-        return failList;
-    }
-
-    private List<String> sendNotificationsToManagers(List<String> managerList, String accessToken, FcmMessageProcessDto.Apns apns, FcmMessageProcessDto.DataContent dataContent, FcmMessageProcessDto.Notification notification)  throws FcmException, JsonProcessingException{
-        final List<Manager> activeManagers = managerRepository.findByPushYnAndEmails(managerList);
-        List<String> failList = new ArrayList<>();
-        for(Manager m : activeManagers){
-            if(m.getFcmToken() != null) {
-                FcmMessageProcessDto.FcmMessage message = buildFcmMessage(m.getFcmToken(), apns, dataContent, notification);
-                try {
-                    sendFcmMessage(accessToken, message);
-                } catch (FcmException e) {
-                    failList.add(m.getName());
+                failList.add(result.target().name());
+                if (FcmTokenPruner.isDeadToken(result.error())) {
+                    deadTokens.add(result.target().fcmToken());
                 }
-            }
-        }
-        return failList;
-    }
-
-    private void sendFcmMessage(String accessToken, FcmMessageProcessDto.FcmMessage message) throws JsonProcessingException, FcmException {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(accessToken);
-        String jsonMessage = objectMapper.writeValueAsString(Map.of("message", message));
-        HttpEntity<String> entity = new HttpEntity<>(jsonMessage, headers);
-
-        String fcmUrl = "https://fcm.googleapis.com/v1/projects/"+fcmConfig.getProjectId()+"/messages:send";
-        RestTemplate restTemplate = new RestTemplate();
-
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(fcmUrl, HttpMethod.POST, entity, String.class);
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                log.error("Failed to send FCM message: {}", response.getBody());
-            }
-        } catch (HttpClientErrorException e) {
-            log.error("HttpClientErrorException - 전송 실패 대상 토큰: {}", message.getToken());
-        } catch (RestClientException e) {
-            log.error("RestClientException - 전송 실패 대상 토큰: {}", message.getToken());
-        }
-    }
-
-    private String getAccessToken(){
-        try {
-            final GoogleCredentials googleCredentials = GoogleCredentials
-                    .fromStream(new ClassPathResource(fcmConfig.getFirebaseConfigPath()).getInputStream())
-                    .createScoped(List.of(fcmConfig.getScope()));
-
-            googleCredentials.refreshIfExpired();
-            return googleCredentials.getAccessToken().getTokenValue();
-        } catch (IOException e) {
-            log.error("구글 토큰 요청 에러", e);
-            throw new FcmException("GOOGLE_REQUEST_TOKEN_ERROR");
-        }
-    }
-
-    private FcmMessageProcessDto.FcmMessage buildFcmMessage(String token, FcmMessageProcessDto.Apns apns, FcmMessageProcessDto.DataContent dataContent, FcmMessageProcessDto.Notification notification) {
-        return FcmMessageProcessDto.FcmMessage.builder()
-                .token(token)
-                .notification(notification)
-                .data(dataContent)
-                .apns(apns)
-                .build();
-    }
-
-    private FcmMessageProcessDto.DataContent buildDataContent(CreateFcmMessageRequestDto dto) throws JsonProcessingException {
-        String actionJson = objectMapper.writeValueAsString(dto.getAction());
-        return FcmMessageProcessDto.DataContent.builder()
-                .title(dto.getTitle())
-                .body(dto.getContent())
-                .view(dto.getView())
-                .action(actionJson)
-                .build();
-    }
-
-    private FcmMessageProcessDto.Notification buidNotification(CreateFcmMessageRequestDto dto){
-        return FcmMessageProcessDto.Notification.builder()
-                .title(dto.getTitle())
-                .body(dto.getContent())
-                .build();
-    }
-
-    private FcmMessageProcessDto.Apns buildApnsPayload(CreateFcmMessageRequestDto dto) {
-        FcmMessageProcessDto.Alert alert = FcmMessageProcessDto.Alert.builder()
-                .title(dto.getTitle())
-                .body(dto.getContent())
-                .build();
-
-        FcmMessageProcessDto.Aps aps = FcmMessageProcessDto.Aps.builder()
-                .alert(alert)
-                .mutableContent(1L)
-                .build();
-
-        FcmMessageProcessDto.Payload payload = FcmMessageProcessDto.Payload.builder()
-                .aps(aps).build();
-
-        return FcmMessageProcessDto.Apns.builder()
-                .payload(payload)
-                .build();
+            });
+            pushHistoryRecorder.recordRecipients(notificationId, dto.getType(), chunk);
+        });
+        // 발송이 끝난 뒤 만료 토큰을 한 번에 정리
+        int prunedTokenCount = fcmTokenPruner.prune(deadTokens);
+        return ResponseEntity.ok(ApiResponseWrapper.success(new FcmResponseDto(failList, prunedTokenCount)));
     }
 }
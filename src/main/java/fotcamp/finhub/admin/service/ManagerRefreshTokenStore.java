@@ -0,0 +1,81 @@
+package fotcamp.finhub.admin.service;
+
+import fotcamp.finhub.admin.domain.Manager;
+import fotcamp.finhub.admin.domain.ManagerRefreshToken;
+import fotcamp.finhub.admin.repository.ManagerRefreshRepository;
+import fotcamp.finhub.common.service.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/** 관리자 리프레시 토큰 DB 저장소 (이메일 기준) */
+@Component
+@RequiredArgsConstructor
+@Transactional
+public class ManagerRefreshTokenStore implements RefreshTokenStore<Manager> {
+
+    private final ManagerRefreshRepository managerRefreshRepository;
+
+    @Value("${jwt.refreshTokenExpirationTime}")
+    private long refreshTokenExpTime; // 초
+    @Value("${jwt.refresh-reuse-grace-seconds:30}")
+    private long reuseGraceSeconds;
+
+    @Override
+    public void issue(Manager manager, String deviceId, String token) {
+        managerRefreshRepository.upsert(manager.getEmail(), RefreshTokenStore.normalizeDeviceId(deviceId), token, expiresAt());
+    }
+
+    @Override
+    public Rotation rotate(Manager manager, String deviceId, String oldToken, String newToken) {
+        LocalDateTime now = LocalDateTime.now();
+        if (managerRefreshRepository.rotate(manager.getEmail(), RefreshTokenStore.normalizeDeviceId(deviceId), oldToken, newToken, expiresAt(), now) > 0) {
+            return new Rotation(TokenState.ACTIVE, newToken);
+        }
+        return managerRefreshRepository.findRotatedFromForUpdate(manager.getEmail(), oldToken).stream()
+                .findFirst()
+                .map(rotated -> inGrace(rotated, now)
+                        ? new Rotation(TokenState.GRACE, rotated.getRefreshToken())
+                        : new Rotation(TokenState.REUSED, null))
+                .orElse(new Rotation(TokenState.UNKNOWN, null));
+    }
+
+    @Override
+    public TokenState inspect(Manager manager, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        if (managerRefreshRepository.existsActiveToken(token, now)) {
+            return TokenState.ACTIVE;
+        }
+        return managerRefreshRepository.findRotatedFromForUpdate(manager.getEmail(), token).stream()
+                .findFirst()
+                .map(rotated -> inGrace(rotated, now) ? TokenState.GRACE : TokenState.REUSED)
+                .orElse(TokenState.UNKNOWN);
+    }
+
+    @Override
+    public void revoke(String token) {
+        managerRefreshRepository.deleteByToken(token);
+    }
+
+    @Override
+    public void revokeAll(Manager manager) {
+        managerRefreshRepository.deleteAllByEmail(manager.getEmail());
+    }
+
+    @Override
+    public int purgeExpired() {
+        managerRefreshRepository.backfillLegacy(expiresAt());
+        return managerRefreshRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private boolean inGrace(ManagerRefreshToken rotated, LocalDateTime now) {
+        return rotated.getRotatedAt() != null && rotated.getRotatedAt().isAfter(now.minusSeconds(reuseGraceSeconds));
+    }
+
+    private LocalDateTime expiresAt() {
+        return LocalDateTime.now().plusSeconds(refreshTokenExpTime);
+    }
+}
@@ -72,7 +72,7 @@ public class CompletionChatResponseService {
                 result.getCreated(),
                 result.getModel(),
                 toResponseListBy(result.getChoices()),
-                Usage.of(result.getUsage())
+                result.getUsage() == null ? null : Usage.of(result.getUsage())
         );
     }
 }
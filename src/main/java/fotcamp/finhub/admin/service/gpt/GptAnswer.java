@@ -0,0 +1,20 @@
+package fotcamp.finhub.admin.service.gpt;
+
+/** GPT 답변 본문과 토큰 사용량 (응답에 usage 가 없거나 캐시에서 꺼낸 답변이면 0) */
+public record GptAnswer(String content, long promptTokens, long completionTokens, long totalTokens, boolean cached) {
+
+    public static GptAnswer of(String content, CompletionChatResponseService.Usage usage) {
+        if (usage == null) {
+            return new GptAnswer(content, 0, 0, 0, false);
+        }
+        return new GptAnswer(content, valueOf(usage.getPromptTokens()), valueOf(usage.getCompletionTokens()), valueOf(usage.getTotalTokens()), false);
+    }
+
+    public static GptAnswer cached(String content) {
+        return new GptAnswer(content, 0, 0, 0, true);
+    }
+
+    private static long valueOf(Long tokens) {
+        return tokens == null ? 0 : tokens;
+    }
+}
@@ -0,0 +1,113 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptJobType;
+
+/**
+ * GPT 답변 증분 파서
+ * 스트리밍 조각을 받는 대로 feed 하면 화면에 보여줄 내용 조각을 돌려주고, finish 에서 최종 파싱 결과를 반환한다.
+ * 전체 답변을 한 번에 파싱할 때도 같은 파서를 쓴다 (parse).
+ * - 접두어 형식 ("[설명] : ", "[요약] : ") : 접두어가 나올 때까지 버퍼링하고, 그 뒤 내용만 내보낸다.
+ * - 코드 블록 형식 (```html ... ```) : 여는 표식을 떼고, 닫는 표식일 수 있는 끝부분은 다음 조각이 올 때까지 보류한다.
+ */
+public class GptAnswerParser {
+
+    private static final String FENCE_OPEN = "```html";
+    private static final String FENCE_CLOSE = "```";
+
+    private final String prefix; // null 이면 코드 블록 형식
+    private final StringBuilder buffer = new StringBuilder(); // 내용 시작 전 버퍼
+    private final StringBuilder content = new StringBuilder(); // 내용 시작 이후 전체
+    private boolean started;
+    private int emitted; // content 중 내보낸 길이
+
+    private GptAnswerParser(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public static GptAnswerParser of(GptJobType type) {
+        return switch (type) {
+            case TOPIC_USERTYPE -> new GptAnswerParser("[설명] : ");
+            case TOPIC_SUMMARY, COLUMN_SUMMARY -> new GptAnswerParser("[요약] : ");
+            case COLUMN_CONTENT -> new GptAnswerParser(null);
+        };
+    }
+
+    /** @return 파싱에 실패하면 null */
+    public static String parse(GptJobType type, String answer) {
+        if (answer == null) {
+            return null;
+        }
+        GptAnswerParser parser = of(type);
+        parser.feed(answer);
+        return parser.finish();
+    }
+
+    /** @return 새로 보여줄 내용 조각 (없으면 빈 문자열) */
+    public String feed(String delta) {
+        if (delta == null || delta.isEmpty()) {
+            return "";
+        }
+        if (!started) {
+            buffer.append(delta);
+            if (!tryStart(false)) {
+                return "";
+            }
+        } else {
+            content.append(delta);
+        }
+        return drain();
+    }
+
+    /** @return 최종 내용 (앞뒤 공백 제거), 접두어 형식인데 접두어가 없었으면 null */
+    public String finish() {
+        if (!started && !tryStart(true)) {
+            return null;
+        }
+        String result = content.toString().trim();
+        if (prefix == null && result.endsWith(FENCE_CLOSE)) {
+            result = result.substring(0, result.length() - FENCE_CLOSE.length()).trim();
+        }
+        return result;
+    }
+
+    private boolean tryStart(boolean last) {
+        if (prefix != null) {
+            int start = buffer.indexOf(prefix);
+            if (start == -1) {
+                return false;
+            }
+            content.append(buffer, start + prefix.length(), buffer.length());
+        } else {
+            String head = buffer.toString().stripLeading();
+            // 여는 표식인지 판단할 만큼 모이지 않았으면 기다린다
+            if (!last && head.length() < FENCE_OPEN.length() && FENCE_OPEN.startsWith(head)) {
+                return false;
+            }
+            content.append(head.startsWith(FENCE_OPEN) ? head.substring(FENCE_OPEN.length()) : head);
+        }
+        buffer.setLength(0);
+        started = true;
+        return true;
+    }
+
+    private String drain() {
+        int end = content.length();
+        if (prefix == null) {
+            // 끝의 공백/백틱은 닫는 표식일 수 있어 보류
+            while (end > emitted && (Character.isWhitespace(content.charAt(end - 1)) || content.charAt(end - 1) == '`')) {
+                end--;
+            }
+        }
+        int from = emitted;
+        if (from == 0) { // 내용 앞 공백은 보여주지 않는다
+            while (from < end && Character.isWhitespace(content.charAt(from))) {
+                from++;
+            }
+            if (from == end) {
+                return "";
+            }
+        }
+        emitted = end;
+        return content.substring(from, end);
+    }
+}
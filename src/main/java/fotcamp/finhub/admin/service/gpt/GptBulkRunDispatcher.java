@@ -0,0 +1,296 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptBulkCell;
+import fotcamp.finhub.admin.domain.GptBulkCellStatus;
+import fotcamp.finhub.admin.domain.GptBulkRun;
+import fotcamp.finhub.admin.domain.GptBulkRunStatus;
+import fotcamp.finhub.admin.domain.GptJobType;
+import fotcamp.finhub.admin.domain.GptLog;
+import fotcamp.finhub.admin.repository.GptBulkCellRepository;
+import fotcamp.finhub.admin.repository.GptBulkRunRepository;
+import fotcamp.finhub.admin.repository.GptLogRepository;
+import fotcamp.finhub.admin.repository.GptRepository;
+import fotcamp.finhub.admin.repository.TopicRepository;
+import fotcamp.finhub.admin.repository.UserTypeRepository;
+import fotcamp.finhub.common.domain.Gpt;
+import fotcamp.finhub.common.exception.ExternalServiceUnavailableException;
+import fotcamp.finhub.common.exception.GptBudgetExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GPT 일괄 생성 백그라운드 처리
+ * 생성 대기 셀을 chunk 단위로 점유(claim) -> 트랜잭션 밖에서 병렬 생성 -> chunk 결과를 한 트랜잭션으로 저장하는 순서로 처리한다.
+ * chunk 크기는 동시 실행 수(gpt.bulk.concurrency)와 분당 토큰 한도(GptTokenBudget)로 정해진다.
+ * 일/월 토큰 예산(GptUsageMeter)을 넘으면 거절하지 않고 셀을 남겨 두었다가 예산이 풀리면 이어서 생성한다.
+ * 점유는 lease 시간이 지나면 풀리므로, 생성 중 노드가 내려가도 완료된 셀은 건너뛰고 남은 셀부터 이어서 생성한다.
+ * chunk 하나가 GPT 응답 시간만큼 걸리므로 tick 당 chunk 수(gpt.bulk.max-chunks-per-tick)를 제한해 공용 스케줄러 스레드를 오래 잡지 않는다.
+ */
+@Slf4j
+@Component
+public class GptBulkRunDispatcher implements DisposableBean {
+
+    private final GptBulkRunRepository gptBulkRunRepository;
+    private final GptBulkCellRepository gptBulkCellRepository;
+    private final GptRepository gptRepository;
+    private final GptLogRepository gptLogRepository;
+    private final TopicRepository topicRepository;
+    private final UserTypeRepository userTypeRepository;
+    private final GptPromptBuilder gptPromptBuilder;
+    private final GptService gptService;
+    private final GptTokenBudget gptTokenBudget;
+    private final GptUsageMeter gptUsageMeter;
+    private final TransactionTemplate transactionTemplate;
+    private final int concurrency;
+    private final ExecutorService executor;
+
+    @Value("${gpt.bulk.lease-ms:900000}")
+    private long leaseMs;
+    @Value("${gpt.bulk.max-attempts:3}")
+    private int maxAttempts;
+    @Value("${gpt.bulk.retry-backoff-ms:60000}")
+    private long retryBackoffMs;
+    @Value("${gpt.bulk.max-chunks-per-tick:2}")
+    private int maxChunksPerTick;
+
+    public GptBulkRunDispatcher(GptBulkRunRepository gptBulkRunRepository, GptBulkCellRepository gptBulkCellRepository,
+                                GptRepository gptRepository, GptLogRepository gptLogRepository,
+                                TopicRepository topicRepository, UserTypeRepository userTypeRepository,
+                                GptPromptBuilder gptPromptBuilder, GptService gptService, GptTokenBudget gptTokenBudget,
+                                GptUsageMeter gptUsageMeter, PlatformTransactionManager transactionManager,
+                                @Value("${gpt.bulk.concurrency:4}") int concurrency) {
+        this.gptBulkRunRepository = gptBulkRunRepository;
+        this.gptBulkCellRepository = gptBulkCellRepository;
+        this.gptRepository = gptRepository;
+        this.gptLogRepository = gptLogRepository;
+        this.topicRepository = topicRepository;
+        this.userTypeRepository = userTypeRepository;
+        this.gptPromptBuilder = gptPromptBuilder;
+        this.gptService = gptService;
+        this.gptTokenBudget = gptTokenBudget;
+        this.gptUsageMeter = gptUsageMeter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.concurrency = concurrency;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "gpt-bulk-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${gpt.bulk.poll-interval-ms:5000}")
+    public void dispatch() {
+        int chunkBudget = maxChunksPerTick;
+        for (Long runId : gptBulkRunRepository.findIdsByStatusIn(List.of(GptBulkRunStatus.PENDING, GptBulkRunStatus.RUNNING))) {
+            while (chunkBudget > 0) {
+                ChunkResult result = dispatchChunk(runId);
+                if (result == ChunkResult.BUDGET_EXHAUSTED) {
+                    return; // 다음 tick 에 이어서
+                }
+                if (result == ChunkResult.NO_CELLS) {
+                    break;
+                }
+                chunkBudget--;
+            }
+            if (chunkBudget == 0) {
+                return;
+            }
+        }
+    }
+
+    ChunkResult dispatchChunk(Long runId) {
+        if (!gptUsageMeter.isWithinBudget()) {
+            return ChunkResult.BUDGET_EXHAUSTED;
+        }
+        List<GptTokenBudget.Reservation> reservations = new ArrayList<>();
+        while (reservations.size() < concurrency) {
+            GptTokenBudget.Reservation reservation = gptTokenBudget.tryReserve();
+            if (reservation == null) {
+                break;
+            }
+            reservations.add(reservation);
+        }
+        if (reservations.isEmpty()) {
+            return ChunkResult.BUDGET_EXHAUSTED;
+        }
+
+        String claimToken = UUID.randomUUID().toString();
+        Claimed claimed = transactionTemplate.execute(status -> claim(runId, claimToken, reservations.size()));
+        List<GptBulkCell> cells = claimed == null ? null : claimed.cells();
+        // 점유한 셀 수만큼만 예약을 남긴다
+        while (reservations.size() > (cells == null ? 0 : cells.size())) {
+            gptTokenBudget.settle(reservations.remove(reservations.size() - 1), 0);
+        }
+        if (cells == null || cells.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> completeIfDone(runId));
+            return ChunkResult.NO_CELLS;
+        }
+
+        List<Future<CellResult>> futures = new ArrayList<>(cells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            GptBulkCell cell = cells.get(i);
+            GptTokenBudget.Reservation reservation = reservations.get(i);
+            futures.add(executor.submit(() -> generate(cell, reservation, claimed.tag())));
+        }
+        List<CellResult> results = new ArrayList<>(futures.size());
+        for (Future<CellResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ChunkResult.NO_CELLS; // 점유한 셀은 lease 가 지나면 다시 생성 대상이 된다
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyResults(runId, claimToken, results));
+        } catch (DataIntegrityViolationException e) {
+            // 그 사이 다른 경로가 같은 (토픽, 유저타입) 내용을 저장함 : 다시 반영하면 해당 셀은 건너뜀 처리된다
+            log.info("GPT 일괄 생성 [{}] 결과 반영 중 중복 내용 발견, 다시 반영", runId);
+            transactionTemplate.executeWithoutResult(status -> applyResults(runId, claimToken, results));
+        }
+        return ChunkResult.DISPATCHED;
+    }
+
+    private Claimed claim(Long runId, String claimToken, int limit) {
+        GptBulkRun run = gptBulkRunRepository.findById(runId).orElse(null);
+        if (run == null || run.isFinished()) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = gptBulkCellRepository.findDueIds(runId, GptBulkCellStatus.UNFINISHED, now, PageRequest.of(0, limit));
+        if (dueIds.isEmpty()) {
+            return new Claimed(GptUsageTag.bulk(run.getManagerId(), run.getCreatedBy()), List.of());
+        }
+        run.start();
+        gptBulkCellRepository.claim(dueIds, GptBulkCellStatus.UNFINISHED, GptBulkCellStatus.RUNNING,
+                claimToken, now.plus(Duration.ofMillis(leaseMs)), now);
+        return new Claimed(GptUsageTag.bulk(run.getManagerId(), run.getCreatedBy()), gptBulkCellRepository.findByClaimToken(claimToken));
+    }
+
+    // 트랜잭션 밖에서 실행된다
+    private CellResult generate(GptBulkCell cell, GptTokenBudget.Reservation reservation, GptUsageTag tag) {
+        try {
+            GptPromptRequest request = gptPromptBuilder.topicUsertype(cell.getCategoryId(), cell.getTopicId(), cell.getUsertypeId());
+            GptAnswer answer = gptService.generate(request.prompt(), false, tag, request.type());
+            gptTokenBudget.settle(reservation, answer.totalTokens());
+            return new CellResult(cell.getId(), request.prompt(), answer, null);
+        } catch (Exception e) {
+            gptTokenBudget.settle(reservation, 0);
+            return new CellResult(cell.getId(), null, null, e);
+        }
+    }
+
+    // 이 노드의 claimToken 으로 아직 점유 중인 셀에만 결과를 반영한다 (취소되었거나 lease 만료 후 다른 노드가 재점유한 셀은 제외)
+    private void applyResults(Long runId, String claimToken, List<CellResult> results) {
+        GptBulkRun run = gptBulkRunRepository.findById(runId).orElseThrow();
+        Map<Long, GptBulkCell> cells = new HashMap<>();
+        gptBulkCellRepository.findClaimedForUpdate(claimToken, GptBulkCellStatus.RUNNING)
+                .forEach(cell -> cells.put(cell.getId(), cell));
+
+        int succeeded = 0;
+        int skipped = 0;
+        int failed = 0;
+        long tokens = 0;
+        List<GptLog> gptLogs = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (CellResult result : results) {
+            GptBulkCell cell = cells.get(result.cellId());
+            if (cell == null) {
+                continue; // 그 사이 취소되었거나 다른 노드가 재점유함
+            }
+            if (result.error() instanceof GptBudgetExceededException budget) {
+                cell.deferUntil(now.plus(Duration.ofMillis(retryBackoffMs)), "BUDGET_EXCEEDED_" + budget.getPeriod());
+                continue;
+            }
+            if (result.error() instanceof ExternalServiceUnavailableException unavailable) {
+                // 벌크헤드 초과/서킷 오픈은 호출 자체를 못한 것이라 시도 횟수에 넣지 않는다
+                cell.deferUntil(now.plus(Duration.ofMillis(retryBackoffMs)), unavailable.getReason());
+                continue;
+            }
+            if (result.error() != null) {
+                if (cell.getAttempts() + 1 < maxAttempts) {
+                    cell.retryAt(now.plus(Duration.ofMillis(retryBackoffMs << cell.getAttempts())), result.error().getMessage());
+                } else {
+                    cell.failed(result.error().getMessage());
+                    failed++;
+                }
+                continue;
+            }
+
+            tokens += result.answer().totalTokens();
+            gptLogs.add(GptLog.builder()
+                    .categoryId(cell.getCategoryId())
+                    .topicId(cell.getTopicId())
+                    .usertypeId(cell.getUsertypeId())
+                    .question(result.prompt())
+                    .answer(result.answer().content())
+                    .createdBy(run.getCreatedBy())
+                    .promptTokens(result.answer().promptTokens())
+                    .completionTokens(result.answer().completionTokens())
+                    .totalTokens(result.answer().totalTokens())
+                    .build());
+
+            // temperature 0 이라 같은 프롬프트로 재시도해도 형식이 같으므로 파싱 실패는 재시도하지 않는다
+            String content = GptAnswerParser.parse(GptJobType.TOPIC_USERTYPE, result.answer().content());
+            if (content == null) {
+                cell.failed("GPT 답변 파싱 실패");
+                failed++;
+            } else if (gptRepository.existsByTopicIdAndUserTypeId(cell.getTopicId(), cell.getUsertypeId())) {
+                cell.skipped();
+                skipped++;
+            } else {
+                Gpt gpt = gptRepository.save(Gpt.builder()
+                        .categoryId(cell.getCategoryId())
+                        .topic(topicRepository.getReferenceById(cell.getTopicId()))
+                        .userType(userTypeRepository.getReferenceById(cell.getUsertypeId()))
+                        .content(content)
+                        .createdBy(run.getCreatedBy())
+                        .build());
+                cell.done(gpt.getId());
+                succeeded++;
+            }
+        }
+        gptLogRepository.saveAll(gptLogs);
+        gptBulkRunRepository.addProgress(runId, succeeded, skipped, failed, tokens);
+    }
+
+    private void completeIfDone(Long runId) {
+        if (gptBulkCellRepository.countByRunIdAndStatusIn(runId, GptBulkCellStatus.UNFINISHED) > 0) {
+            return;
+        }
+        gptBulkRunRepository.findById(runId)
+                .filter(run -> !run.isFinished())
+                .ifPresent(run -> {
+                    run.complete();
+                    log.info("GPT 일괄 생성 완료 [{}]", runId);
+                });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    enum ChunkResult { DISPATCHED, NO_CELLS, BUDGET_EXHAUSTED }
+
+    private record Claimed(GptUsageTag tag, List<GptBulkCell> cells) {}
+
+    private record CellResult(Long cellId, String prompt, GptAnswer answer, Exception error) {}
+}
@@ -0,0 +1,125 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptBulkCell;
+import fotcamp.finhub.admin.domain.GptBulkCellStatus;
+import fotcamp.finhub.admin.domain.GptBulkRun;
+import fotcamp.finhub.admin.domain.GptBulkRunStatus;
+import fotcamp.finhub.admin.dto.request.CreateGptBulkRunRequestDto;
+import fotcamp.finhub.admin.dto.response.GptBulkRunDetailResponseDto;
+import fotcamp.finhub.admin.dto.response.GptBulkRunListResponseDto;
+import fotcamp.finhub.admin.dto.response.GptBulkRunResponseDto;
+import fotcamp.finhub.admin.repository.CategoryRepository;
+import fotcamp.finhub.admin.repository.GptBulkCellRepository;
+import fotcamp.finhub.admin.repository.GptBulkRunRepository;
+import fotcamp.finhub.admin.repository.GptRepository;
+import fotcamp.finhub.admin.repository.UserTypeRepository;
+import fotcamp.finhub.common.api.ApiResponseWrapper;
+import fotcamp.finhub.common.security.CustomUserDetails;
+import fotcamp.finhub.common.dto.process.PageInfoProcessDto;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** GPT 일괄 생성 생성/조회/취소. 실제 생성은 GptBulkRunDispatcher 가 백그라운드에서 처리한다. */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class GptBulkRunService {
+
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    private final GptRepository gptRepository;
+    private final GptBulkRunRepository gptBulkRunRepository;
+    private final GptBulkCellRepository gptBulkCellRepository;
+    private final CategoryRepository categoryRepository;
+    private final UserTypeRepository userTypeRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // Gpt 내용이 없는 (토픽, 유저타입) 셀만 적재한다. 적재가 끝나야 생성 대상이 된다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ApiResponseWrapper> createRun(CreateGptBulkRunRequestDto dto, CustomUserDetails userDetails) {
+        if (dto.categoryId() != null && !categoryRepository.existsById(dto.categoryId())) {
+            throw new EntityNotFoundException("존재하지 않는 카테고리");
+        }
+        if (dto.usertypeId() != null && !userTypeRepository.existsById(dto.usertypeId())) {
+            throw new EntityNotFoundException("존재하지 않는 유저타입");
+        }
+        // 같은 셀을 두 일괄 생성이 동시에 만들지 않도록 범위가 겹치는 진행 중 일괄 생성이 있으면 거절
+        List<Long> overlapping = gptBulkRunRepository.findOverlappingIds(
+                List.of(GptBulkRunStatus.PREPARING, GptBulkRunStatus.PENDING, GptBulkRunStatus.RUNNING), dto.categoryId(), dto.usertypeId());
+        if (!overlapping.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponseWrapper.fail("대상이 겹치는 일괄 생성이 진행 중입니다.", overlapping));
+        }
+        Long runId = gptBulkRunRepository.save(GptBulkRun.builder()
+                .categoryId(dto.categoryId())
+                .usertypeId(dto.usertypeId())
+                .createdBy(userDetails.getRole())
+                .managerId(userDetails.getMemberIdasLong())
+                .build()).getId();
+
+        List<GptBulkCell> cells = gptRepository.findMissingCells(dto.categoryId(), dto.usertypeId()).stream()
+                .map(cell -> new GptBulkCell(runId, cell.categoryId(), cell.topicId(), cell.usertypeId()))
+                .toList();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < cells.size(); from += INSERT_CHUNK_SIZE) {
+            List<GptBulkCell> chunk = cells.subList(from, Math.min(from + INSERT_CHUNK_SIZE, cells.size()));
+            transactionTemplate.executeWithoutResult(status -> gptBulkCellRepository.bulkInsert(chunk));
+        }
+
+        GptBulkRun run = transactionTemplate.execute(status -> {
+            GptBulkRun saved = gptBulkRunRepository.findById(runId).orElseThrow();
+            saved.prepared(cells.size());
+            return saved;
+        });
+        log.info("GPT 일괄 생성 [{}] 대상 {}건 적재", runId, cells.size());
+        return ResponseEntity.ok(ApiResponseWrapper.success(new GptBulkRunResponseDto(run)));
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<ApiResponseWrapper> getRunList(Pageable pageable) {
+        Page<GptBulkRun> runs = gptBulkRunRepository.findAllByOrderByIdDesc(pageable);
+        List<GptBulkRunResponseDto> runList = runs.getContent().stream().map(GptBulkRunResponseDto::new).toList();
+        PageInfoProcessDto pageInfo = new PageInfoProcessDto(runs.getNumber() + 1, runs.getTotalPages(), runs.getSize(), runs.getTotalElements());
+        return ResponseEntity.ok(ApiResponseWrapper.success(new GptBulkRunListResponseDto(runList, pageInfo)));
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<ApiResponseWrapper> getRun(Long id) {
+        GptBulkRun run = gptBulkRunRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("GPT 일괄 생성 ID가 존재하지 않습니다."));
+        Map<String, Long> statusCount = new LinkedHashMap<>();
+        for (GptBulkCellStatus status : GptBulkCellStatus.values()) {
+            statusCount.put(status.name(), 0L);
+        }
+        for (Object[] row : gptBulkCellRepository.countByStatus(id)) {
+            statusCount.put(((GptBulkCellStatus) row[0]).name(), (Long) row[1]);
+        }
+        return ResponseEntity.ok(ApiResponseWrapper.success(new GptBulkRunDetailResponseDto(new GptBulkRunResponseDto(run), statusCount)));
+    }
+
+    public ResponseEntity<ApiResponseWrapper> cancelRun(Long id) {
+        GptBulkRun run = gptBulkRunRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("GPT 일괄 생성 ID가 존재하지 않습니다."));
+        if (run.isFinished()) {
+            return ResponseEntity.badRequest().body(ApiResponseWrapper.fail("이미 종료된 일괄 생성입니다."));
+        }
+        run.cancel();
+        int canceled = gptBulkCellRepository.cancelUnfinished(id, GptBulkCellStatus.UNFINISHED, GptBulkCellStatus.FAILED);
+        log.info("GPT 일괄 생성 취소 [{}] 미생성 {}건", id, canceled);
+        return ResponseEntity.ok(ApiResponseWrapper.success(new GptBulkRunResponseDto(run)));
+    }
+}
@@ -0,0 +1,202 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptJob;
+import fotcamp.finhub.admin.domain.GptJobStatus;
+import fotcamp.finhub.admin.domain.GptLog;
+import fotcamp.finhub.admin.dto.response.GptJobResponseDto;
+import fotcamp.finhub.admin.repository.GptJobRepository;
+import fotcamp.finhub.admin.repository.GptLogRepository;
+import fotcamp.finhub.common.exception.GptBudgetExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GPT 작업 실행기
+ * 동시 실행 수(gpt.job.concurrency)와 대기열 크기(gpt.job.queue-capacity)가 고정된 풀에서 작업을 실행한다.
+ * GPT 호출은 트랜잭션 밖에서 하고, 상태 변경과 GptLog 저장만 짧은 트랜잭션으로 처리해 DB 커넥션을 오래 잡지 않는다.
+ * 노드마다 ID 를 두고 자기 노드의 대기/실행 중 작업에 heartbeat 를 남긴다.
+ * heartbeat 가 끊긴 작업(노드 종료)과 running-timeout 을 넘긴 작업만 주기적으로 FAILED 처리하므로,
+ * 살아있는 노드의 대기열에서 순서를 기다리는 작업은 오래 기다려도 실패 처리되지 않는다.
+ * heartbeat 와 정리는 전용 스케줄러 스레드(gpt-job-liveness)에서 돈다. 기본 @Scheduled 스레드는 하나뿐이라
+ * 일괄 생성/푸시 캠페인 dispatch 가 몇 분씩 잡고 있으면 heartbeat 가 node-timeout 을 넘겨 살아있는 노드의 작업이 실패 처리되기 때문이다.
+ */
+@Slf4j
+@Component
+public class GptJobExecutor implements InitializingBean, DisposableBean {
+
+    private final GptService gptService;
+    private final GptJobRepository gptJobRepository;
+    private final GptLogRepository gptLogRepository;
+    private final GptJobStreamHub gptJobStreamHub;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService liveness = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gpt-job-liveness");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${gpt.job.running-timeout-ms:900000}")
+    private long runningTimeoutMs;
+    @Value("${gpt.job.node-timeout-ms:180000}")
+    private long nodeTimeoutMs;
+    @Value("${gpt.job.heartbeat-interval-ms:30000}")
+    private long heartbeatIntervalMs;
+    @Value("${gpt.job.sweep-interval-ms:60000}")
+    private long sweepIntervalMs;
+
+    public GptJobExecutor(GptService gptService, GptJobRepository gptJobRepository, GptLogRepository gptLogRepository,
+                          GptJobStreamHub gptJobStreamHub, PlatformTransactionManager transactionManager,
+                          @Value("${gpt.job.concurrency:4}") int concurrency,
+                          @Value("${gpt.job.queue-capacity:100}") int queueCapacity) {
+        this.gptService = gptService;
+        this.gptJobRepository = gptJobRepository;
+        this.gptLogRepository = gptLogRepository;
+        this.gptJobStreamHub = gptJobStreamHub;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "gpt-job-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * @return 대기열이 가득 차 실행을 예약하지 못하면 false
+     */
+    public boolean submit(Long jobId) {
+        try {
+            executor.execute(() -> run(jobId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int queuedCount() {
+        return executor.getQueue().size();
+    }
+
+    void run(Long jobId) {
+        GptJob job = transactionTemplate.execute(status -> gptJobRepository.findById(jobId)
+                .filter(GptJob::start)
+                .orElse(null));
+        if (job == null) {
+            gptJobStreamHub.close(jobId, gptJobRepository.findById(jobId).map(GptJobResponseDto::new).orElse(null));
+            return;
+        }
+
+        GptAnswerParser parser = GptAnswerParser.of(job.getType());
+        GptUsageTag tag = GptUsageTag.job(job.getType(), job.getManagerId(), job.getCreatedBy());
+        GptAnswer gptAnswer;
+        try {
+            gptAnswer = job.isStream()
+                    ? gptService.stream(job.getPrompt(), job.isRegenerate(), tag, job.getType(), delta -> gptJobStreamHub.publish(jobId, parser.feed(delta)))
+                    : gptService.generate(job.getPrompt(), job.isRegenerate(), tag, job.getType());
+        } catch (Exception e) {
+            log.warn("GPT 작업 [{}] 호출 실패 : {}", jobId, e.getMessage());
+            String errorMessage = e instanceof GptBudgetExceededException budget
+                    ? "BUDGET_EXCEEDED_" + budget.getPeriod()
+                    : "GPT 호출 실패 : " + e.getMessage();
+            GptJobResponseDto failed = transactionTemplate.execute(status -> gptJobRepository.findById(jobId)
+                    .map(saved -> {
+                        if (!saved.fail(errorMessage, null, null)) {
+                            log.warn("GPT 작업 [{}] 이미 {} 상태라 실패 결과를 반영하지 않음", jobId, saved.getStatus());
+                        }
+                        return new GptJobResponseDto(saved);
+                    })
+                    .orElse(null));
+            gptJobStreamHub.close(jobId, failed);
+            return;
+        }
+
+        String answer = gptAnswer.content();
+        GptJobResponseDto finished = transactionTemplate.execute(status -> {
+            GptJob saved = gptJobRepository.findById(jobId).orElseThrow();
+            Long gptLogId = null;
+            if (saved.getType().isLogged()) {
+                gptLogId = gptLogRepository.save(GptLog.builder()
+                        .categoryId(saved.getCategoryId())
+                        .topicId(saved.getTopicId())
+                        .usertypeId(saved.getUsertypeId())
+                        .question(saved.getPrompt())
+                        .answer(answer)
+                        .createdBy(saved.getCreatedBy())
+                        .promptTokens(gptAnswer.promptTokens())
+                        .completionTokens(gptAnswer.completionTokens())
+                        .totalTokens(gptAnswer.totalTokens())
+                        .build()).getId();
+            }
+            String result = saved.isStream() ? parser.finish() : GptAnswerParser.parse(saved.getType(), answer);
+            boolean applied = result == null
+                    ? saved.fail("GPT 답변 파싱 실패", answer, gptLogId)
+                    : saved.complete(result, answer, gptLogId);
+            if (!applied) {
+                log.warn("GPT 작업 [{}] 이미 {} 상태라 결과를 반영하지 않음", jobId, saved.getStatus());
+            }
+            return new GptJobResponseDto(saved);
+        });
+        gptJobStreamHub.close(jobId, finished);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        liveness.scheduleWithFixedDelay(() -> runQuietly("heartbeat", this::heartbeat), 0, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        liveness.scheduleWithFixedDelay(() -> runQuietly("정리", this::failStaleJobs), 0, sweepIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 예외가 나면 ScheduledExecutorService 가 이후 실행을 멈추므로 로그만 남기고 삼킨다
+    private void runQuietly(String name, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("GPT 작업 {} 실패", name, e);
+        }
+    }
+
+    public void heartbeat() {
+        transactionTemplate.executeWithoutResult(status -> gptJobRepository.touchOwned(
+                nodeId, List.of(GptJobStatus.PENDING, GptJobStatus.RUNNING), LocalDateTime.now()));
+    }
+
+    public void failStaleJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = transactionTemplate.execute(status -> gptJobRepository.failStale(
+                List.of(GptJobStatus.PENDING, GptJobStatus.RUNNING), now.minus(Duration.ofMillis(nodeTimeoutMs)),
+                GptJobStatus.RUNNING, now.minus(Duration.ofMillis(runningTimeoutMs)),
+                GptJobStatus.FAILED, "INTERRUPTED", now));
+        if (failed > 0) {
+            log.warn("끝나지 못한 GPT 작업 {}건 실패 처리", failed);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        liveness.shutdownNow();
+        executor.shutdownNow();
+    }
+}
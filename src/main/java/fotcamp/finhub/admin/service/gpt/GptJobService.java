@@ -0,0 +1,115 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptJob;
+import fotcamp.finhub.admin.dto.request.CreateGptColumnRequestDto;
+import fotcamp.finhub.admin.dto.request.CreateGptContentRequestDto;
+import fotcamp.finhub.admin.dto.request.CreateTopicSummaryGptContentRequestDto;
+import fotcamp.finhub.admin.dto.response.GptJobResponseDto;
+import fotcamp.finhub.admin.repository.GptJobRepository;
+import fotcamp.finhub.common.api.ApiResponseWrapper;
+import fotcamp.finhub.common.security.CustomUserDetails;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/** GPT 작업 접수/조회. 접수는 작업 ID 만 반환하고 실제 호출은 GptJobExecutor 가 처리한다. */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class GptJobService {
+
+    private final GptPromptBuilder gptPromptBuilder;
+    private final GptJobRepository gptJobRepository;
+    private final GptJobExecutor gptJobExecutor;
+    private final GptJobStreamHub gptJobStreamHub;
+    private final GptUsageMeter gptUsageMeter;
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ApiResponseWrapper> submitTopicUsertype(CreateGptContentRequestDto dto, boolean regenerate, boolean stream, CustomUserDetails userDetails) {
+        return submit(gptPromptBuilder.topicUsertype(dto.categoryId(), dto.topicId(), dto.usertypeId()), regenerate, stream, userDetails);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ApiResponseWrapper> submitTopicSummary(CreateTopicSummaryGptContentRequestDto dto, boolean regenerate, boolean stream, CustomUserDetails userDetails) {
+        return submit(gptPromptBuilder.topicSummary(dto.id()), regenerate, stream, userDetails);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ApiResponseWrapper> submitColumnContent(CreateGptColumnRequestDto dto, boolean regenerate, boolean stream, CustomUserDetails userDetails) {
+        return submit(gptPromptBuilder.columnContent(dto.subject()), regenerate, stream, userDetails);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ApiResponseWrapper> submitColumnSummary(CreateGptColumnRequestDto dto, boolean regenerate, boolean stream, CustomUserDetails userDetails) {
+        return submit(gptPromptBuilder.columnSummary(dto.subject()), regenerate, stream, userDetails);
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<ApiResponseWrapper> getJob(Long id) {
+        GptJob job = gptJobRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("GPT 작업 ID가 존재하지 않습니다."));
+        return ResponseEntity.ok(ApiResponseWrapper.success(new GptJobResponseDto(job)));
+    }
+
+    /**
+     * 스트리밍 작업(stream=true)을 실행 중인 노드면 답변 조각을 이어서 보낸다.
+     * 아니면 현재 상태를 한 번 보내고 닫으며, 끝나지 않은 작업은 GET /{id} 로 폴링한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribe(Long id) {
+        SseEmitter emitter = gptJobStreamHub.subscribe(id);
+        if (emitter != null) {
+            return emitter;
+        }
+        GptJob job = gptJobRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("GPT 작업 ID가 존재하지 않습니다."));
+        SseEmitter snapshot = new SseEmitter();
+        try {
+            snapshot.send(SseEmitter.event().name(job.isFinished() ? "done" : "status").data(new GptJobResponseDto(job)));
+            snapshot.complete();
+        } catch (IOException e) {
+            snapshot.completeWithError(e);
+        }
+        return snapshot;
+    }
+
+    // 작업 행이 커밋된 뒤에 실행을 예약해야 실행 스레드가 작업을 찾을 수 있다
+    // 예산을 넘었으면 작업을 만들지 않고 바로 거절한다 (429)
+    private ResponseEntity<ApiResponseWrapper> submit(GptPromptRequest request, boolean regenerate, boolean stream, CustomUserDetails userDetails) {
+        gptUsageMeter.checkBudget();
+        GptJob job = gptJobRepository.save(GptJob.builder()
+                .type(request.type())
+                .categoryId(request.categoryId())
+                .topicId(request.topicId())
+                .usertypeId(request.usertypeId())
+                .prompt(request.prompt())
+                .regenerate(regenerate)
+                .stream(stream)
+                .createdBy(userDetails.getRole())
+                .managerId(userDetails.getMemberIdasLong())
+                .ownerNode(gptJobExecutor.getNodeId())
+                .build());
+
+        if (stream) {
+            gptJobStreamHub.open(job.getId());
+        }
+        if (!gptJobExecutor.submit(job.getId())) {
+            job.reject("QUEUE_FULL");
+            gptJobRepository.save(job);
+            gptJobStreamHub.close(job.getId(), new GptJobResponseDto(job));
+            log.warn("GPT 작업 대기열 초과로 작업 [{}] 거절", job.getId());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponseWrapper.fail("GPT 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요.", new GptJobResponseDto(job)));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponseWrapper.success(new GptJobResponseDto(job)));
+    }
+}
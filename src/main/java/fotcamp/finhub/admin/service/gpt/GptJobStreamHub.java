@@ -0,0 +1,112 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.dto.response.GptJobResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 스트리밍 GPT 작업의 답변 조각을 구독자(SSE)에게 전달한다.
+ * 작업을 실행하는 노드의 메모리에만 있으므로, 다른 노드에서 구독하면 조각 없이 완료 상태만 폴링해야 한다.
+ * 늦게 구독해도 지금까지 받은 내용을 먼저 보내고 이어서 전달한다.
+ * 이벤트 : delta (내용 조각), done (최종 작업 상태)
+ */
+@Slf4j
+@Component
+public class GptJobStreamHub {
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    @Value("${gpt.stream.timeout-ms:660000}")
+    private long timeoutMs;
+
+    // 작업 접수 시 열어 두어야 실행 전에 구독한 요청도 조각을 받는다
+    public void open(Long jobId) {
+        channels.putIfAbsent(jobId, new Channel());
+    }
+
+    /** @return 이 노드에서 스트리밍 중인 작업이 아니면 null */
+    public SseEmitter subscribe(Long jobId) {
+        Channel channel = channels.get(jobId);
+        if (channel == null) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitter.onCompletion(() -> channel.remove(emitter));
+        emitter.onTimeout(() -> channel.remove(emitter));
+        emitter.onError(e -> channel.remove(emitter));
+        channel.add(emitter);
+        return emitter;
+    }
+
+    public void publish(Long jobId, String delta) {
+        Channel channel = channels.get(jobId);
+        if (channel != null && !delta.isEmpty()) {
+            channel.publish(delta);
+        }
+    }
+
+    public void close(Long jobId, GptJobResponseDto job) {
+        Channel channel = channels.remove(jobId);
+        if (channel != null) {
+            channel.close(job);
+        }
+    }
+
+    private static class Channel {
+        private final StringBuilder content = new StringBuilder();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>(); // 전송 실패 콜백이 목록을 수정할 수 있음
+        private GptJobResponseDto finished;
+        private boolean closed;
+
+        synchronized void add(SseEmitter emitter) {
+            if (!content.isEmpty() && !send(emitter, "delta", content.toString())) {
+                return;
+            }
+            if (closed) { // 닫히는 중에 구독
+                if (finished == null || send(emitter, "done", finished)) {
+                    emitter.complete();
+                }
+                return;
+            }
+            emitters.add(emitter);
+        }
+
+        synchronized void remove(SseEmitter emitter) {
+            emitters.remove(emitter);
+        }
+
+        synchronized void publish(String delta) {
+            content.append(delta);
+            emitters.removeIf(emitter -> !send(emitter, "delta", delta));
+        }
+
+        synchronized void close(GptJobResponseDto job) {
+            finished = job;
+            closed = true;
+            for (SseEmitter emitter : emitters) {
+                if (job == null || send(emitter, "done", job)) {
+                    emitter.complete();
+                }
+            }
+            emitters.clear();
+        }
+
+        private boolean send(SseEmitter emitter, String name, Object data) {
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fotcamp.finhub.admin.domain.GptLog;
+import fotcamp.finhub.admin.repository.GptLogRepository;
+import fotcamp.finhub.common.service.AwsS3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GPT 로그 보관 정리
+ * 1. 압축 저장 이전의 평문 로그를 batch 단위로 압축 컬럼으로 옮긴다.
+ * 2. gpt.log.retention-days 가 지난 로그를 id 구간(batch-size 단위로 고정, [n * batch, (n + 1) * batch)) 별로
+ *    생성일별 gzip JSON Lines 파일로 S3 에 올리고 DB 에서 삭제한다.
+ *    key : {gpt.log.archive-prefix}/dt=yyyy-MM-dd/gpt-log-{구간 시작 id}-{구간 끝 id}.jsonl.gz
+ *    구간 안의 로그가 모두 보관 기간을 지났고 다음 구간에 로그가 생긴(더 이상 추가되지 않는) 구간만 옮기므로,
+ *    업로드 후 삭제 전에 실패해도 다음 실행에서 같은 로그를 같은 key 로 다시 올려 덮어쓴다.
+ *    구간이 batch-size 로 정해지므로 삭제가 끝나지 않은 구간이 있을 때 batch-size 를 바꾸지 않는다.
+ */
+@Slf4j
+@Component
+public class GptLogArchiver {
+
+    private final GptLogRepository gptLogRepository;
+    private final AwsS3Service awsS3Service;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${gpt.log.retention-days:180}")
+    private long retentionDays;
+    @Value("${gpt.log.archive-batch-size:1000}")
+    private int batchSize;
+    @Value("${gpt.log.archive-prefix:gpt-log-archive}")
+    private String archivePrefix;
+
+    public GptLogArchiver(GptLogRepository gptLogRepository, AwsS3Service awsS3Service, ObjectMapper objectMapper,
+                          PlatformTransactionManager transactionManager) {
+        this.gptLogRepository = gptLogRepository;
+        this.awsS3Service = awsS3Service;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${gpt.log.archive-cron:0 0 3 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        log.info("GPT 로그 평문 압축 {}건", compressLegacy());
+        if (retentionDays > 0) {
+            log.info("GPT 로그 보관 이전 {}건", archive(LocalDateTime.now().minusDays(retentionDays)));
+        }
+    }
+
+    int compressLegacy() {
+        int compressed = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> ids = gptLogRepository.findUncompressedIds(PageRequest.of(0, batchSize));
+                gptLogRepository.findAllById(ids).forEach(GptLog::compress);
+                return ids.size();
+            });
+            if (count == null || count == 0) {
+                return compressed;
+            }
+            compressed += count;
+        }
+    }
+
+    int archive(LocalDateTime cutoff) {
+        int archived = 0;
+        while (true) {
+            Long oldestId = gptLogRepository.findMinIdCreatedBefore(cutoff);
+            if (oldestId == null) {
+                return archived;
+            }
+            long from = oldestId / batchSize * batchSize;
+            long to = from + batchSize;
+            // 아직 로그가 추가될 수 있는 마지막 구간은 두고, 다음 실행에서 옮긴다
+            if (!gptLogRepository.existsByIdGreaterThanEqual(to)) {
+                return archived;
+            }
+            List<Long> ids = gptLogRepository.findIdsBetween(from, to);
+            // 본문을 푸는 동안만 엔티티를 읽고, 업로드는 트랜잭션 밖에서 한다
+            List<ArchivedGptLog> logs = transactionTemplate.execute(status -> gptLogRepository.findAllById(ids).stream()
+                    .map(ArchivedGptLog::new)
+                    .toList());
+            if (logs.stream().anyMatch(archivedLog -> !archivedLog.createdTime().isBefore(cutoff))) {
+                return archived; // 구간 일부가 아직 보관 기간 안이면 구간 전체를 다음에 옮긴다
+            }
+            Map<LocalDate, List<ArchivedGptLog>> byDate = logs.stream()
+                    .collect(Collectors.groupingBy(archivedLog -> archivedLog.createdTime().toLocalDate(), TreeMap::new, Collectors.toList()));
+            byDate.forEach((date, dateLogs) -> upload(date, from, to - 1, dateLogs));
+
+            transactionTemplate.executeWithoutResult(status -> gptLogRepository.deleteByIdIn(ids));
+            archived += ids.size();
+        }
+    }
+
+    private void upload(LocalDate date, long firstId, long lastId, List<ArchivedGptLog> logs) {
+        String key = archivePrefix + "/dt=" + date + "/gpt-log-" + firstId + "-" + lastId + ".jsonl.gz";
+        awsS3Service.uploadBytes(key, toGzipJsonLines(logs), "application/gzip");
+    }
+
+    private byte[] toGzipJsonLines(List<ArchivedGptLog> logs) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (ArchivedGptLog archivedLog : logs) {
+                writer.write(objectMapper.writeValueAsString(archivedLog));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private record ArchivedGptLog(Long id, Long categoryId, Long topicId, Long usertypeId, String question, String answer,
+                                  String createdBy, LocalDateTime createdTime,
+                                  Long promptTokens, Long completionTokens, Long totalTokens) {
+
+        ArchivedGptLog(GptLog gptLog) {
+            this(gptLog.getId(), gptLog.getCategoryId(), gptLog.getTopicId(), gptLog.getUsertypeId(),
+                    gptLog.getQuestion(), gptLog.getAnswer(), gptLog.getCreatedBy(), gptLog.getCreatedTime(),
+                    gptLog.getPromptTokens(), gptLog.getCompletionTokens(), gptLog.getTotalTokens());
+        }
+    }
+}
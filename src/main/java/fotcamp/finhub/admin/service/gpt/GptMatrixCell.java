@@ -0,0 +1,5 @@
+package fotcamp.finhub.admin.service.gpt;
+
+/** Gpt 내용이 없는 (토픽, 유저타입) 조합 */
+public record GptMatrixCell(Long categoryId, Long topicId, Long usertypeId) {
+}
@@ -0,0 +1,138 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptJobType;
+import fotcamp.finhub.admin.domain.GptPrompt;
+import fotcamp.finhub.admin.repository.CategoryRepository;
+import fotcamp.finhub.admin.repository.GptPromptRepository;
+import fotcamp.finhub.admin.repository.TopicRepository;
+import fotcamp.finhub.admin.repository.UserTypeRepository;
+import fotcamp.finhub.common.domain.Category;
+import fotcamp.finhub.common.domain.Topic;
+import fotcamp.finhub.common.domain.UserType;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GPT 작업 종류별 프롬프트 생성. 동기 API 와 비동기 작업이 같은 프롬프트를 쓰도록 한 곳에 모았다.
+ * 토픽 유저타입 프롬프트는 최신 GptPrompt 를 한 번 컴파일해 캐시하고, 프롬프트 저장 시 버린다.
+ */
+@Component
+public class GptPromptBuilder {
+
+    public static final String SLOT_CATEGORY = "category";
+    public static final String SLOT_TOPIC = "topic";
+    public static final String SLOT_USERTYPE = "usertype";
+    public static final String SLOT_DEFINITION = "definition";
+    public static final String SLOT_SUMMARY = "summary";
+
+    private final CategoryRepository categoryRepository;
+    private final TopicRepository topicRepository;
+    private final UserTypeRepository userTypeRepository;
+    private final GptPromptRepository gptPromptRepository;
+
+    private final Map<String, String> placeholders = new LinkedHashMap<>(); // 슬롯 이름 -> 약속 단어
+    private final long templateTtlMs;
+    private volatile CachedTemplate active;
+
+    public GptPromptBuilder(CategoryRepository categoryRepository, TopicRepository topicRepository,
+                            UserTypeRepository userTypeRepository, GptPromptRepository gptPromptRepository,
+                            @Value("${promise.category}") String promiseCategory,
+                            @Value("${promise.topic}") String promiseTopic,
+                            @Value("${promise.usertype}") String promiseUsertype,
+                            @Value("${promise.definition:%definition%}") String promiseDefinition,
+                            @Value("${promise.summary:%summary%}") String promiseSummary,
+                            @Value("${gpt.prompt.template-ttl-ms:60000}") long templateTtlMs) {
+        this.categoryRepository = categoryRepository;
+        this.topicRepository = topicRepository;
+        this.userTypeRepository = userTypeRepository;
+        this.gptPromptRepository = gptPromptRepository;
+        this.placeholders.put(SLOT_CATEGORY, promiseCategory);
+        this.placeholders.put(SLOT_TOPIC, promiseTopic);
+        this.placeholders.put(SLOT_USERTYPE, promiseUsertype);
+        this.placeholders.put(SLOT_DEFINITION, promiseDefinition);
+        this.placeholders.put(SLOT_SUMMARY, promiseSummary);
+        this.templateTtlMs = templateTtlMs;
+    }
+
+    // 슬롯 이름 -> 약속 단어 (관리자 화면 안내용)
+    public Map<String, String> getPlaceholders() {
+        return Collections.unmodifiableMap(placeholders);
+    }
+
+    /**
+     * 캐시된 최신 프롬프트 템플릿을 버린다. 프롬프트 저장 트랜잭션 안이면 커밋 뒤에 버려,
+     * 커밋 전에 다른 요청이 이전 프롬프트를 다시 캐시하지 않게 한다. 다른 노드는 gpt.prompt.template-ttl-ms 뒤에 반영된다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    active = null;
+                }
+            });
+        }
+        active = null;
+    }
+
+    // 최신 프롬프트의 약속 단어를 카테고리/토픽/유저타입 이름, 토픽 정의/요약으로 치환
+    public GptPromptRequest topicUsertype(Long categoryId, Long topicId, Long usertypeId) {
+        Topic topic = topicRepository.findById(topicId).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 토픽"));
+        UserType userType = userTypeRepository.findById(usertypeId).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 유저타입"));
+        Category category = categoryRepository.findById(categoryId).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 카테고리"));
+
+        Map<String, String> values = new HashMap<>();
+        values.put(SLOT_CATEGORY, category.getName());
+        values.put(SLOT_TOPIC, topic.getTitle());
+        values.put(SLOT_USERTYPE, userType.getName());
+        values.put(SLOT_DEFINITION, topic.getDefinition());
+        values.put(SLOT_SUMMARY, topic.getSummary());
+        String prompt = activeTemplate().render(values);
+        return new GptPromptRequest(GptJobType.TOPIC_USERTYPE, prompt, category.getId(), topic.getId(), userType.getId());
+    }
+
+    public GptPromptRequest topicSummary(Long topicId) {
+        Topic topic = topicRepository.findById(topicId).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 토픽"));
+        return GptPromptRequest.of(GptJobType.TOPIC_SUMMARY, summaryPrompt(topic.getTitle()));
+    }
+
+    public GptPromptRequest columnContent(String subject) {
+        String prompt = subject + "에 대해서 한 페이지 정도 분량의 저널을 작성해줘. \n" +
+                "너가 가진 금융지식을 이용해서 분석적으로 작성해줘. \n" +
+                "소제목은 굵게 처리해주면 좋겠어 \n" +
+                "답변 형식은 html 코드 형식으로 반환해줘";
+        return GptPromptRequest.of(GptJobType.COLUMN_CONTENT, prompt);
+    }
+
+    public GptPromptRequest columnSummary(String subject) {
+        return GptPromptRequest.of(GptJobType.COLUMN_SUMMARY, summaryPrompt(subject));
+    }
+
+    private GptPromptTemplate activeTemplate() {
+        CachedTemplate cached = active;
+        long now = System.currentTimeMillis();
+        if (cached == null || cached.expiresAt() <= now) {
+            GptPrompt gptPrompt = gptPromptRepository.findFirstByOrderByIdDesc().orElseThrow(() -> new EntityNotFoundException("프롬프트가 존재하지 않음"));
+            cached = new CachedTemplate(GptPromptTemplate.compile(gptPrompt.getPrompt(), placeholders), now + templateTtlMs);
+            active = cached;
+        }
+        return cached.template();
+    }
+
+    private String summaryPrompt(String subject) {
+        return subject + "을 한 문장으로 요약해줘. \n" +
+                "아래 답변 형식을 꼭 지켜서 답변해줘. \n" +
+                "[답변형식]\n" +
+                "[요약] : ";
+    }
+
+    private record CachedTemplate(GptPromptTemplate template, long expiresAt) {}
+}
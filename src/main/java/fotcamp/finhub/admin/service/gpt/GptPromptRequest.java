@@ -0,0 +1,11 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptJobType;
+
+/** 완성된 프롬프트와 GptLog 기록에 필요한 대상 ID */
+public record GptPromptRequest(GptJobType type, String prompt, Long categoryId, Long topicId, Long usertypeId) {
+
+    public static GptPromptRequest of(GptJobType type, String prompt) {
+        return new GptPromptRequest(type, prompt, null, null, null);
+    }
+}
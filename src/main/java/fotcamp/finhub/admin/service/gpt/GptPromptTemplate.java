@@ -0,0 +1,69 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 치환 위치를 미리 찾아 둔 프롬프트 템플릿
+ * 약속 단어(placeholder)를 정규식이 아닌 문자 그대로 찾아, 고정 문자열 조각과 슬롯의 배열로 나눠 둔다.
+ * 렌더링은 조각을 이어 붙이기만 하므로 요청마다 정규식 컴파일/치환 비용이 없고, 값에 $ 나 \ 가 있어도 안전하다.
+ */
+public final class GptPromptTemplate {
+
+    private final String[] literals; // literals[i] 다음에 slots[i] 가 온다 (literals 가 하나 더 많다)
+    private final String[] slots;
+    private final int literalLength;
+
+    private GptPromptTemplate(List<String> literals, List<String> slots) {
+        this.literals = literals.toArray(String[]::new);
+        this.slots = slots.toArray(String[]::new);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * @param placeholders 슬롯 이름 -> 프롬프트에 쓰인 약속 단어. 같은 위치면 더 긴 약속 단어를 우선한다
+     */
+    public static GptPromptTemplate compile(String text, Map<String, String> placeholders) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int from = 0;
+        while (true) {
+            int matchAt = -1;
+            String matchSlot = null;
+            String matchPlaceholder = null;
+            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+                String placeholder = entry.getValue();
+                if (placeholder == null || placeholder.isEmpty()) {
+                    continue;
+                }
+                int at = text.indexOf(placeholder, from);
+                if (at != -1 && (matchAt == -1 || at < matchAt || (at == matchAt && placeholder.length() > matchPlaceholder.length()))) {
+                    matchAt = at;
+                    matchSlot = entry.getKey();
+                    matchPlaceholder = placeholder;
+                }
+            }
+            if (matchAt == -1) {
+                literals.add(text.substring(from));
+                return new GptPromptTemplate(literals, slots);
+            }
+            literals.add(text.substring(from, matchAt));
+            slots.add(matchSlot);
+            from = matchAt + matchPlaceholder.length();
+        }
+    }
+
+    /** 값이 없는 슬롯은 빈 문자열로 채운다 */
+    public String render(Map<String, String> values) {
+        StringBuilder prompt = new StringBuilder(literalLength + slots.length * 32);
+        for (int i = 0; i < slots.length; i++) {
+            prompt.append(literals[i]);
+            String value = values.get(slots[i]);
+            if (value != null) {
+                prompt.append(value);
+            }
+        }
+        return prompt.append(literals[slots.length]).toString();
+    }
+}
@@ -0,0 +1,111 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptCachedResponse;
+import fotcamp.finhub.admin.repository.GptCachedResponseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * GPT 응답 캐시 (DB 저장, 노드 간 공유)
+ * 키는 모델, 시스템 메시지, 프롬프트의 sha-256 이다. 저장(cachedAt) 후 gpt.cache.ttl-days 가 지난 항목은 미스로 보고 다시 생성한다.
+ * finhub.gpt.cache.requests(result=hit|miss|bypass) 와 finhub.gpt.cache.saved.tokens 로 적중률과 절약 토큰을 기록한다.
+ */
+@Slf4j
+@Component
+public class GptResponseCache {
+
+    private static final String REQUEST_METRIC = "finhub.gpt.cache.requests";
+
+    private final GptCachedResponseRepository gptCachedResponseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+    private final Counter savedTokenCounter;
+
+    @Value("${gpt.cache.enabled:true}")
+    private boolean enabled;
+    @Value("${gpt.cache.ttl-days:30}")
+    private long ttlDays;
+
+    public GptResponseCache(GptCachedResponseRepository gptCachedResponseRepository,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.gptCachedResponseRepository = gptCachedResponseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hitCounter = Counter.builder(REQUEST_METRIC).tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(REQUEST_METRIC).tag("result", "miss").register(meterRegistry);
+        this.bypassCounter = Counter.builder(REQUEST_METRIC).tag("result", "bypass").register(meterRegistry);
+        this.savedTokenCounter = Counter.builder("finhub.gpt.cache.saved.tokens").register(meterRegistry);
+    }
+
+    public static String key(String model, String systemMessage, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[]{model, systemMessage, prompt}) {
+                byte[] bytes = part.getBytes(StandardCharsets.UTF_8);
+                digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8)); // 구분자 충돌 방지용 길이 접두사
+                digest.update((byte) ':');
+                digest.update(bytes);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** @param bypass true 면 조회하지 않는다 (강제 재생성) */
+    public Optional<GptAnswer> find(String key, boolean bypass) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        if (bypass) {
+            bypassCounter.increment();
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Optional<GptCachedResponse> cached = gptCachedResponseRepository.findByCacheKey(key)
+                .filter(response -> response.isFresh(now.minusDays(ttlDays)));
+        if (cached.isEmpty()) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        GptCachedResponse response = cached.get();
+        transactionTemplate.executeWithoutResult(status -> gptCachedResponseRepository.recordHit(response.getId(), now));
+        hitCounter.increment();
+        savedTokenCounter.increment(response.getTotalTokens());
+        return Optional.of(GptAnswer.cached(response.getAnswer()));
+    }
+
+    public void put(String key, String model, GptAnswer answer) {
+        if (!enabled || answer.content() == null || answer.content().isBlank()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> gptCachedResponseRepository.findByCacheKey(key).ifPresentOrElse(
+                    response -> response.replace(answer.content(), answer.promptTokens(), answer.completionTokens(), answer.totalTokens()),
+                    () -> gptCachedResponseRepository.save(GptCachedResponse.builder()
+                            .cacheKey(key)
+                            .model(model)
+                            .answer(answer.content())
+                            .promptTokens(answer.promptTokens())
+                            .completionTokens(answer.completionTokens())
+                            .totalTokens(answer.totalTokens())
+                            .build())));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("GPT 응답 캐시 동시 저장 [{}]", key); // 같은 프롬프트를 다른 요청이 먼저 저장함
+        }
+    }
+}
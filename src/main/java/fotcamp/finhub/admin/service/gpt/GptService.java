@@ -1,31 +1,148 @@
 package fotcamp.finhub.admin.service.gpt;
 
+import com.theokanning.openai.completion.chat.ChatCompletionChoice;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
 import com.theokanning.openai.completion.chat.ChatCompletionResult;
 import com.theokanning.openai.completion.chat.ChatMessage;
 import com.theokanning.openai.service.OpenAiService;
-import fotcamp.finhub.admin.repository.GptLogRepository;
-import lombok.RequiredArgsConstructor;
+import fotcamp.finhub.admin.domain.GptJobType;
+import fotcamp.finhub.common.exception.ExternalServiceUnavailableException;
+import fotcamp.finhub.common.http.ExternalCallGuard;
+import fotcamp.finhub.common.http.OutboundDestination;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * GPT 호출. 관리자 동기 API(sync 태그) 호출은 gpt.sync.max-concurrent-calls 로 따로 묶는다.
+ * OPENAI 벌크헤드는 일괄 생성 + 비동기 작업 + 동기 API 몫의 합이라, 동기 API 가 몰려도 자기 몫 이상으로 자리를 차지하지 않게 한다.
+ */
 @Service
-@RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class GptService {
+    private static final String MODEL = "gpt-4-turbo-preview";
+    private static final String SYSTEM_MESSAGE = "You are a teacher who teaches financial knowledge.";
+
+    // 프롬프트 길이로 스트리밍 응답의 입력 토큰을 추정할 때 쓰는 글자 수 (한글 위주 프롬프트 기준)
+    private static final int CHARS_PER_PROMPT_TOKEN = 2;
+
     private final OpenAiService openAiService;
-    private final GptLogRepository gptLogRepository;
+    private final ExternalCallGuard externalCallGuard;
+    private final GptResponseCache gptResponseCache;
+    private final GptUsageMeter gptUsageMeter;
+    private final Semaphore syncPermits;
+    private final long syncMaxWaitMs;
+
+    public GptService(OpenAiService openAiService, ExternalCallGuard externalCallGuard, GptResponseCache gptResponseCache,
+                      GptUsageMeter gptUsageMeter,
+                      @Value("${gpt.sync.max-concurrent-calls:4}") int syncMaxConcurrentCalls,
+                      @Value("${gpt.sync.max-wait-ms:30000}") long syncMaxWaitMs) {
+        this.openAiService = openAiService;
+        this.externalCallGuard = externalCallGuard;
+        this.gptResponseCache = gptResponseCache;
+        this.gptUsageMeter = gptUsageMeter;
+        this.syncPermits = new Semaphore(syncMaxConcurrentCalls, true);
+        this.syncMaxWaitMs = syncMaxWaitMs;
+    }
+
+    /**
+     * GPT 답변과 토큰 사용량 반환. 같은 프롬프트의 답변은 캐시에서 꺼낸다.
+     * 응답까지 수십 초 걸릴 수 있어 트랜잭션(DB 커넥션)을 잡지 않는다.
+     * 캐시에 없으면 예산을 확인하고 호출하며, 사용량은 tag 기준으로 기록한다.
+     * 답변은 type 형식으로 파싱될 때만 캐시한다 (형식이 틀린 답변을 TTL 동안 계속 돌려주지 않도록).
+     * @param regenerate true 면 캐시를 건너뛰고 새로 생성해 캐시를 교체한다
+     */
+    public GptAnswer generate(String prompt, boolean regenerate, GptUsageTag tag, GptJobType type) {
+        String cacheKey = GptResponseCache.key(MODEL, SYSTEM_MESSAGE, prompt);
+        Optional<GptAnswer> cached = gptResponseCache.find(cacheKey, regenerate);
+        if (cached.isPresent()) {
+            gptUsageMeter.record(tag, cached.get());
+            return cached.get();
+        }
+        gptUsageMeter.checkBudget();
+        GptAnswer answer = limited(tag, () -> complete(prompt));
+        gptUsageMeter.record(tag, answer);
+        cacheIfParsable(cacheKey, type, answer);
+        return answer;
+    }
 
-    // GPT 답변 반환
-    public String returnGptAnswer(String prompt) {
-        ChatCompletionResult chatCompletion = openAiService.createChatCompletion(onlyPrompt(prompt));
+    /**
+     * 스트리밍 API 로 답변을 받으며 조각마다 onDelta 를 호출하고, 끝나면 합친 답변을 반환한다.
+     * 캐시에 있으면 답변 전체를 한 조각으로 넘긴다.
+     * 스트리밍 응답에는 토큰 사용량이 없어 출력은 조각 수, 입력은 프롬프트 길이로 추정해 기록한다.
+     */
+    public GptAnswer stream(String prompt, boolean regenerate, GptUsageTag tag, GptJobType type, Consumer<String> onDelta) {
+        String cacheKey = GptResponseCache.key(MODEL, SYSTEM_MESSAGE, prompt);
+        Optional<GptAnswer> cached = gptResponseCache.find(cacheKey, regenerate);
+        if (cached.isPresent()) {
+            gptUsageMeter.record(tag, cached.get());
+            onDelta.accept(cached.get().content());
+            return cached.get();
+        }
+        gptUsageMeter.checkBudget();
+        StringBuilder answer = new StringBuilder();
+        long[] chunks = new long[1];
+        limited(tag, () -> externalCallGuard.execute(OutboundDestination.OPENAI, () -> {
+            openAiService.streamChatCompletion(onlyPrompt(prompt)).blockingForEach(chunk -> {
+                for (ChatCompletionChoice choice : chunk.getChoices()) {
+                    String delta = choice.getMessage() == null ? null : choice.getMessage().getContent();
+                    if (delta != null && !delta.isEmpty()) {
+                        chunks[0]++;
+                        answer.append(delta);
+                        onDelta.accept(delta);
+                    }
+                }
+            });
+            return null;
+        }));
+        long promptTokens = (SYSTEM_MESSAGE.length() + prompt.length()) / CHARS_PER_PROMPT_TOKEN;
+        GptAnswer result = new GptAnswer(answer.toString(), promptTokens, chunks[0], promptTokens + chunks[0], false);
+        gptUsageMeter.record(tag, result);
+        cacheIfParsable(cacheKey, type, result);
+        return result;
+    }
+
+    private void cacheIfParsable(String cacheKey, GptJobType type, GptAnswer answer) {
+        if (GptAnswerParser.parse(type, answer.content()) == null) {
+            log.warn("GPT 답변 파싱 실패로 캐시하지 않음 ({})", type);
+            return;
+        }
+        gptResponseCache.put(cacheKey, MODEL, answer);
+    }
+
+    // 동기 API 호출이면 동기 몫의 자리를 기다렸다가 호출한다
+    private <T> T limited(GptUsageTag tag, Supplier<T> call) {
+        if (!tag.isSync()) {
+            return call.get();
+        }
+        try {
+            if (!syncPermits.tryAcquire(syncMaxWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new ExternalServiceUnavailableException(OutboundDestination.OPENAI, "SYNC_LIMIT");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceUnavailableException(OutboundDestination.OPENAI, "SYNC_INTERRUPTED");
+        }
+        try {
+            return call.get();
+        } finally {
+            syncPermits.release();
+        }
+    }
+
+    private GptAnswer complete(String prompt) {
+        ChatCompletionResult chatCompletion = externalCallGuard.execute(OutboundDestination.OPENAI,
+                () -> openAiService.createChatCompletion(onlyPrompt(prompt)));
         CompletionChatResponseService response = CompletionChatResponseService.of(chatCompletion);
 
         List<String> messages = response.getMessages().stream()
@@ -36,11 +153,11 @@ public class GptService {
                 .filter(Objects::nonNull)
                 .collect(Collectors.joining());
 
-        return answer;
+        return GptAnswer.of(answer, response.getUsage());
     }
 
     private ChatCompletionRequest onlyPrompt(String prompt) {
-        ChatMessage systemRole = new ChatMessage("system", "You are a teacher who teaches financial knowledge.");
+        ChatMessage systemRole = new ChatMessage("system", SYSTEM_MESSAGE);
         ChatMessage userRole = new ChatMessage("user", prompt);
         List<ChatMessage> messages = new ArrayList<>();
 
@@ -48,7 +165,7 @@ public class GptService {
         messages.add(userRole);
 
         return ChatCompletionRequest.builder()
-                .model("gpt-4-turbo-preview")
+                .model(MODEL)
                 .messages(messages)
                 .temperature((double) 0)
                 .build();
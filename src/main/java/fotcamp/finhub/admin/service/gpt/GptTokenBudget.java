@@ -0,0 +1,64 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 일괄 생성용 분당 토큰 한도 (노드별 최근 1분 슬라이딩 윈도우)
+ * 호출 전에는 예상 토큰으로 예약하고, 응답을 받으면 예약분을 실제 사용량으로 바꾼다.
+ */
+@Component
+public class GptTokenBudget {
+
+    private static final long WINDOW_MS = 60_000;
+
+    private final long tokensPerMinute;
+    private final long estimatedTokensPerCall;
+    private final Deque<Reservation> reservations = new ArrayDeque<>();
+    private long usedTokens;
+
+    public GptTokenBudget(@Value("${gpt.bulk.tokens-per-minute:90000}") long tokensPerMinute,
+                          @Value("${gpt.bulk.estimated-tokens-per-call:3000}") long estimatedTokensPerCall) {
+        this.tokensPerMinute = tokensPerMinute;
+        this.estimatedTokensPerCall = estimatedTokensPerCall;
+    }
+
+    /**
+     * 호출 1건을 예약한다.
+     * @return 최근 1분 사용량이 한도를 넘으면 null
+     */
+    public synchronized Reservation tryReserve() {
+        long now = System.currentTimeMillis();
+        while (!reservations.isEmpty() && reservations.peekFirst().reservedAt <= now - WINDOW_MS) {
+            usedTokens -= reservations.pollFirst().tokens;
+        }
+        if (usedTokens + estimatedTokensPerCall > tokensPerMinute) {
+            return null;
+        }
+        Reservation reservation = new Reservation(now, estimatedTokensPerCall);
+        reservations.addLast(reservation);
+        usedTokens += estimatedTokensPerCall;
+        return reservation;
+    }
+
+    /** 예약한 호출이 끝나면 실제 사용량으로 정산한다. 호출하지 못했으면 actualTokens 는 0 */
+    public synchronized void settle(Reservation reservation, long actualTokens) {
+        if (reservations.contains(reservation)) { // 윈도우를 벗어난 예약은 이미 빠졌다
+            usedTokens += actualTokens - reservation.tokens;
+        }
+        reservation.tokens = actualTokens;
+    }
+
+    public static final class Reservation {
+        private final long reservedAt;
+        private long tokens;
+
+        private Reservation(long reservedAt, long tokens) {
+            this.reservedAt = reservedAt;
+            this.tokens = tokens;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import java.time.LocalDate;
+
+/** 아직 DB 에 반영하지 않은 일자/관리자/호출 경로별 사용량 */
+public record GptUsageDelta(LocalDate usageDate, String admin, String endpoint,
+                            long calls, long promptTokens, long completionTokens, long totalTokens) {
+
+    public GptUsageDelta plus(GptUsageDelta other) {
+        return new GptUsageDelta(usageDate, admin, endpoint, calls + other.calls, promptTokens + other.promptTokens,
+                completionTokens + other.completionTokens, totalTokens + other.totalTokens);
+    }
+}
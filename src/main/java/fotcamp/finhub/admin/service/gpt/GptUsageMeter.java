@@ -0,0 +1,183 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.repository.GptUsageDailyRepository;
+import fotcamp.finhub.common.exception.GptBudgetExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GPT 토큰 사용량 계량과 일/월 예산
+ * 호출마다 finhub.gpt.tokens(endpoint, admin=관리자 ID, role, type=prompt|completion), finhub.gpt.calls 를 올리고,
+ * 일자/관리자/호출 경로별로 메모리에 모았다가 gpt.usage.flush-interval-ms 마다 GPT_USAGE_DAILY 에 한 번에 더한다.
+ * 예산은 gpt.budget.daily-tokens, gpt.budget.monthly-tokens (0 이면 무제한) 이고
+ * 사용량은 주기적으로 읽은 DB 합계에 아직 반영하지 않은 이 노드의 사용량을 더해 판단한다.
+ */
+@Slf4j
+@Component
+public class GptUsageMeter implements DisposableBean {
+
+    private final GptUsageDailyRepository gptUsageDailyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<UsageKey, GptUsageDelta> pending = new ConcurrentHashMap<>();
+
+    @Value("${gpt.budget.daily-tokens:0}")
+    private long dailyLimit;
+    @Value("${gpt.budget.monthly-tokens:0}")
+    private long monthlyLimit;
+
+    // 마지막으로 읽은 DB 합계 (flush 한 만큼은 바로 더해 둔다)
+    private volatile UsageSnapshot snapshot = new UsageSnapshot(LocalDate.MIN, 0, 0);
+
+    public GptUsageMeter(GptUsageDailyRepository gptUsageDailyRepository, PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry) {
+        this.gptUsageDailyRepository = gptUsageDailyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(GptUsageTag tag, GptAnswer answer) {
+        Counter.builder("finhub.gpt.calls")
+                .tag("endpoint", tag.endpoint()).tag("admin", tag.admin()).tag("role", tag.role()).tag("cached", String.valueOf(answer.cached()))
+                .register(meterRegistry).increment();
+        if (answer.totalTokens() == 0) {
+            return;
+        }
+        tokenCounter(tag, "prompt").increment(answer.promptTokens());
+        tokenCounter(tag, "completion").increment(answer.completionTokens());
+
+        LocalDate today = LocalDate.now();
+        GptUsageDelta delta = new GptUsageDelta(today, tag.admin(), tag.endpoint(),
+                1, answer.promptTokens(), answer.completionTokens(), answer.totalTokens());
+        pending.merge(new UsageKey(today, tag.admin(), tag.endpoint()), delta, GptUsageDelta::plus);
+    }
+
+    /** 예산을 넘었으면 GptBudgetExceededException */
+    public void checkBudget() {
+        LocalDate today = LocalDate.now();
+        UsageSnapshot current = currentSnapshot(today);
+        long pendingToday = 0;
+        long pendingMonth = 0;
+        for (GptUsageDelta delta : pending.values()) {
+            if (delta.usageDate().equals(today)) {
+                pendingToday += delta.totalTokens();
+            }
+            if (delta.usageDate().getYear() == today.getYear() && delta.usageDate().getMonth() == today.getMonth()) {
+                pendingMonth += delta.totalTokens();
+            }
+        }
+        long daily = current.dailyTokens() + pendingToday;
+        if (dailyLimit > 0 && daily >= dailyLimit) {
+            throw new GptBudgetExceededException("DAILY", daily, dailyLimit);
+        }
+        long monthly = current.monthlyTokens() + pendingMonth;
+        if (monthlyLimit > 0 && monthly >= monthlyLimit) {
+            throw new GptBudgetExceededException("MONTHLY", monthly, monthlyLimit);
+        }
+    }
+
+    public boolean isWithinBudget() {
+        try {
+            checkBudget();
+            return true;
+        } catch (GptBudgetExceededException e) {
+            return false;
+        }
+    }
+
+    public long getDailyLimit() {
+        return dailyLimit;
+    }
+
+    public long getMonthlyLimit() {
+        return monthlyLimit;
+    }
+
+    @Scheduled(fixedDelayString = "${gpt.usage.flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<GptUsageDelta> drained = new ArrayList<>();
+        for (UsageKey key : pending.keySet()) {
+            GptUsageDelta delta = pending.remove(key);
+            if (delta != null) {
+                drained.add(delta);
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> gptUsageDailyRepository.addUsage(drained));
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영하도록 되돌린다
+            log.warn("GPT 사용량 {}건 반영 실패 : {}", drained.size(), e.getMessage());
+            drained.forEach(delta -> pending.merge(new UsageKey(delta.usageDate(), delta.admin(), delta.endpoint()), delta, GptUsageDelta::plus));
+            return;
+        }
+        UsageSnapshot current = snapshot;
+        long flushedToday = 0;
+        long flushedMonth = 0;
+        for (GptUsageDelta delta : drained) {
+            if (delta.usageDate().equals(current.date())) {
+                flushedToday += delta.totalTokens();
+            }
+            if (delta.usageDate().getYear() == current.date().getYear() && delta.usageDate().getMonth() == current.date().getMonth()) {
+                flushedMonth += delta.totalTokens();
+            }
+        }
+        snapshot = new UsageSnapshot(current.date(), current.dailyTokens() + flushedToday, current.monthlyTokens() + flushedMonth);
+    }
+
+    // 다른 노드의 사용량을 반영하기 위해 DB 합계를 주기적으로 다시 읽는다
+    @Scheduled(fixedDelayString = "${gpt.budget.refresh-ms:30000}")
+    public void refresh() {
+        if (dailyLimit <= 0 && monthlyLimit <= 0) {
+            return;
+        }
+        snapshot = load(LocalDate.now());
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private UsageSnapshot currentSnapshot(LocalDate today) {
+        UsageSnapshot current = snapshot;
+        if (!current.date().equals(today) && (dailyLimit > 0 || monthlyLimit > 0)) {
+            current = load(today); // 날짜가 바뀌었으면 바로 다시 읽는다
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private UsageSnapshot load(LocalDate today) {
+        long daily = gptUsageDailyRepository.sumTotalTokens(today, today);
+        long monthly = gptUsageDailyRepository.sumTotalTokens(today.withDayOfMonth(1), today);
+        return new UsageSnapshot(today, daily, monthly);
+    }
+
+    private Counter tokenCounter(GptUsageTag tag, String type) {
+        return Counter.builder("finhub.gpt.tokens")
+                .tag("endpoint", tag.endpoint()).tag("admin", tag.admin()).tag("role", tag.role()).tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private record UsageKey(LocalDate date, String admin, String endpoint) {
+    }
+
+    private record UsageSnapshot(LocalDate date, long dailyTokens, long monthlyTokens) {
+    }
+}
@@ -0,0 +1,38 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.dto.response.GptUsageResponseDto;
+import fotcamp.finhub.admin.repository.GptUsageDailyRepository;
+import fotcamp.finhub.common.api.ApiResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/** GPT 토큰 사용량 조회 (GPT_USAGE_DAILY 기준, 각 노드가 아직 반영하지 않은 최근 사용량은 빠질 수 있다) */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GptUsageService {
+
+    private final GptUsageDailyRepository gptUsageDailyRepository;
+    private final GptUsageMeter gptUsageMeter;
+
+    public ResponseEntity<ApiResponseWrapper> getUsage(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate end = to == null ? today : to;
+        LocalDate start = from == null ? end.withDayOfMonth(1) : from;
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body(ApiResponseWrapper.fail("조회 시작일이 종료일보다 늦습니다."));
+        }
+
+        GptUsageResponseDto dto = new GptUsageResponseDto(
+                gptUsageDailyRepository.sumTotalTokens(today, today), gptUsageMeter.getDailyLimit(),
+                gptUsageDailyRepository.sumTotalTokens(today.withDayOfMonth(1), today), gptUsageMeter.getMonthlyLimit(),
+                gptUsageDailyRepository.findByUsageDateBetweenOrderByUsageDateDescAdminAscEndpointAsc(start, end).stream()
+                        .map(GptUsageResponseDto.Row::new)
+                        .toList());
+        return ResponseEntity.ok(ApiResponseWrapper.success(dto));
+    }
+}
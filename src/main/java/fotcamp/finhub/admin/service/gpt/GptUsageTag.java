@@ -0,0 +1,37 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptJobType;
+
+/**
+ * 토큰 사용량 집계 단위 (호출 경로, 요청 관리자, 관리자 권한)
+ * admin 은 관리자 ID 이다. 권한(SUPER/BE/FE)은 같은 권한의 관리자가 여럿일 수 있어 메트릭 태그로만 따로 둔다.
+ */
+public record GptUsageTag(String endpoint, String admin, String role) {
+
+    private static final String SYNC_PREFIX = "sync:";
+
+    public GptUsageTag {
+        admin = admin == null ? "UNKNOWN" : admin;
+        role = role == null ? "UNKNOWN" : role;
+    }
+
+    public boolean isSync() {
+        return endpoint.startsWith(SYNC_PREFIX);
+    }
+
+    public static GptUsageTag sync(GptJobType type, Long managerId, String role) {
+        return new GptUsageTag(SYNC_PREFIX + type.name(), admin(managerId), role);
+    }
+
+    public static GptUsageTag job(GptJobType type, Long managerId, String role) {
+        return new GptUsageTag("job:" + type.name(), admin(managerId), role);
+    }
+
+    public static GptUsageTag bulk(Long managerId, String role) {
+        return new GptUsageTag("bulk:" + GptJobType.TOPIC_USERTYPE.name(), admin(managerId), role);
+    }
+
+    private static String admin(Long managerId) {
+        return managerId == null ? null : String.valueOf(managerId);
+    }
+}
@@ -0,0 +1,108 @@
+package fotcamp.finhub.admin.service.push;
+
+import fotcamp.finhub.admin.domain.AudienceSegment;
+import fotcamp.finhub.admin.domain.SegmentCriteria;
+import fotcamp.finhub.admin.repository.AudienceSegmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 세그먼트 비트맵 갱신
+ * 증분 갱신 : watermark 이후 새로 생긴 원천 행(가입, 퀴즈 풀이, 스크랩)의 회원만 비트맵에 더한다.
+ *            USER_TYPE 은 지난 갱신 이후 유저타입을 바꾼 회원도 반영한다 (들어온 회원은 더하고 나간 회원은 뺀다).
+ * 전체 재구성 : 조건에서 빠진 회원(스크랩 취소, 활동 기간 경과, 탈퇴)을 걷어내기 위해 하루 한 번 처음부터 다시 만든다.
+ * 세그먼트 version 이 읽은 뒤 바뀌었으면(다른 갱신이 먼저 저장) 증분 갱신은 건너뛰고 다음 주기에 다시 하며, 전체 재구성은 처음부터 다시 한다.
+ */
+@Slf4j
+@Component
+public class AudienceSegmentRefresher {
+
+    private final AudienceSegmentRepository audienceSegmentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${push.segment.chunk-size:5000}")
+    private int chunkSize;
+    @Value("${push.segment.rebuild-attempts:3}")
+    private int rebuildAttempts;
+
+    public AudienceSegmentRefresher(AudienceSegmentRepository audienceSegmentRepository, PlatformTransactionManager transactionManager) {
+        this.audienceSegmentRepository = audienceSegmentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${push.segment.refresh-interval-ms:600000}")
+    public void refreshAll() {
+        audienceSegmentRepository.findAllIds().forEach(id -> refreshQuietly(id, false));
+    }
+
+    @Scheduled(cron = "${push.segment.rebuild-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void rebuildAll() {
+        audienceSegmentRepository.findAllIds().forEach(id -> refreshQuietly(id, true));
+    }
+
+    /** @return 갱신 후 세그먼트 회원 수 */
+    public int refresh(Long segmentId, boolean rebuild) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return refreshOnce(segmentId, rebuild);
+            } catch (OptimisticLockingFailureException e) {
+                if (!rebuild) {
+                    log.info("세그먼트 [{}] 를 다른 갱신이 먼저 저장해 이번 증분 갱신은 건너뜀", segmentId);
+                    return audienceSegmentRepository.findById(segmentId).map(AudienceSegment::getMemberCount).orElse(0);
+                }
+                if (attempt >= rebuildAttempts) {
+                    throw e;
+                }
+                log.info("세그먼트 [{}] 재구성 중 다른 갱신이 먼저 저장해 다시 재구성 ({}회)", segmentId, attempt);
+            }
+        }
+    }
+
+    private int refreshOnce(Long segmentId, boolean rebuild) {
+        Integer memberCount = transactionTemplate.execute(status -> {
+            AudienceSegment segment = audienceSegmentRepository.findById(segmentId).orElse(null);
+            if (segment == null) {
+                return null;
+            }
+            LocalDateTime startedAt = LocalDateTime.now();
+            RoaringBitmap members = rebuild ? new RoaringBitmap() : segment.getMemberBitmap();
+            long watermark = rebuild ? 0L : segment.getSourceWatermark();
+            while (true) {
+                List<SegmentSourceRow> rows = audienceSegmentRepository.findSourceRowsAfter(segment, watermark, chunkSize);
+                rows.forEach(row -> members.add(Math.toIntExact(row.memberId())));
+                if (!rows.isEmpty()) {
+                    watermark = rows.get(rows.size() - 1).sourceId();
+                }
+                if (rows.size() < chunkSize) {
+                    break;
+                }
+            }
+            if (!rebuild && segment.getCriteria() == SegmentCriteria.USER_TYPE && segment.getRefreshedAt() != null) {
+                audienceSegmentRepository.findUserTypeJoinedSince(segment.getRefId(), segment.getRefreshedAt())
+                        .forEach(memberId -> members.add(Math.toIntExact(memberId)));
+                audienceSegmentRepository.findUserTypeLeftSince(segment.getRefId(), segment.getRefreshedAt())
+                        .forEach(memberId -> members.remove(Math.toIntExact(memberId)));
+            }
+            segment.updateMembers(members, watermark, rebuild, startedAt);
+            return segment.getMemberCount();
+        });
+        return memberCount == null ? 0 : memberCount;
+    }
+
+    private void refreshQuietly(Long segmentId, boolean rebuild) {
+        try {
+            refresh(segmentId, rebuild);
+        } catch (RuntimeException e) {
+            log.error("세그먼트 갱신 실패 [{}]", segmentId, e);
+        }
+    }
+}
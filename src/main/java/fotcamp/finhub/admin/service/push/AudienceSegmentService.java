@@ -0,0 +1,83 @@
+package fotcamp.finhub.admin.service.push;
+
+import fotcamp.finhub.admin.domain.AudienceSegment;
+import fotcamp.finhub.admin.dto.request.CreateAudienceSegmentRequestDto;
+import fotcamp.finhub.admin.dto.response.AudienceSegmentListResponseDto;
+import fotcamp.finhub.admin.dto.response.AudienceSegmentResponseDto;
+import fotcamp.finhub.admin.repository.AudienceSegmentRepository;
+import fotcamp.finhub.common.api.ApiResponseWrapper;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/** 푸시 대상 세그먼트 생성/조회/삭제. 비트맵 갱신은 AudienceSegmentRefresher 가 담당한다. */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AudienceSegmentService {
+
+    private final AudienceSegmentRepository audienceSegmentRepository;
+    private final AudienceSegmentRefresher audienceSegmentRefresher;
+
+    // 생성 직후 전체 구성까지 마친 뒤 응답
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ApiResponseWrapper> createSegment(CreateAudienceSegmentRequestDto dto) {
+        String invalid = validate(dto);
+        if (invalid != null) {
+            return ResponseEntity.badRequest().body(ApiResponseWrapper.fail(invalid));
+        }
+        AudienceSegment segment = audienceSegmentRepository.save(AudienceSegment.builder()
+                .name(dto.getName())
+                .criteria(dto.getCriteria())
+                .refId(dto.getRefId())
+                .activeDays(dto.getActiveDays())
+                .signupFrom(dto.getSignupFrom())
+                .signupTo(dto.getSignupTo())
+                .build());
+        audienceSegmentRefresher.refresh(segment.getId(), true);
+        return getSegment(segment.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<ApiResponseWrapper> getSegmentList() {
+        List<AudienceSegmentResponseDto> segmentList = audienceSegmentRepository.findAllByOrderByIdDesc().stream()
+                .map(AudienceSegmentResponseDto::new)
+                .toList();
+        return ResponseEntity.ok(ApiResponseWrapper.success(new AudienceSegmentListResponseDto(segmentList)));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ApiResponseWrapper> rebuildSegment(Long id) {
+        if (!audienceSegmentRepository.existsById(id)) {
+            throw new EntityNotFoundException("세그먼트 ID가 존재하지 않습니다.");
+        }
+        audienceSegmentRefresher.refresh(id, true);
+        return getSegment(id);
+    }
+
+    public ResponseEntity<ApiResponseWrapper> deleteSegment(Long id) {
+        AudienceSegment segment = audienceSegmentRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("세그먼트 ID가 존재하지 않습니다."));
+        audienceSegmentRepository.delete(segment);
+        return ResponseEntity.ok(ApiResponseWrapper.success());
+    }
+
+    private ResponseEntity<ApiResponseWrapper> getSegment(Long id) {
+        AudienceSegment segment = audienceSegmentRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("세그먼트 ID가 존재하지 않습니다."));
+        return ResponseEntity.ok(ApiResponseWrapper.success(new AudienceSegmentResponseDto(segment)));
+    }
+
+    private String validate(CreateAudienceSegmentRequestDto dto) {
+        return switch (dto.getCriteria()) {
+            case USER_TYPE, TOPIC_SCRAP -> dto.getRefId() == null ? "refId 필드가 비어있습니다." : null;
+            case QUIZ_ACTIVE -> dto.getActiveDays() == null || dto.getActiveDays() < 1 ? "activeDays 는 1 이상이어야 합니다." : null;
+            case SIGNUP_DATE -> dto.getSignupFrom() == null ? "signupFrom 필드가 비어있습니다." : null;
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package fotcamp.finhub.admin.service.push;
+
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import fotcamp.finhub.common.exception.FcmException;
+import fotcamp.finhub.main.config.FcmConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * FCM 발송용 OAuth 액세스 토큰 제공
+ * 서비스 계정 JSON 은 최초 1회만 읽고, 토큰은 만료 refresh-margin 전에 미리 갱신한다.
+ * 갱신은 한 스레드만 수행하며(single-flight), 그동안 다른 스레드는 아직 유효한 기존 토큰을 그대로 쓴다.
+ */
+@Slf4j
+@Component
+public class FcmCredentialProvider {
+
+    private final FcmConfig fcmConfig;
+    private final long refreshMarginMs;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile GoogleCredentials credentials;
+    private volatile AccessToken cachedToken;
+
+    public FcmCredentialProvider(FcmConfig fcmConfig,
+                                 @Value("${push.fcm.token-refresh-margin-ms:300000}") long refreshMarginMs) {
+        this.fcmConfig = fcmConfig;
+        this.refreshMarginMs = refreshMarginMs;
+    }
+
+    public String getAccessToken() {
+        AccessToken token = cachedToken;
+        if (token != null && !needsRefresh(token)) {
+            return token.getTokenValue();
+        }
+        if (token != null && !isExpired(token) && !refreshLock.tryLock()) {
+            // 다른 스레드가 갱신 중이고 기존 토큰이 아직 유효함
+            return token.getTokenValue();
+        }
+        if (!refreshLock.isHeldByCurrentThread()) {
+            refreshLock.lock();
+        }
+        try {
+            token = cachedToken;
+            if (token == null || needsRefresh(token)) {
+                token = refresh();
+            }
+            return token.getTokenValue();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 발송이 뜸해도 첫 요청이 토큰 교환을 기다리지 않도록 주기적으로 미리 갱신
+    @Scheduled(fixedDelayString = "${push.fcm.token-check-interval-ms:60000}")
+    public void refreshProactively() {
+        AccessToken token = cachedToken;
+        if (token == null || !needsRefresh(token)) {
+            return;
+        }
+        try {
+            getAccessToken();
+        } catch (FcmException e) {
+            log.warn("FCM 토큰 사전 갱신 실패, 다음 요청 시 재시도", e);
+        }
+    }
+
+    private AccessToken refresh() {
+        try {
+            AccessToken token = loadCredentials().refreshAccessToken();
+            cachedToken = token;
+            log.info("FCM 액세스 토큰 갱신, 만료: {}", token.getExpirationTime());
+            return token;
+        } catch (IOException e) {
+            log.error("구글 토큰 요청 에러", e);
+            throw new FcmException("GOOGLE_REQUEST_TOKEN_ERROR");
+        }
+    }
+
+    private GoogleCredentials loadCredentials() throws IOException {
+        if (credentials == null) {
+            try (InputStream inputStream = new ClassPathResource(fcmConfig.getFirebaseConfigPath()).getInputStream()) {
+                credentials = GoogleCredentials.fromStream(inputStream).createScoped(List.of(fcmConfig.getScope()));
+            }
+        }
+        return credentials;
+    }
+
+    private boolean needsRefresh(AccessToken token) {
+        return token.getExpirationTime() == null
+                || token.getExpirationTime().getTime() - System.currentTimeMillis() <= refreshMarginMs;
+    }
+
+    private boolean isExpired(AccessToken token) {
+        return token.getExpirationTime() == null
+                || token.getExpirationTime().getTime() <= System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,101 @@
+package fotcamp.finhub.admin.service.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fotcamp.finhub.common.exception.ExternalServiceUnavailableException;
+import fotcamp.finhub.common.exception.FcmDeliveryException;
+import fotcamp.finhub.common.http.OutboundDestination;
+import fotcamp.finhub.common.http.OutboundHttpClients;
+import fotcamp.finhub.main.config.FcmConfig;
+import fotcamp.finhub.main.dto.process.FcmMessageProcessDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+
+import java.util.Map;
+
+/**
+ * FCM HTTP v1 단건 발송. 실패 시 FcmDeliveryException 을 던진다.
+ * 429, 5xx, 네트워크 오류, 서킷 오픈은 재시도 가능, 그 외 4xx 는 재시도 불가로 분류한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmSender {
+
+    private static final String UNREGISTERED = "UNREGISTERED";
+    private static final String INVALID_ARGUMENT = "INVALID_ARGUMENT";
+
+    private final FcmConfig fcmConfig;
+    private final ObjectMapper objectMapper;
+    private final OutboundHttpClients outboundHttpClients;
+
+    // 부하 테스트 시 로컬 FCM 대역 서버로 교체
+    @Value("${push.fcm.base-url:https://fcm.googleapis.com}")
+    private String baseUrl;
+
+    public void send(String accessToken, String fcmToken, PushContent content) {
+        send(accessToken, content.toMessage(fcmToken));
+    }
+
+    public void send(String accessToken, FcmMessageProcessDto.FcmMessage message) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(accessToken);
+
+        try {
+            String jsonMessage = objectMapper.writeValueAsString(Map.of("message", message));
+            outboundHttpClients.get(OutboundDestination.FCM)
+                    .exchange(sendUrl(), HttpMethod.POST, new HttpEntity<>(jsonMessage, headers), String.class);
+        } catch (ExternalServiceUnavailableException e) {
+            throw new FcmDeliveryException(e.getReason(), true);
+        } catch (HttpStatusCodeException e) {
+            throw toDeliveryException(e, message.getToken());
+        } catch (RestClientException e) {
+            log.error("RestClientException - 전송 실패 대상 토큰: {}", message.getToken());
+            throw new FcmDeliveryException("NETWORK_ERROR", true);
+        } catch (JsonProcessingException e) {
+            throw new FcmDeliveryException("FCM_MESSAGE_SERIALIZE_ERROR", false);
+        }
+    }
+
+    /**
+     * FCM v1 오류 응답의 details[].errorCode (FcmError) 로 분류한다.
+     * UNREGISTERED 와 토큰 형식 오류인 INVALID_ARGUMENT 는 죽은 토큰으로 본다. (메시지 자체가 잘못된 INVALID_ARGUMENT 는 제외)
+     */
+    FcmDeliveryException toDeliveryException(HttpStatusCodeException e, String fcmToken) {
+        HttpStatusCode status = e.getStatusCode();
+        boolean retryable = status.is5xxServerError() || status.value() == 429;
+        String errorCode = status.toString();
+        String errorMessage = "";
+        try {
+            JsonNode error = objectMapper.readTree(e.getResponseBodyAsString()).path("error");
+            errorMessage = error.path("message").asText("");
+            for (JsonNode detail : error.path("details")) {
+                if (detail.hasNonNull("errorCode")) {
+                    errorCode = detail.get("errorCode").asText();
+                    break;
+                }
+            }
+        } catch (JsonProcessingException ignored) {
+            // 본문이 JSON 이 아니면 상태 코드로만 분류
+        }
+        boolean deadToken = UNREGISTERED.equals(errorCode)
+                || (INVALID_ARGUMENT.equals(errorCode) && errorMessage.contains("registration token"));
+        if (deadToken) {
+            log.info("FCM 만료 토큰 {} - 대상 토큰: {}", errorCode, fcmToken);
+        } else {
+            log.error("FCM 전송 실패 {} - 대상 토큰: {}", errorCode, fcmToken);
+        }
+        return new FcmDeliveryException(errorCode, retryable, deadToken);
+    }
+
+    private String sendUrl() {
+        return baseUrl + "/v1/projects/" + fcmConfig.getProjectId() + "/messages:send";
+    }
+}
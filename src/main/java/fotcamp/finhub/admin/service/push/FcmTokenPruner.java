@@ -0,0 +1,46 @@
+package fotcamp.finhub.admin.service.push;
+
+import fotcamp.finhub.admin.repository.ManagerRepository;
+import fotcamp.finhub.common.exception.FcmDeliveryException;
+import fotcamp.finhub.main.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/** 발송 중 FCM 이 만료/무효로 응답한 토큰을 회원, 관리자에서 일괄 삭제한다. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional
+public class FcmTokenPruner {
+
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    private final MemberRepository memberRepository;
+    private final ManagerRepository managerRepository;
+
+    public static boolean isDeadToken(Exception error) {
+        return error instanceof FcmDeliveryException deliveryException && deliveryException.isDeadToken();
+    }
+
+    /** @return 토큰을 지운 회원 + 관리자 수 */
+    public int prune(Collection<String> deadTokens) {
+        if (deadTokens.isEmpty()) {
+            return 0;
+        }
+        List<String> tokens = new ArrayList<>(deadTokens);
+        int pruned = 0;
+        for (int from = 0; from < tokens.size(); from += IN_CLAUSE_SIZE) {
+            List<String> batch = tokens.subList(from, Math.min(from + IN_CLAUSE_SIZE, tokens.size()));
+            pruned += memberRepository.clearFcmTokens(batch);
+            pruned += managerRepository.clearFcmTokens(batch);
+        }
+        log.info("만료 FCM 토큰 정리 - 토큰 {}건, 대상 {}건", tokens.size(), pruned);
+        return pruned;
+    }
+}
@@ -0,0 +1,133 @@
+package fotcamp.finhub.admin.service.push;
+
+import fotcamp.finhub.admin.domain.AudienceSegment;
+import fotcamp.finhub.admin.domain.Manager;
+import fotcamp.finhub.admin.repository.AudienceSegmentRepository;
+import fotcamp.finhub.admin.repository.ManagerRepository;
+import fotcamp.finhub.common.exception.FcmException;
+import fotcamp.finhub.main.repository.AgreementRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 푸시 type 별 발송 대상을 chunk 단위로 읽어 넘겨준다.
+ * 0 : 멤버 이메일 리스트 , 1 : 관리자 이메일 리스트, 2 : 푸시 허용한 멤버 전체, 3 : 푸시 설정 무관 관리자 전체, 4 : 멤버+관리자전체, 5 : 세그먼트
+ * 세그먼트는 저장된 회원 id 비트맵을 chunk 크기만큼 잘라 PK IN 조회하므로 대상 수와 관계없이 SQL 조건 크기가 일정하다.
+ * 회원 전체는 MEMBER_ID keyset 으로 (memberId, name, fcmToken) 만 조회하고, chunk 마다 짧은 읽기 트랜잭션을 쓰므로
+ * 회원 수와 관계없이 힙 사용량이 chunk 크기에 묶인다. chunkConsumer 는 트랜잭션 밖에서 호출된다.
+ */
+@Slf4j
+@Component
+public class PushAudienceReader {
+
+    private final ManagerRepository managerRepository;
+    private final AgreementRepository agreementRepository;
+    private final AudienceSegmentRepository audienceSegmentRepository;
+    private final TransactionTemplate readOnlyTemplate;
+
+    @Value("${push.audience.chunk-size:1000}")
+    private int chunkSize;
+
+    public PushAudienceReader(ManagerRepository managerRepository, AgreementRepository agreementRepository,
+                              AudienceSegmentRepository audienceSegmentRepository, PlatformTransactionManager transactionManager) {
+        this.managerRepository = managerRepository;
+        this.agreementRepository = agreementRepository;
+        this.audienceSegmentRepository = audienceSegmentRepository;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    public static boolean isValidType(Long type) {
+        return type != null && type >= 0 && type <= 5;
+    }
+
+    /** 이메일 대상 type 의 입력값 검증. 발송/저장 전에 호출한다. */
+    public static void checkTarget(Long type, List<String> emails, Long segmentId) {
+        if ((type == 0 || type == 1) && (emails == null || emails.isEmpty())) {
+            throw new FcmException("Target 필드가 비어있습니다.");
+        }
+        if (type == 5 && segmentId == null) {
+            throw new FcmException("segmentId 필드가 비어있습니다.");
+        }
+    }
+
+    /** 관리자 대상이 먼저, 회원 대상이 뒤에 온다 */
+    public void forEachChunk(Long type, List<String> emails, Long segmentId, Consumer<List<PushTarget>> chunkConsumer) {
+        checkTarget(type, emails, segmentId);
+        if (type == 0) {
+            emit(read(() -> agreementRepository.findPushTargetsByEmails(emails)), chunkConsumer);
+        } else if (type == 1) {
+            emit(read(() -> toManagerTargets(managerRepository.findByPushYnAndEmails(emails))), chunkConsumer);
+        } else if (type == 2) {
+            forEachMemberChunk(chunkConsumer);
+        } else if (type == 3) {
+            emit(read(() -> toManagerTargets(managerRepository.findAll())), chunkConsumer);
+        } else if (type == 4) {
+            emit(read(() -> toManagerTargets(managerRepository.findAll())), chunkConsumer);
+            forEachMemberChunk(chunkConsumer);
+        } else if (type == 5) {
+            forEachSegmentChunk(segmentId, chunkConsumer);
+        } else {
+            throw new IllegalArgumentException("TYPE을 확인하세요.");
+        }
+    }
+
+    private void forEachMemberChunk(Consumer<List<PushTarget>> chunkConsumer) {
+        long lastMemberId = 0L;
+        while (true) {
+            long after = lastMemberId;
+            List<PushTarget> chunk = read(() -> agreementRepository.findPushTargetsAfter(after, PageRequest.of(0, chunkSize)));
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunkConsumer.accept(chunk);
+            if (chunk.size() < chunkSize) {
+                return;
+            }
+            lastMemberId = chunk.get(chunk.size() - 1).memberId();
+        }
+    }
+
+    private void forEachSegmentChunk(Long segmentId, Consumer<List<PushTarget>> chunkConsumer) {
+        RoaringBitmap members = readOnlyTemplate.execute(status -> audienceSegmentRepository.findById(segmentId)
+                .map(AudienceSegment::getMemberBitmap)
+                .orElseThrow(() -> new FcmException("세그먼트가 존재하지 않습니다.")));
+        IntIterator memberIds = members.getIntIterator();
+        List<Long> chunkIds = new ArrayList<>(chunkSize);
+        while (memberIds.hasNext()) {
+            chunkIds.add((long) memberIds.next());
+            if (chunkIds.size() == chunkSize || !memberIds.hasNext()) {
+                List<Long> ids = List.copyOf(chunkIds);
+                emit(read(() -> agreementRepository.findPushTargetsByMemberIds(ids)), chunkConsumer);
+                chunkIds.clear();
+            }
+        }
+    }
+
+    private void emit(List<PushTarget> targets, Consumer<List<PushTarget>> chunkConsumer) {
+        if (!targets.isEmpty()) {
+            chunkConsumer.accept(targets);
+        }
+    }
+
+    private List<PushTarget> read(Supplier<List<PushTarget>> reader) {
+        return readOnlyTemplate.execute(status -> reader.get());
+    }
+
+    private List<PushTarget> toManagerTargets(List<Manager> managers) {
+        return managers.stream()
+                .map(manager -> new PushTarget(null, manager.getName(), manager.getFcmToken()))
+                .toList();
+    }
+}
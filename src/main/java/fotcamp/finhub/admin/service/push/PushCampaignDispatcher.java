@@ -0,0 +1,191 @@
+package fotcamp.finhub.admin.service.push;
+
+import fotcamp.finhub.admin.domain.PushCampaign;
+import fotcamp.finhub.admin.domain.PushCampaignStatus;
+import fotcamp.finhub.admin.domain.PushDelivery;
+import fotcamp.finhub.admin.domain.PushDeliveryStatus;
+import fotcamp.finhub.admin.repository.PushCampaignRepository;
+import fotcamp.finhub.admin.repository.PushDeliveryRepository;
+import fotcamp.finhub.common.exception.FcmDeliveryException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 푸시 캠페인 백그라운드 발송
+ * 발송 대기 행을 chunk 단위로 점유(claim) -> 트랜잭션 밖에서 병렬 발송 -> 결과 반영 순으로 처리한다.
+ * 점유는 lease 시간이 지나면 풀리므로, 발송 중 노드가 내려가도 다른 노드(또는 재시작 후)가 이어서 발송한다.
+ * 재시도 가능한 오류는 지수 백오프(base * 2^(시도-1), 최대 max-backoff)로 재발송한다.
+ * FCM 이 만료로 응답한 토큰은 chunk 결과 반영 시 회원/관리자에서 일괄 삭제하고 캠페인에 건수를 누적한다.
+ */
+@Slf4j
+@Component
+public class PushCampaignDispatcher {
+
+    private final PushCampaignRepository pushCampaignRepository;
+    private final PushDeliveryRepository pushDeliveryRepository;
+    private final PushDeliveryEngine pushDeliveryEngine;
+    private final FcmSender fcmSender;
+    private final FcmCredentialProvider fcmCredentialProvider;
+    private final FcmTokenPruner fcmTokenPruner;
+    private final PushCampaignService pushCampaignService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${push.campaign.chunk-size:500}")
+    private int chunkSize;
+    @Value("${push.campaign.max-chunks-per-tick:20}")
+    private int maxChunksPerTick;
+    @Value("${push.campaign.lease-ms:300000}")
+    private long leaseMs;
+    @Value("${push.campaign.max-attempts:5}")
+    private int maxAttempts;
+    @Value("${push.campaign.base-backoff-ms:30000}")
+    private long baseBackoffMs;
+    @Value("${push.campaign.max-backoff-ms:1800000}")
+    private long maxBackoffMs;
+    @Value("${push.campaign.preparing-timeout-ms:3600000}")
+    private long preparingTimeoutMs;
+
+    public PushCampaignDispatcher(PushCampaignRepository pushCampaignRepository, PushDeliveryRepository pushDeliveryRepository,
+                                  PushDeliveryEngine pushDeliveryEngine, FcmSender fcmSender,
+                                  FcmCredentialProvider fcmCredentialProvider, FcmTokenPruner fcmTokenPruner,
+                                  PushCampaignService pushCampaignService, PlatformTransactionManager transactionManager) {
+        this.pushCampaignRepository = pushCampaignRepository;
+        this.pushDeliveryRepository = pushDeliveryRepository;
+        this.pushDeliveryEngine = pushDeliveryEngine;
+        this.fcmSender = fcmSender;
+        this.fcmCredentialProvider = fcmCredentialProvider;
+        this.fcmTokenPruner = fcmTokenPruner;
+        this.pushCampaignService = pushCampaignService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${push.campaign.poll-interval-ms:5000}")
+    public void dispatch() {
+        // 한 번에 너무 오래 스케줄러 스레드를 잡지 않도록 tick 당 chunk 수를 제한
+        int chunkBudget = maxChunksPerTick;
+        for (Long campaignId : pushCampaignRepository.findIdsByStatusIn(List.of(PushCampaignStatus.PENDING, PushCampaignStatus.RUNNING))) {
+            while (chunkBudget > 0) {
+                if (!dispatchChunk(campaignId)) {
+                    break;
+                }
+                chunkBudget--;
+            }
+            if (chunkBudget == 0) {
+                return;
+            }
+        }
+    }
+
+    // 적재 도중 노드가 내려가 PREPARING 으로 남은 캠페인 정리
+    @Scheduled(fixedDelayString = "${push.campaign.preparing-sweep-interval-ms:600000}")
+    public void sweepStalePreparing() {
+        pushCampaignService.failStalePreparing(Duration.ofMillis(preparingTimeoutMs));
+    }
+
+    /** @return 발송한 chunk 가 있으면 true */
+    boolean dispatchChunk(Long campaignId) {
+        String claimToken = UUID.randomUUID().toString();
+        Claimed claimed = transactionTemplate.execute(status -> claim(campaignId, claimToken));
+        if (claimed == null || claimed.deliveries().isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> completeIfDone(campaignId));
+            return false;
+        }
+
+        String accessToken = fcmCredentialProvider.getAccessToken();
+        List<PushDeliveryEngine.PushResult<PushDelivery>> results = new ArrayList<>(claimed.deliveries().size());
+        pushDeliveryEngine.deliver(claimed.deliveries(),
+                delivery -> fcmSender.send(accessToken, delivery.getFcmToken(), claimed.content()),
+                results::add);
+
+        transactionTemplate.executeWithoutResult(status -> applyResults(campaignId, claimToken, results));
+        return true;
+    }
+
+    private Claimed claim(Long campaignId, String claimToken) {
+        PushCampaign campaign = pushCampaignRepository.findById(campaignId).orElse(null);
+        if (campaign == null || campaign.isFinished()) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = pushDeliveryRepository.findDueIds(campaignId, PushDeliveryStatus.UNFINISHED, now, PageRequest.of(0, chunkSize));
+        if (dueIds.isEmpty()) {
+            return new Claimed(List.of(), null);
+        }
+        campaign.start();
+        pushDeliveryRepository.claim(dueIds, PushDeliveryStatus.UNFINISHED, PushDeliveryStatus.SENDING,
+                claimToken, now.plus(Duration.ofMillis(leaseMs)), now);
+        PushContent content = new PushContent(campaign.getTitle(), campaign.getContent(), campaign.getView(), campaign.getActionJson());
+        return new Claimed(pushDeliveryRepository.findByClaimToken(claimToken), content);
+    }
+
+    // 이 노드의 claimToken 으로 아직 점유 중인 행에만 결과를 반영한다 (취소되었거나 lease 만료 후 다른 노드가 재점유한 행은 제외)
+    private void applyResults(Long campaignId, String claimToken, List<PushDeliveryEngine.PushResult<PushDelivery>> results) {
+        Map<Long, PushDelivery> deliveries = new HashMap<>();
+        pushDeliveryRepository.findClaimedForUpdate(claimToken, PushDeliveryStatus.SENDING)
+                .forEach(delivery -> deliveries.put(delivery.getId(), delivery));
+
+        int sent = 0;
+        int failed = 0;
+        Set<String> deadTokens = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (PushDeliveryEngine.PushResult<PushDelivery> result : results) {
+            PushDelivery delivery = deliveries.get(result.target().getId());
+            if (delivery == null) {
+                continue; // 그 사이 취소되었거나 다른 노드가 재점유함
+            }
+            if (result.isSuccess()) {
+                delivery.sent();
+                sent++;
+            } else if (isRetryable(result.error()) && delivery.getAttempts() + 1 < maxAttempts) {
+                delivery.retryAt(now.plus(backoff(delivery.getAttempts() + 1)), errorCode(result.error()));
+            } else {
+                delivery.failed(errorCode(result.error()));
+                failed++;
+            }
+            if (!result.isSuccess() && FcmTokenPruner.isDeadToken(result.error())) {
+                deadTokens.add(delivery.getFcmToken());
+            }
+        }
+        int pruned = fcmTokenPruner.prune(deadTokens);
+        pushCampaignRepository.addProgress(campaignId, sent, failed, pruned);
+    }
+
+    private void completeIfDone(Long campaignId) {
+        if (pushDeliveryRepository.countByCampaignIdAndStatusIn(campaignId, PushDeliveryStatus.UNFINISHED) > 0) {
+            return;
+        }
+        pushCampaignRepository.findById(campaignId)
+                .filter(campaign -> !campaign.isFinished())
+                .ifPresent(campaign -> {
+                    campaign.complete();
+                    log.info("푸시 캠페인 발송 완료 [{}]", campaignId);
+                });
+    }
+
+    Duration backoff(int attempts) {
+        long exponential = baseBackoffMs << Math.min(attempts - 1, 20);
+        long delay = Math.min(exponential, maxBackoffMs);
+        long jitter = ThreadLocalRandom.current().nextLong(delay / 5 + 1); // 동시 재시도 분산
+        return Duration.ofMillis(delay + jitter);
+    }
+
+    private boolean isRetryable(Exception error) {
+        return error instanceof FcmDeliveryException deliveryException && deliveryException.isRetryable();
+    }
+
+    private String errorCode(Exception error) {
+        return error instanceof FcmDeliveryException deliveryException ? deliveryException.getErrorCode() : error.getMessage();
+    }
+
+    private record Claimed(List<PushDelivery> deliveries, PushContent content) {}
+}
@@ -0,0 +1,174 @@
+package fotcamp.finhub.admin.service.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fotcamp.finhub.admin.domain.PushCampaign;
+import fotcamp.finhub.admin.domain.PushCampaignStatus;
+import fotcamp.finhub.admin.domain.PushDelivery;
+import fotcamp.finhub.admin.domain.PushDeliveryStatus;
+import fotcamp.finhub.admin.dto.request.CreateFcmMessageRequestDto;
+import fotcamp.finhub.admin.dto.response.PushCampaignDetailResponseDto;
+import fotcamp.finhub.admin.dto.response.PushCampaignListResponseDto;
+import fotcamp.finhub.admin.dto.response.PushCampaignResponseDto;
+import fotcamp.finhub.admin.repository.PushCampaignRepository;
+import fotcamp.finhub.admin.repository.PushDeliveryRepository;
+import fotcamp.finhub.common.api.ApiResponseWrapper;
+import fotcamp.finhub.common.dto.process.PageInfoProcessDto;
+import fotcamp.finhub.common.exception.FcmException;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** 푸시 캠페인 생성/조회/취소. 실제 발송은 PushCampaignDispatcher 가 백그라운드에서 처리한다. */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PushCampaignService {
+
+    private final ObjectMapper objectMapper;
+    private final PushAudienceReader pushAudienceReader;
+    private final PushHistoryRecorder pushHistoryRecorder;
+    private final PushCampaignRepository pushCampaignRepository;
+    private final PushDeliveryRepository pushDeliveryRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 대상을 chunk 단위로 나눠 짧은 트랜잭션마다 적재하므로 대상 수와 관계없이 메모리/트랜잭션 크기가 일정하다
+    // 적재 중 실패하면 캠페인을 FAILED 로 두고 그때까지 적재한 행을 지운다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ApiResponseWrapper> createCampaign(CreateFcmMessageRequestDto dto, String createdBy) throws JsonProcessingException {
+        if (!PushAudienceReader.isValidType(dto.getType())) {
+            return ResponseEntity.badRequest().body(ApiResponseWrapper.fail("TYPE을 확인하세요."));
+        }
+        try {
+            PushAudienceReader.checkTarget(dto.getType(), dto.getTarget(), dto.getSegmentId());
+        } catch (FcmException e) {
+            return ResponseEntity.badRequest().body(ApiResponseWrapper.fail(e.getMessage()));
+        }
+        PushContent content = PushContent.from(dto, objectMapper);
+
+        Long campaignId = pushCampaignRepository.save(PushCampaign.builder()
+                .type(dto.getType())
+                .title(content.title())
+                .content(content.content())
+                .view(content.view())
+                .actionJson(content.actionJson())
+                .createdBy(createdBy)
+                .build()).getId();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            PushCampaign campaign = load(transactionTemplate, campaignId, dto, content);
+            return ResponseEntity.ok(ApiResponseWrapper.success(new PushCampaignResponseDto(campaign)));
+        } catch (RuntimeException e) {
+            log.error("푸시 캠페인 대상 적재 실패 [{}]", campaignId, e);
+            transactionTemplate.executeWithoutResult(status -> discard(campaignId));
+            throw e;
+        }
+    }
+
+    private PushCampaign load(TransactionTemplate transactionTemplate, Long campaignId, CreateFcmMessageRequestDto dto, PushContent content) {
+        // 알림함 이력은 생성 시점에 저장하고, 토큰이 있는 대상만 발송 대기열에 넣는다
+        Long notificationId = transactionTemplate.execute(status -> {
+            Long id = pushHistoryRecorder.createNotification(content, dto.getType());
+            pushCampaignRepository.findById(campaignId).orElseThrow().attachNotification(id);
+            return id;
+        });
+        AtomicInteger totalCount = new AtomicInteger();
+        pushAudienceReader.forEachChunk(dto.getType(), dto.getTarget(), dto.getSegmentId(), chunk -> transactionTemplate.executeWithoutResult(status -> {
+            // 적재가 오래 걸려 정리 스케줄러가 실패 처리했으면 중단
+            if (!pushCampaignRepository.findByIdForUpdate(campaignId).map(PushCampaign::isPreparing).orElse(false)) {
+                throw new IllegalStateException("적재 중인 캠페인이 아닙니다.");
+            }
+            List<PushDelivery> deliveries = chunk.stream()
+                    .filter(PushTarget::hasToken)
+                    .map(target -> new PushDelivery(campaignId, target.memberId(), target.name(), target.fcmToken()))
+                    .toList();
+            pushDeliveryRepository.bulkInsert(deliveries);
+            pushHistoryRecorder.recordRecipients(notificationId, dto.getType(), chunk);
+            totalCount.addAndGet(deliveries.size());
+        }));
+
+        return transactionTemplate.execute(status -> {
+            PushCampaign saved = pushCampaignRepository.findById(campaignId).orElseThrow();
+            saved.prepared(totalCount.get());
+            return saved;
+        });
+    }
+
+    /** 생성 후 timeout 이 지나도 PREPARING 인 캠페인(적재 중 노드 종료 등)을 실패 처리. @return 정리한 캠페인 수 */
+    public int failStalePreparing(Duration timeout) {
+        int failed = 0;
+        for (Long campaignId : pushCampaignRepository.findIdsByStatusAndCreatedBefore(PushCampaignStatus.PREPARING, LocalDateTime.now().minus(timeout))) {
+            if (discard(campaignId)) {
+                log.warn("적재가 끝나지 않은 푸시 캠페인 실패 처리 [{}]", campaignId);
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    // 적재 중인 캠페인을 FAILED 로 바꾸고 적재된 발송 대기/알림함 행을 지운다
+    private boolean discard(Long campaignId) {
+        PushCampaign campaign = pushCampaignRepository.findByIdForUpdate(campaignId).orElse(null);
+        if (campaign == null || !campaign.isPreparing()) {
+            return false;
+        }
+        campaign.fail();
+        pushDeliveryRepository.deleteByCampaignId(campaignId);
+        if (campaign.getNotificationId() != null) {
+            pushHistoryRecorder.discardNotification(campaign.getNotificationId());
+        }
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<ApiResponseWrapper> getCampaignList(Pageable pageable) {
+        Page<PushCampaign> campaigns = pushCampaignRepository.findAllByOrderByIdDesc(pageable);
+        List<PushCampaignResponseDto> campaignList = campaigns.getContent().stream().map(PushCampaignResponseDto::new).toList();
+        PageInfoProcessDto pageInfo = new PageInfoProcessDto(campaigns.getNumber() + 1, campaigns.getTotalPages(), campaigns.getSize(), campaigns.getTotalElements());
+        return ResponseEntity.ok(ApiResponseWrapper.success(new PushCampaignListResponseDto(campaignList, pageInfo)));
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<ApiResponseWrapper> getCampaign(Long id) {
+        PushCampaign campaign = pushCampaignRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("푸시 캠페인 ID가 존재하지 않습니다."));
+        Map<String, Long> statusCount = new LinkedHashMap<>();
+        for (PushDeliveryStatus status : PushDeliveryStatus.values()) {
+            statusCount.put(status.name(), 0L);
+        }
+        for (Object[] row : pushDeliveryRepository.countByStatus(id)) {
+            statusCount.put(((PushDeliveryStatus) row[0]).name(), (Long) row[1]);
+        }
+        return ResponseEntity.ok(ApiResponseWrapper.success(new PushCampaignDetailResponseDto(new PushCampaignResponseDto(campaign), statusCount)));
+    }
+
+    public ResponseEntity<ApiResponseWrapper> cancelCampaign(Long id) {
+        PushCampaign campaign = pushCampaignRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("푸시 캠페인 ID가 존재하지 않습니다."));
+        if (campaign.isFinished()) {
+            return ResponseEntity.badRequest().body(ApiResponseWrapper.fail("이미 종료된 캠페인입니다."));
+        }
+        campaign.cancel();
+        int canceled = pushDeliveryRepository.cancelUnfinished(id, PushDeliveryStatus.UNFINISHED, PushDeliveryStatus.FAILED);
+        log.info("푸시 캠페인 취소 [{}] 미발송 {}건", id, canceled);
+        return ResponseEntity.ok(ApiResponseWrapper.success(new PushCampaignResponseDto(campaign)));
+    }
+}
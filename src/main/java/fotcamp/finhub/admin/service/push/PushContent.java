@@ -0,0 +1,50 @@
+package fotcamp.finhub.admin.service.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fotcamp.finhub.admin.dto.request.CreateFcmMessageRequestDto;
+import fotcamp.finhub.main.dto.process.FcmMessageProcessDto;
+
+/** 푸시 본문. 캠페인에 그대로 저장했다가 발송 시 대상 토큰별 FCM 메시지로 만든다. */
+public record PushContent(String title, String content, String view, String actionJson) {
+
+    public static PushContent from(CreateFcmMessageRequestDto dto, ObjectMapper objectMapper) throws JsonProcessingException {
+        return new PushContent(dto.getTitle(), dto.getContent(), dto.getView(), objectMapper.writeValueAsString(dto.getAction()));
+    }
+
+    public FcmMessageProcessDto.FcmMessage toMessage(String token) {
+        return FcmMessageProcessDto.FcmMessage.builder()
+                .token(token)
+                .notification(FcmMessageProcessDto.Notification.builder()
+                        .title(title)
+                        .body(content)
+                        .build())
+                .data(FcmMessageProcessDto.DataContent.builder()
+                        .title(title)
+                        .body(content)
+                        .view(view)
+                        .action(actionJson)
+                        .build())
+                .apns(buildApnsPayload())
+                .build();
+    }
+
+    private FcmMessageProcessDto.Apns buildApnsPayload() {
+        FcmMessageProcessDto.Alert alert = FcmMessageProcessDto.Alert.builder()
+                .title(title)
+                .body(content)
+                .build();
+
+        FcmMessageProcessDto.Aps aps = FcmMessageProcessDto.Aps.builder()
+                .alert(alert)
+                .mutableContent(1L)
+                .build();
+
+        FcmMessageProcessDto.Payload payload = FcmMessageProcessDto.Payload.builder()
+                .aps(aps).build();
+
+        return FcmMessageProcessDto.Apns.builder()
+                .payload(payload)
+                .build();
+    }
+}
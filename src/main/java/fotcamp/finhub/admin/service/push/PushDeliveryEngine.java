@@ -0,0 +1,121 @@
+package fotcamp.finhub.admin.service.push;
+
+import fotcamp.finhub.common.exception.FcmException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 푸시 병렬 발송 엔진
+ * 대상별 발송을 워커 풀(또는 가상 스레드)에 나눠 실행하되, 엔진 전체의 동시 실행 수를 push.delivery.concurrency 로 제한한다.
+ * 동기 발송(FcmService)과 캠페인 발송(PushCampaignDispatcher)이 같은 허가를 나눠 쓰므로 합쳐도 FCM 벌크헤드를 넘지 않는다.
+ * 허가는 요청 순서대로 주므로 큰 캠페인이 돌고 있어도 동기 발송이 계속 밀리지 않는다.
+ * 완료되는 순서대로 결과를 호출 스레드로 넘겨준다. DB 트랜잭션 밖에서 호출해야 한다.
+ */
+@Slf4j
+@Component
+public class PushDeliveryEngine implements DisposableBean {
+
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    public PushDeliveryEngine(@Value("${push.delivery.concurrency:32}") int concurrency,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        this.permits = new Semaphore(concurrency, true);
+        if (virtualThreadsEnabled) {
+            this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        } else {
+            AtomicInteger sequence = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+                Thread thread = new Thread(runnable, "push-delivery-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * @return 발송에 실패한 대상 목록 (완료 순)
+     */
+    public <T> List<T> deliver(Iterable<T> targets, PushTask<T> task) {
+        List<T> failList = new ArrayList<>();
+        deliver(targets, task, result -> {
+            if (!result.isSuccess()) {
+                failList.add(result.target());
+            }
+        });
+        return failList;
+    }
+
+    /**
+     * 발송 결과를 완료되는 대로 resultConsumer 에 전달한다. resultConsumer 는 호출 스레드에서만 실행된다.
+     */
+    public <T> void deliver(Iterable<T> targets, PushTask<T> task, Consumer<PushResult<T>> resultConsumer) {
+        CompletionService<PushResult<T>> completionService = new ExecutorCompletionService<>(executor);
+        int pending = 0;
+
+        try {
+            for (T target : targets) {
+                permits.acquire();
+                completionService.submit(() -> {
+                    try {
+                        task.send(target);
+                        return new PushResult<>(target, null);
+                    } catch (Exception e) {
+                        log.debug("푸시 발송 실패: {}", e.getMessage());
+                        return new PushResult<>(target, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+                pending++;
+                // 제출하는 동안 끝난 결과는 바로 넘긴다
+                Future<PushResult<T>> done;
+                while ((done = completionService.poll()) != null) {
+                    resultConsumer.accept(resultOf(done));
+                    pending--;
+                }
+            }
+            while (pending > 0) {
+                resultConsumer.accept(resultOf(completionService.take()));
+                pending--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FcmException("PUSH_DELIVERY_INTERRUPTED");
+        }
+    }
+
+    private <T> PushResult<T> resultOf(Future<PushResult<T>> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            // task 내부에서 모든 예외를 처리하므로 발생하지 않는다
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /** @param error 성공이면 null */
+    public record PushResult<T>(T target, Exception error) {
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    @FunctionalInterface
+    public interface PushTask<T> {
+        void send(T target) throws Exception;
+    }
+}
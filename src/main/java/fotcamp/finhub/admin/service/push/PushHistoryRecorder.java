@@ -0,0 +1,69 @@
+package fotcamp.finhub.admin.service.push;
+
+import fotcamp.finhub.admin.repository.NotificationRepository;
+import fotcamp.finhub.common.domain.Notification;
+import fotcamp.finhub.common.domain.NotificationAudience;
+import fotcamp.finhub.main.repository.MemberNotificationRepository;
+import fotcamp.finhub.main.repository.MemberRepository;
+import fotcamp.finhub.main.repository.MemberUnreadCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 알림함 이력 저장. 푸시 허용 회원에게는 토큰 유무와 관계없이 이력을 남긴다.
+ * 회원 전체 발송(type 2, 4)은 Notification 한 건만 BROADCAST 로 저장하고 회원별 행은 만들지 않는다. (조회 시 합침)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional
+public class PushHistoryRecorder {
+
+    private final NotificationRepository notificationRepository;
+    private final MemberNotificationRepository memberNotificationRepository;
+    private final MemberRepository memberRepository;
+    private final MemberUnreadCounterRepository memberUnreadCounterRepository;
+
+    /** @return 저장된 Notification id */
+    public Long createNotification(PushContent content, Long type) {
+        boolean broadcast = isBroadcast(type);
+        return notificationRepository.save(Notification.builder()
+                .title(content.title())
+                .message(content.content())
+                .url(content.view())
+                .audience(broadcast ? NotificationAudience.BROADCAST : NotificationAudience.DIRECT)
+                .audienceMaxMemberId(broadcast ? memberRepository.findMaxMemberId() : null)
+                .sentAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    /** 적재에 실패한 발송의 알림함 이력 삭제 */
+    public void discardNotification(Long notificationId) {
+        memberNotificationRepository.deleteByNotification(notificationId);
+        notificationRepository.deleteById(notificationId);
+    }
+
+    public static boolean isBroadcast(Long type) {
+        return type == 2 || type == 4;
+    }
+
+    /** 대상 chunk 의 회원 알림함 이력 저장 (관리자 대상, BROADCAST 는 제외) */
+    public void recordRecipients(Long notificationId, Long type, List<PushTarget> targets) {
+        if (isBroadcast(type)) {
+            return;
+        }
+        List<Long> memberIds = targets.stream()
+                .map(PushTarget::memberId)
+                .filter(Objects::nonNull)
+                .distinct() // (member_id, noti_id) 유니크 키
+                .toList();
+        // 카운터 행이 없는 회원은 이번 이력을 넣기 전 알림함 기준으로 먼저 채운다 (없는 채로 증가하면 1부터 시작해 이전 안 읽은 알림이 빠진다)
+        memberUnreadCounterRepository.backfillMissing(memberIds);
+        memberNotificationRepository.bulkInsert(notificationId, memberIds);
+        memberUnreadCounterRepository.incrementUnread(memberIds);
+    }
+}
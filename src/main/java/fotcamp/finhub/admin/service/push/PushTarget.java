@@ -0,0 +1,12 @@
+package fotcamp.finhub.admin.service.push;
+
+/**
+ * 푸시 발송 대상. 발송은 트랜잭션 밖에서 이루어지므로 엔티티 대신 필요한 값만 들고 다닌다.
+ * @param memberId 회원이면 MEMBER_ID, 관리자면 null
+ */
+public record PushTarget(Long memberId, String name, String fcmToken) {
+
+    public boolean hasToken() {
+        return fcmToken != null;
+    }
+}
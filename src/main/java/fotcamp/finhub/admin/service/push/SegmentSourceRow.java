@@ -0,0 +1,5 @@
+package fotcamp.finhub.admin.service.push;
+
+/** 세그먼트 원천 행. sourceId 는 증분 갱신 watermark 로 쓰인다. */
+public record SegmentSourceRow(Long sourceId, Long memberId) {
+}
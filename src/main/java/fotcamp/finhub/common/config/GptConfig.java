@@ -1,22 +1,57 @@
 package fotcamp.finhub.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.client.OpenAiApi;
 import com.theokanning.openai.service.OpenAiService;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import retrofit2.Retrofit;
+import retrofit2.adapter.rxjava2.RxJava2CallAdapterFactory;
+import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * OpenAiService 설정
+ * gpt.base-url 로 OpenAI 호환 서버(프록시, 로컬 대역 서버 등)를 가리킬 수 있다.
+ * 스트리밍 호출은 OkHttp Dispatcher 의 비동기 호출이라 호스트당 동시 요청 수(기본 5)에 묶이므로
+ * gpt.http.max-requests 로 동시 요청 수와 커넥션 풀 크기를 함께 맞춘다.
+ */
 @Slf4j
 @Configuration
 public class GptConfig {
     @Value("${gpt.token}")
     private String token;
+    @Value("${gpt.base-url:https://api.openai.com/}")
+    private String baseUrl;
+    @Value("${gpt.timeout-seconds:600}")
+    private long timeoutSeconds;
+    @Value("${gpt.http.max-requests:16}")
+    private int maxRequests;
 
     @Bean
     public OpenAiService openAiService() {
-        log.info("token : {}을 활용한 OpenAiService 을 생성합니다.", token);
-        return new OpenAiService(token, Duration.ofSeconds(600));
+        String url = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        log.info("{} 을 호출하는 OpenAiService 를 생성합니다.", url);
+
+        OkHttpClient client = OpenAiService.defaultClient(token, Duration.ofSeconds(timeoutSeconds)).newBuilder()
+                .connectionPool(new ConnectionPool(maxRequests, 5, TimeUnit.MINUTES))
+                .build();
+        client.dispatcher().setMaxRequests(maxRequests);
+        client.dispatcher().setMaxRequestsPerHost(maxRequests);
+
+        ObjectMapper mapper = OpenAiService.defaultObjectMapper();
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl(url)
+                .client(client)
+                .addConverterFactory(JacksonConverterFactory.create(mapper))
+                .addCallAdapterFactory(RxJava2CallAdapterFactory.create())
+                .build();
+        return new OpenAiService(retrofit.create(OpenAiApi.class), client.dispatcher().executorService());
     }
 }
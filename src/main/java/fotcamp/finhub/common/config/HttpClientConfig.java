@@ -0,0 +1,72 @@
+package fotcamp.finhub.common.config;
+
+import fotcamp.finhub.common.http.ExternalCallGuard;
+import fotcamp.finhub.common.http.ExternalCallGuardInterceptor;
+import fotcamp.finhub.common.http.OutboundDestination;
+import fotcamp.finhub.common.http.OutboundHttpClients;
+import fotcamp.finhub.common.http.OutboundMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * 외부 연동(카카오, 구글, 애플, FCM, 슬랙) HTTP 클라이언트 설정
+ * 대상별로 JDK HttpClient 를 하나씩 만들어 keep-alive 커넥션 풀을 분리하고, 원격지가 지원하면 HTTP/2 로 통신한다.
+ * 타임아웃은 http-client.* 기본값을 쓰고, http-client.{대상}.* 로 대상별 덮어쓰기가 가능하다.
+ * spring.threads.virtual.enabled=true 이면 HttpClient 내부 작업도 가상 스레드에서 수행한다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${http-client.connect-timeout-ms:3000}")
+    private long defaultConnectTimeoutMs;
+
+    @Value("${http-client.read-timeout-ms:10000}")
+    private long defaultReadTimeoutMs;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Bean
+    public OutboundHttpClients outboundHttpClients(Environment environment, MeterRegistry meterRegistry, ExternalCallGuard externalCallGuard) {
+        Map<OutboundDestination, RestTemplate> clients = new EnumMap<>(OutboundDestination.class);
+        for (OutboundDestination destination : OutboundDestination.values()) {
+            clients.put(destination, createRestTemplate(destination, environment, meterRegistry, externalCallGuard));
+        }
+        return new OutboundHttpClients(clients);
+    }
+
+    private RestTemplate createRestTemplate(OutboundDestination destination, Environment environment, MeterRegistry meterRegistry, ExternalCallGuard externalCallGuard) {
+        String prefix = "http-client." + destination.getTag();
+        long connectTimeoutMs = environment.getProperty(prefix + ".connect-timeout-ms", Long.class, defaultConnectTimeoutMs);
+        long readTimeoutMs = environment.getProperty(prefix + ".read-timeout-ms", Long.class, defaultReadTimeoutMs);
+
+        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2) // ALPN 협상 실패 시 HTTP/1.1 로 자동 전환
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (virtualThreadsEnabled) {
+            httpClientBuilder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        HttpClient httpClient = httpClientBuilder.build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        // 서킷/벌크헤드에서 거절된 호출은 실제 요청 메트릭에 잡히지 않도록 가드를 바깥에 둔다
+        restTemplate.getInterceptors().add(new ExternalCallGuardInterceptor(externalCallGuard, destination));
+        restTemplate.getInterceptors().add(new OutboundMetricsInterceptor(meterRegistry, destination));
+        return restTemplate;
+    }
+}
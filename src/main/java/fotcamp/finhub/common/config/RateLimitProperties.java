@@ -0,0 +1,58 @@
+package fotcamp.finhub.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로별 요청 제한 설정 (rate-limit.rules[n].*)
+ * 설정이 없으면 아래 기본 규칙을 사용한다. 한 요청에 여러 규칙이 걸리면 모두 통과해야 한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // X-Forwarded-For 를 붙이는 앞단 프록시(로드밸런서) 주소 또는 CIDR. 비어 있으면 X-Forwarded-For 를 보지 않는다
+    private List<String> trustedProxies = new ArrayList<>();
+
+    private List<Rule> rules = new ArrayList<>(List.of(
+            new Rule("oauth-callback", "/api/v1/auth/login/oauth2/callback/*", KeyType.IP, 20, 20),
+            new Rule("update-access-token", "/api/v1/auth/updateAccessToken", KeyType.IP, 30, 30),
+            new Rule("auto-login", "/api/v1/*/autoLogin", KeyType.IP, 30, 30),
+            new Rule("search-ip", "/api/v1/main/search/**", KeyType.IP, 60, 60),
+            new Rule("search-member", "/api/v1/main/search/**", KeyType.MEMBER, 30, 30)
+    ));
+
+    public enum KeyType {
+        IP, MEMBER
+    }
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String name;
+        private String pattern;
+        private KeyType key = KeyType.IP;
+        private long capacity;          // 순간 허용량 (버킷 크기)
+        private long refillPerMinute;   // 분당 충전량
+
+        public Rule() {
+        }
+
+        public Rule(String name, String pattern, KeyType key, long capacity, long refillPerMinute) {
+            this.name = name;
+            this.pattern = pattern;
+            this.key = key;
+            this.capacity = capacity;
+            this.refillPerMinute = refillPerMinute;
+        }
+    }
+}
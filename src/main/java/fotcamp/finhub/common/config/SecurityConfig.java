@@ -1,8 +1,10 @@
 package fotcamp.finhub.common.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import fotcamp.finhub.common.ratelimit.RateLimitStore;
 import fotcamp.finhub.common.security.*;
 import fotcamp.finhub.common.utils.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -33,6 +35,8 @@ public class SecurityConfig {
     private final JwtUtil jwtUtil;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final ObjectMapper objectMapper;
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimitStore rateLimitStore;
 
     @Value("${api-header.key}") private String expectedHeaderKey;
     @Value("${api-header.value}") private String expectedHeaderValue;
@@ -60,13 +64,17 @@ public class SecurityConfig {
 
         // JwtAuthFilter를 UsernamePasswordAuthenticationFilter 앞에 추가
         // JwtExceptionFilter를 JwtAuthFilter를 앞에 추가
+        // RateLimitFilter를 JwtExceptionFilter 앞에 추가
         http.addFilterBefore(new JwtAuthFilter(customUserDetailService, objectMapper, jwtUtil), UsernamePasswordAuthenticationFilter.class);
         http.addFilterBefore(new JwtExceptionFilter(objectMapper, expectedHeaderKey, expectedHeaderValue), JwtAuthFilter.class);
+        http.addFilterBefore(new RateLimitFilter(rateLimitProperties, rateLimitStore, jwtUtil, objectMapper), JwtExceptionFilter.class);
         http.exceptionHandling( (exceptionHandling) -> exceptionHandling
                 .accessDeniedHandler(customAccessDeniedHandler));
 
         // 권한 규칙 생성
         http.authorizeHttpRequests(authorize -> authorize
+                // SSE 등 비동기 응답의 재디스패치. 권한은 최초 요청에서 검사했고, JwtAuthFilter(OncePerRequestFilter)는 재디스패치에서 돌지 않는다
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(AUTH_WHITELIST).permitAll() // 로그인 없이 접근이 가능한 api
                 .requestMatchers("/api/v1/admin/**").hasAnyRole("SUPER","BE","FE") //admin api는 관리자 계정만
                 .requestMatchers("/api/v1/member/**").hasRole("USER")
@@ -4,7 +4,9 @@ import fotcamp.finhub.admin.dto.process.GptProcessDto;
 import jakarta.persistence.*;
 import lombok.*;
 
+// 유니크 키 적용 전 중복 정리 : resources/db/gpt_topic_usertype_unique.sql
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_gpt_topic_usertype", columnNames = {"topic_id", "usertype_id"}))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
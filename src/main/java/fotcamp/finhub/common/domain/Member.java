@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -40,6 +41,12 @@ public class Member {
     private LocalDateTime fcmTokenCreatedAt;
     private String provider; // OAuth 가입 방법 ( google , kakao, apple )
 
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt; // 가입 시각 (컬럼 추가 이전 가입자는 null)
+
+    private LocalDateTime userTypeChangedAt; // 유저타입을 마지막으로 바꾼 시각 (USER_TYPE 세그먼트 증분 갱신용)
+
     @Column(name = "MEMBER_UUID")
     private String memberUuid; // 소셜 로그인시, 저장될 멤버 고유식별자값
 
@@ -69,8 +76,8 @@ public class Member {
     @OneToMany(mappedBy = "member", cascade = CascadeType.PERSIST, orphanRemoval = true)
     private List<RecentSearch> recentSearchList = new ArrayList<>();
 
-    @OneToOne(mappedBy = "member", cascade = CascadeType.PERSIST, orphanRemoval = true)
-    private RefreshToken refreshToken;
+    @OneToMany(mappedBy = "member", cascade = CascadeType.PERSIST, orphanRemoval = true)
+    private List<RefreshToken> refreshTokenList = new ArrayList<>();
 
     public Member(String email, String name, String provider, String memberUuid){
         this.email = email;
@@ -106,6 +113,7 @@ public class Member {
 
     public void updateJob(UserType userType){
         this.userType = userType;
+        this.userTypeChangedAt = LocalDateTime.now();
     }
 
     public void updateAvatar(UserAvatar userAvatar){
@@ -129,7 +137,10 @@ public class Member {
         this.calendarEmoticon = calendarEmoticon;
     }
 
-    public void removeUsertype() {this.userType = null;}
+    public void removeUsertype() {
+        this.userType = null;
+        this.userTypeChangedAt = LocalDateTime.now();
+    }
     public void removeCalendarEmoticon(){this.calendarEmoticon = null;}
     public void removeFcmToken() {
         this.fcmToken = null;
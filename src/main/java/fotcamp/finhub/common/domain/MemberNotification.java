@@ -7,6 +7,7 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_member_notification_member_noti", columnNames = {"MEMBER_ID", "NOTI_ID"}))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,25 @@
+package fotcamp.finhub.common.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 배지용 회원별 카운터. 값 변경은 MemberUnreadCounterRepository 의 원자적 UPDATE/upsert 로만 한다.
+ * unreadCount : 안 읽은 개별 발송(DIRECT) 알림 수
+ * broadcastReadCount : 읽은 BROADCAST 알림 수 (안 읽은 BROADCAST = 노출 대상 BROADCAST 수 - 이 값)
+ */
+@Entity
+@Table(name = "MEMBER_UNREAD_COUNTER")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberUnreadCounter {
+
+    @Id
+    @Column(name = "MEMBER_ID")
+    private Long memberId;
+
+    private long unreadCount;
+    private long broadcastReadCount;
+}
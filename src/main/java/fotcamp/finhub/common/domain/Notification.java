@@ -4,10 +4,12 @@ package fotcamp.finhub.common.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_notification_audience", columnList = "audience, audience_max_member_id"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -23,6 +25,22 @@ public class Notification {
     private String message;
     private String url;
 
+    @Enumerated(EnumType.STRING)
+    private NotificationAudience audience; // 기존 데이터는 null (DIRECT 로 취급)
+
+    @Column(name = "audience_max_member_id")
+    private Long audienceMaxMemberId; // BROADCAST 발송 시점의 마지막 회원 id, 이후 가입자에게는 노출하지 않는다
+
+    private LocalDateTime sentAt;
+
     @OneToMany(mappedBy = "notification")
     private List<MemberNotification> memberNotificationList = new ArrayList<>();
+
+    public boolean isBroadcast() {
+        return audience == NotificationAudience.BROADCAST;
+    }
+
+    public boolean isVisibleTo(Long memberId) {
+        return isBroadcast() && audienceMaxMemberId != null && memberId <= audienceMaxMemberId;
+    }
 }
@@ -0,0 +1,9 @@
+package fotcamp.finhub.common.domain;
+
+/**
+ * DIRECT : 수신자마다 MemberNotification 행을 저장 (이메일 지정 발송)
+ * BROADCAST : Notification 한 건만 저장하고 알림함 조회 시 합쳐서 보여준다. 읽음 처리 시에만 MemberNotification 이 생긴다.
+ */
+public enum NotificationAudience {
+    DIRECT, BROADCAST
+}
@@ -5,7 +5,17 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
+/** 회원 리프레시 토큰. 회원 1명이 기기(deviceId)별로 여러 세션을 가질 수 있다. */
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_member_device", columnNames = {"member_id", "device_id"}),
+        indexes = {
+                @Index(name = "idx_refresh_token_token", columnList = "token"),
+                @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_refresh_token_previous_token", columnList = "previous_token")
+        })
 @NoArgsConstructor
 @Getter
 public class RefreshToken {
@@ -17,18 +27,26 @@ public class RefreshToken {
     @NotBlank
     private String token;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
 
-    public RefreshToken(Member member, String token) {
-        this.member = member;
-        this.token = token;
-    }
+    @Column(name = "device_id")
+    private String deviceId;
+
+    @Column(name = "expires_at") // 기존 데이터는 null 이며 유효한 것으로 취급
+    private LocalDateTime expiresAt;
 
-    public RefreshToken updateToken(String token){
+    @Column(name = "previous_token") // 직전 토큰 (재사용 감지용)
+    private String previousToken;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    public RefreshToken(Member member, String deviceId, String token, LocalDateTime expiresAt) {
+        this.member = member;
+        this.deviceId = deviceId;
         this.token = token;
-        return this;
+        this.expiresAt = expiresAt;
     }
 }
-
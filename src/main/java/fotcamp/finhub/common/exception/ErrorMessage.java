@@ -9,7 +9,8 @@ public enum ErrorMessage {
     DUPLICATED_EMAIL("중복되는 이메일입니다.", 400),
     EMPTY_HEADER("헤더 필수값이 비어있습니다.", 400),
     NOT_CORRECT_HEADER("헤더 필수값이 틀렸습니다.", 403),
-    NOT_FOUND("해당 요청 데이터가 존재하지 않습니다.", 404);
+    NOT_FOUND("해당 요청 데이터가 존재하지 않습니다.", 404),
+    TOO_MANY_REQUESTS("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", 429);
 
 
     private final String msg;
@@ -101,6 +101,18 @@ public class ExceptionController{
         return ResponseEntity.badRequest().body(ApiResponseWrapper.fail("FCM ERROR", e.getMessage()));
     }
 
+    @ExceptionHandler(ExternalServiceUnavailableException.class)
+    public ResponseEntity<ApiResponseWrapper> handleExternalServiceUnavailableException(ExternalServiceUnavailableException e){
+        log.warn(e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResponseWrapper.fail("외부 서비스 연동이 일시적으로 불가합니다.", e.getReason()));
+    }
+
+    @ExceptionHandler(GptBudgetExceededException.class)
+    public ResponseEntity<ApiResponseWrapper> handleGptBudgetExceededException(GptBudgetExceededException e){
+        log.warn(e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(ApiResponseWrapper.fail("GPT 토큰 예산을 초과했습니다.", e.getPeriod()));
+    }
+
     @ExceptionHandler(NoSuchFileException.class)
     public ResponseEntity<ApiResponseWrapper> handleS3ImgFileException(Exception e){
         return ResponseEntity.badRequest().body(ApiResponseWrapper.fail("S3 이미지 파일 에러 발생", e.getMessage()));
@@ -0,0 +1,18 @@
+package fotcamp.finhub.common.exception;
+
+import fotcamp.finhub.common.http.OutboundDestination;
+import lombok.Getter;
+
+/** 외부 연동 대상이 서킷 오픈, 벌크헤드 포화 등으로 호출 불가할 때 즉시 실패시키기 위한 예외 */
+@Getter
+public class ExternalServiceUnavailableException extends RuntimeException {
+
+    private final OutboundDestination destination;
+    private final String reason;
+
+    public ExternalServiceUnavailableException(OutboundDestination destination, String reason) {
+        super(destination.getTag() + " 연동 일시 불가 (" + reason + ")");
+        this.destination = destination;
+        this.reason = reason;
+    }
+}
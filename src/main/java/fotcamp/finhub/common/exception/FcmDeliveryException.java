@@ -0,0 +1,26 @@
+package fotcamp.finhub.common.exception;
+
+import lombok.Getter;
+
+/**
+ * FCM 단건 발송 실패. retryable 이면 캠페인 발송 시 백오프 후 재시도한다.
+ * deadToken 이면 FCM 이 더 이상 유효하지 않다고 응답한 토큰이므로 발송 후 회원/관리자 토큰을 지운다.
+ */
+@Getter
+public class FcmDeliveryException extends FcmException {
+
+    private final String errorCode;
+    private final boolean retryable;
+    private final boolean deadToken;
+
+    public FcmDeliveryException(String errorCode, boolean retryable) {
+        this(errorCode, retryable, false);
+    }
+
+    public FcmDeliveryException(String errorCode, boolean retryable, boolean deadToken) {
+        super(errorCode);
+        this.errorCode = errorCode;
+        this.retryable = retryable;
+        this.deadToken = deadToken;
+    }
+}
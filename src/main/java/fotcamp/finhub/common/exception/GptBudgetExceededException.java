@@ -0,0 +1,19 @@
+package fotcamp.finhub.common.exception;
+
+import lombok.Getter;
+
+/** GPT 토큰 일/월 예산을 다 써서 호출을 거절할 때 발생 */
+@Getter
+public class GptBudgetExceededException extends RuntimeException {
+
+    private final String period; // DAILY, MONTHLY
+    private final long usedTokens;
+    private final long limitTokens;
+
+    public GptBudgetExceededException(String period, long usedTokens, long limitTokens) {
+        super("GPT 토큰 예산 초과 (" + period + " " + usedTokens + "/" + limitTokens + ")");
+        this.period = period;
+        this.usedTokens = usedTokens;
+        this.limitTokens = limitTokens;
+    }
+}
@@ -0,0 +1,136 @@
+package fotcamp.finhub.common.http;
+
+import fotcamp.finhub.common.exception.ExternalServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 외부 연동 대상별 벌크헤드 + 서킷브레이커
+ * 대상 하나가 느려지거나 죽어도 동시 호출 수가 묶여 있으므로 DB 만 쓰는 API 까지 스레드가 고갈되지 않는다.
+ * 서킷이 열려 있으면 즉시, 벌크헤드가 가득 차면 max-wait-ms 만큼 기다린 뒤 ExternalServiceUnavailableException 으로 실패한다.
+ * GPT 는 일괄 생성, 비동기 작업, 동기 API 가 같은 벌크헤드를 쓰므로 기본 동시 호출 수를 세 풀의 합으로 잡고 잠시 기다린다.
+ * 설정 : resilience.{대상}.max-concurrent-calls, max-wait-ms, failure-rate-threshold, slow-call-ms, open-state-ms
+ * 상태 메트릭 : resilience4j.circuitbreaker.*, resilience4j.bulkhead.* (name 태그 = 대상)
+ */
+@Slf4j
+@Component
+public class ExternalCallGuard {
+
+    private final Map<OutboundDestination, CircuitBreaker> circuitBreakers = new EnumMap<>(OutboundDestination.class);
+    private final Map<OutboundDestination, Bulkhead> bulkheads = new EnumMap<>(OutboundDestination.class);
+
+    public ExternalCallGuard(Environment environment, MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        for (OutboundDestination destination : OutboundDestination.values()) {
+            String prefix = "resilience." + destination.getTag();
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(destination.getTag(), CircuitBreakerConfig.custom()
+                    .slidingWindowSize(environment.getProperty(prefix + ".sliding-window-size", Integer.class, 20))
+                    .minimumNumberOfCalls(environment.getProperty(prefix + ".minimum-calls", Integer.class, 10))
+                    .failureRateThreshold(environment.getProperty(prefix + ".failure-rate-threshold", Float.class, 50f))
+                    .slowCallRateThreshold(environment.getProperty(prefix + ".slow-call-rate-threshold", Float.class, 80f))
+                    .slowCallDurationThreshold(Duration.ofMillis(environment.getProperty(prefix + ".slow-call-ms", Long.class, defaultSlowCallMs(destination))))
+                    .waitDurationInOpenState(Duration.ofMillis(environment.getProperty(prefix + ".open-state-ms", Long.class, 30_000L)))
+                    .permittedNumberOfCallsInHalfOpenState(3)
+                    .build());
+            circuitBreaker.getEventPublisher().onStateTransition(event ->
+                    log.warn("외부 연동 서킷 상태 변경 [{}] {}", destination.getTag(), event.getStateTransition()));
+            circuitBreakers.put(destination, circuitBreaker);
+
+            bulkheads.put(destination, bulkheadRegistry.bulkhead(destination.getTag(), BulkheadConfig.custom()
+                    .maxConcurrentCalls(environment.getProperty(prefix + ".max-concurrent-calls", Integer.class, defaultMaxConcurrentCalls(destination, environment)))
+                    .maxWaitDuration(Duration.ofMillis(environment.getProperty(prefix + ".max-wait-ms", Long.class, defaultMaxWaitMs(destination))))
+                    .build()));
+        }
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    public <T, E extends Exception> T execute(OutboundDestination destination, GuardedCall<T, E> call) throws E {
+        return execute(destination, call, result -> false);
+    }
+
+    /**
+     * @param failedResult 예외는 아니지만 실패로 집계할 결과 (ex. 5xx 응답)
+     */
+    @SuppressWarnings("unchecked")
+    public <T, E extends Exception> T execute(OutboundDestination destination, GuardedCall<T, E> call, Predicate<T> failedResult) throws E {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(destination);
+        Bulkhead bulkhead = bulkheads.get(destination);
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new ExternalServiceUnavailableException(destination, "CIRCUIT_OPEN");
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            throw new ExternalServiceUnavailableException(destination, "BULKHEAD_FULL");
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            long elapsed = System.nanoTime() - start;
+            if (failedResult.test(result)) {
+                circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, new ExternalServiceUnavailableException(destination, "FAILED_RESULT"));
+            } else {
+                circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            }
+            return result;
+        } catch (RuntimeException | Error e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw e;
+        } catch (Exception e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw (E) e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    public CircuitBreaker.State getState(OutboundDestination destination) {
+        return circuitBreakers.get(destination).getState();
+    }
+
+    private long defaultSlowCallMs(OutboundDestination destination) {
+        // GPT 는 정상 응답도 수십 초가 걸리므로 느린 호출 기준을 따로 둔다
+        return destination == OutboundDestination.OPENAI ? 180_000L : 5_000L;
+    }
+
+    private int defaultMaxConcurrentCalls(OutboundDestination destination, Environment environment) {
+        return switch (destination) {
+            // 일괄 생성 풀 + 작업 실행 풀 + 동기 API 몫 (동기 API 몫은 GptService 가 따로 묶는다)
+            case OPENAI -> environment.getProperty("gpt.bulk.concurrency", Integer.class, 4)
+                    + environment.getProperty("gpt.job.concurrency", Integer.class, 4)
+                    + environment.getProperty("gpt.sync.max-concurrent-calls", Integer.class, 4);
+            // 모든 FCM 발송은 PushDeliveryEngine 을 거치므로 엔진 동시 실행 수와 맞춘다
+            case FCM -> environment.getProperty("push.delivery.concurrency", Integer.class, 32);
+            default -> 20;
+        };
+    }
+
+    private long defaultMaxWaitMs(OutboundDestination destination) {
+        // GPT 호출은 수십 초씩 걸려 자리가 잠깐 빌 때까지 기다리는 편이 실패 후 재시도보다 낫다
+        return destination == OutboundDestination.OPENAI ? 30_000L : 0L;
+    }
+
+    @FunctionalInterface
+    public interface GuardedCall<T, E extends Exception> {
+        T call() throws E;
+    }
+}
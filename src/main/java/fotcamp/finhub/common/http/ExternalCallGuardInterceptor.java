@@ -0,0 +1,30 @@
+package fotcamp.finhub.common.http;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/** RestTemplate 호출을 대상별 벌크헤드, 서킷브레이커 안에서 실행한다. 5xx 응답도 실패로 집계한다. */
+@RequiredArgsConstructor
+public class ExternalCallGuardInterceptor implements ClientHttpRequestInterceptor {
+
+    private final ExternalCallGuard externalCallGuard;
+    private final OutboundDestination destination;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        return externalCallGuard.execute(destination, () -> execution.execute(request, body), this::isServerError);
+    }
+
+    private boolean isServerError(ClientHttpResponse response) {
+        try {
+            return response.getStatusCode().is5xxServerError();
+        } catch (IOException e) {
+            return true;
+        }
+    }
+}
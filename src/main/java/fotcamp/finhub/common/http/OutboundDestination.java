@@ -0,0 +1,20 @@
+package fotcamp.finhub.common.http;
+
+import lombok.Getter;
+
+/** 외부 연동 대상. 대상별로 커넥션 풀, 타임아웃, 벌크헤드, 서킷브레이커, 메트릭 태그가 분리된다. */
+@Getter
+public enum OutboundDestination {
+    KAKAO("kakao"),
+    GOOGLE("google"),
+    APPLE("apple"),
+    FCM("fcm"),
+    SLACK("slack"),
+    OPENAI("openai");
+
+    private final String tag;
+
+    OutboundDestination(String tag) {
+        this.tag = tag;
+    }
+}
@@ -0,0 +1,26 @@
+package fotcamp.finhub.common.http;
+
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+/**
+ * 외부 연동 대상별 RestTemplate 보관소
+ * 대상마다 HttpClient(커넥션 풀)를 하나씩 공유하므로 호출마다 new RestTemplate() 하지 않는다.
+ */
+public class OutboundHttpClients {
+
+    private final Map<OutboundDestination, RestTemplate> clients;
+
+    public OutboundHttpClients(Map<OutboundDestination, RestTemplate> clients) {
+        this.clients = Map.copyOf(clients);
+    }
+
+    public RestTemplate get(OutboundDestination destination) {
+        RestTemplate restTemplate = clients.get(destination);
+        if (restTemplate == null) {
+            throw new IllegalStateException("등록되지 않은 외부 연동 대상입니다: " + destination);
+        }
+        return restTemplate;
+    }
+}
@@ -0,0 +1,52 @@
+package fotcamp.finhub.common.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/** 외부 연동 대상별 응답시간, 상태코드, 에러 여부를 finhub.outbound.requests 타이머로 기록한다. */
+@RequiredArgsConstructor
+public class OutboundMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String METRIC_NAME = "finhub.outbound.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final OutboundDestination destination;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "NONE";
+        String outcome = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int statusCode = response.getStatusCode().value();
+            status = String.valueOf(statusCode);
+            outcome = toOutcome(statusCode);
+            return response;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("destination", destination.getTag())
+                    .tag("method", request.getMethod().name())
+                    .tag("status", status)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private String toOutcome(int statusCode) {
+        if (statusCode >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (statusCode >= 400) {
+            return "CLIENT_ERROR";
+        }
+        return "SUCCESS";
+    }
+}
@@ -0,0 +1,72 @@
+package fotcamp.finhub.common.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** 로컬 인메모리 토큰 버킷. 버킷 상태는 불변 객체 + CAS 로 갱신하므로 락이 없다. */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Value("${rate-limit.idle-timeout-ms:600000}")
+    private long idleTimeoutMs;
+
+    @Override
+    public long tryConsume(String key, long capacity, long refillPerMinute) {
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerMinute)).tryConsume();
+    }
+
+    // 오래 요청이 없던 버킷은 어차피 가득 찬 상태이므로 제거해도 동작이 같다
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:60000}")
+    public void sweepIdleBuckets() {
+        long now = System.nanoTime();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs);
+        buckets.entrySet().removeIf(entry -> now - entry.getValue().lastRefillNanos() > idleNanos);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    static final class TokenBucket {
+
+        private record State(double tokens, long lastRefillNanos) {}
+
+        private final long capacity;
+        private final double refillPerNano;
+        private final AtomicReference<State> state;
+
+        TokenBucket(long capacity, long refillPerMinute) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+        }
+
+        long tryConsume() {
+            while (true) {
+                State current = state.get();
+                long now = System.nanoTime();
+                double tokens = Math.min(capacity, current.tokens() + (now - current.lastRefillNanos()) * refillPerNano);
+                if (tokens < 1) {
+                    return Math.max(1, TimeUnit.NANOSECONDS.toMillis((long) ((1 - tokens) / refillPerNano)));
+                }
+                if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                    return 0;
+                }
+            }
+        }
+
+        long lastRefillNanos() {
+            return state.get().lastRefillNanos();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package fotcamp.finhub.common.ratelimit;
+
+/**
+ * 토큰 버킷 저장소
+ * 단일 노드는 InMemoryRateLimitStore 로 충분하고, 다중 노드에서는 Redis 등 공유 저장소 구현체로 교체한다.
+ * (rate-limit.store 값이 memory 가 아니면 인메모리 빈이 등록되지 않는다)
+ */
+public interface RateLimitStore {
+
+    /**
+     * key 버킷에서 토큰 1개 소비를 시도한다.
+     * @return 0 이면 허용, 양수면 다음 토큰까지 남은 대기 시간(ms)
+     */
+    long tryConsume(String key, long capacity, long refillPerMinute);
+}
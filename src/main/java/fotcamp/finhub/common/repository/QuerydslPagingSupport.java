@@ -0,0 +1,68 @@
+package fotcamp.finhub.common.repository;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * QueryDSL 커스텀 리포지토리 공통 페이징
+ * 전체 건수는 엔티티를 읽지 않고 select count(id) 로 구하며, 첫 페이지가 size 보다 적거나 마지막 페이지면 count 쿼리를 생략한다.
+ * 정렬은 생성자로 받은 허용 속성만 가능하다. (요청 값이 그대로 JPQL 경로가 되지 않도록)
+ */
+public abstract class QuerydslPagingSupport<T> {
+
+    protected final JPAQueryFactory queryFactory;
+    private final EntityPathBase<T> root;
+    private final PathBuilder<T> pathBuilder;
+    private final Set<String> sortableProperties;
+
+    protected QuerydslPagingSupport(JPAQueryFactory queryFactory, EntityPathBase<T> root, String... sortableProperties) {
+        this.queryFactory = queryFactory;
+        this.root = root;
+        this.pathBuilder = new PathBuilder<>(root.getType(), root.getMetadata());
+        this.sortableProperties = Set.of(sortableProperties);
+    }
+
+    // 조회 조건만 있는 단순 목록
+    protected Page<T> fetchPage(Pageable pageable, Predicate... where) {
+        return fetchPage(pageable, queryFactory.selectFrom(root).where(where), countQuery(where));
+    }
+
+    // fetch join, 프로젝션 등으로 목록 쿼리와 count 쿼리가 다를 때 (정렬 경로는 root 기준)
+    protected <R> Page<R> fetchPage(Pageable pageable, JPAQuery<R> contentQuery, JPAQuery<Long> countQuery) {
+        List<R> content = contentQuery
+                .orderBy(getOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    protected JPAQuery<Long> countQuery(Predicate... where) {
+        return queryFactory.select(root.count()).from(root).where(where);
+    }
+
+    // Pageable의 Sort 객체를 이용해 Querydsl의 OrderSpecifier 배열로 변환
+    private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
+        return sort.stream()
+                .map(order -> {
+                    if (!sortableProperties.contains(order.getProperty())) {
+                        throw new IllegalArgumentException("Invalid sort property: " + order.getProperty());
+                    }
+                    return new OrderSpecifier<>(order.isAscending() ? Order.ASC : Order.DESC,
+                            pathBuilder.getComparable(order.getProperty(), Comparable.class));
+                })
+                .toArray(OrderSpecifier[]::new);
+    }
+}
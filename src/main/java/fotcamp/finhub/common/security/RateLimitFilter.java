@@ -0,0 +1,161 @@
+package fotcamp.finhub.common.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fotcamp.finhub.common.api.ApiStatus;
+import fotcamp.finhub.common.config.RateLimitProperties;
+import fotcamp.finhub.common.dto.response.ErrorMessageResponseDto;
+import fotcamp.finhub.common.exception.ErrorMessage;
+import fotcamp.finhub.common.ratelimit.RateLimitStore;
+import fotcamp.finhub.common.utils.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * 로그인, 토큰 재발급, 검색 API 요청 제한 (토큰 버킷)
+ * IP 기준 규칙과 회원(uuid) 기준 규칙을 각각 적용하며, JwtExceptionFilter 보다 앞에서 동작한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitProperties properties;
+    private final RateLimitStore rateLimitStore;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull FilterChain filterChain) throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String requestURI = request.getRequestURI();
+        String memberUuid = null;
+        boolean memberResolved = false;
+
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            if (!PATH_MATCHER.match(rule.getPattern(), requestURI)) {
+                continue;
+            }
+            String key;
+            if (rule.getKey() == RateLimitProperties.KeyType.MEMBER) {
+                if (!memberResolved) {
+                    memberUuid = resolveMemberUuid(request);
+                    memberResolved = true;
+                }
+                if (memberUuid == null) {
+                    continue; // 비로그인 요청은 IP 규칙만 적용
+                }
+                key = rule.getName() + ":member:" + memberUuid;
+            } else {
+                key = rule.getName() + ":ip:" + resolveClientIp(request);
+            }
+
+            long waitMs = rateLimitStore.tryConsume(key, rule.getCapacity(), rule.getRefillPerMinute());
+            if (waitMs > 0) {
+                log.info("요청 제한 초과 [{}] {}", rule.getName(), key);
+                setResponse(response, waitMs);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveMemberUuid(HttpServletRequest request) {
+        String token = jwtUtil.resolveToken(request);
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        try {
+            return jwtUtil.getUuid(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null; // 토큰 오류 응답은 뒤쪽 필터가 담당
+        }
+    }
+
+    /**
+     * X-Forwarded-For 의 왼쪽 값은 클라이언트가 마음대로 넣을 수 있으므로,
+     * 직접 연결한 주소가 신뢰하는 프록시일 때만 오른쪽부터 읽어 신뢰하는 프록시가 아닌 첫 주소를 클라이언트로 본다.
+     */
+    private String resolveClientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (!StringUtils.hasText(forwardedFor) || !isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !isTrustedProxy(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        for (String trusted : properties.getTrustedProxies()) {
+            if (matches(trusted.trim(), address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 단일 주소 또는 CIDR(10.0.0.0/8) 비교. 호스트명은 조회하지 않는다
+    private static boolean matches(String trusted, String address) {
+        int slash = trusted.indexOf('/');
+        if (slash < 0) {
+            return trusted.equals(address);
+        }
+        byte[] network = toBytes(trusted.substring(0, slash));
+        byte[] target = toBytes(address);
+        if (network == null || target == null || network.length != target.length) {
+            return false;
+        }
+        int prefix = Integer.parseInt(trusted.substring(slash + 1));
+        for (int i = 0; i < network.length && prefix > 0; i++, prefix -= 8) {
+            int mask = prefix >= 8 ? 0xFF : (0xFF << (8 - prefix)) & 0xFF;
+            if ((network[i] & mask) != (target[i] & mask)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] toBytes(String literal) {
+        if (!literal.matches("[0-9a-fA-F:.]+")) {
+            return null; // IP 리터럴이 아니면 DNS 조회를 하지 않도록 바로 거른다
+        }
+        try {
+            return InetAddress.getByName(literal).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private void setResponse(HttpServletResponse response, long waitMs) throws IOException {
+        ErrorMessage errorMessage = ErrorMessage.TOO_MANY_REQUESTS;
+        ErrorMessageResponseDto errMsg = new ErrorMessageResponseDto(ApiStatus.FAIL, errorMessage.getMsg(), errorMessage.toString());
+        response.setContentType("application/json;charset=UTF-8");
+        response.setStatus(errorMessage.getCode());
+        response.setHeader("Retry-After", String.valueOf((waitMs + 999) / 1000));
+        response.getWriter().write(objectMapper.writeValueAsString(errMsg));
+    }
+}
@@ -69,6 +69,17 @@ public class AwsS3Service {
         return s3Client.utilities().getUrl(getUrlRequest).toString() ;
     }
 
+    // 바이트 배열을 그대로 지정한 key 에 업로드 (보관 파일 등, 같은 key 면 덮어쓴다)
+    public void uploadBytes(String key, byte[] bytes, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .contentType(contentType)
+                .contentLength((long) bytes.length)
+                .key(key)
+                .build();
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+    }
+
     public String getFileName(MultipartFile multipartFile) {
         return CommonUtils.buildFileName(multipartFile.getOriginalFilename());
     }
@@ -0,0 +1,80 @@
+package fotcamp.finhub.common.service;
+
+import fotcamp.finhub.common.domain.Member;
+import fotcamp.finhub.common.domain.RefreshToken;
+import fotcamp.finhub.main.repository.TokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/** 회원 리프레시 토큰 DB 저장소 */
+@Component
+@RequiredArgsConstructor
+@Transactional
+public class MemberRefreshTokenStore implements RefreshTokenStore<Member> {
+
+    private final TokenRepository tokenRepository;
+
+    @Value("${jwt.refreshTokenExpirationTime}")
+    private long refreshTokenExpTime; // 초
+    @Value("${jwt.refresh-reuse-grace-seconds:30}")
+    private long reuseGraceSeconds;
+
+    @Override
+    public void issue(Member member, String deviceId, String token) {
+        tokenRepository.upsert(member.getMemberId(), RefreshTokenStore.normalizeDeviceId(deviceId), token, expiresAt());
+    }
+
+    @Override
+    public Rotation rotate(Member member, String deviceId, String oldToken, String newToken) {
+        LocalDateTime now = LocalDateTime.now();
+        if (tokenRepository.rotate(member.getMemberId(), RefreshTokenStore.normalizeDeviceId(deviceId), oldToken, newToken, expiresAt(), now) > 0) {
+            return new Rotation(TokenState.ACTIVE, newToken);
+        }
+        return tokenRepository.findRotatedFromForUpdate(member.getMemberId(), oldToken).stream()
+                .findFirst()
+                .map(rotated -> inGrace(rotated, now)
+                        ? new Rotation(TokenState.GRACE, rotated.getToken())
+                        : new Rotation(TokenState.REUSED, null))
+                .orElse(new Rotation(TokenState.UNKNOWN, null));
+    }
+
+    @Override
+    public TokenState inspect(Member member, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        if (tokenRepository.existsActiveToken(token, now)) {
+            return TokenState.ACTIVE;
+        }
+        return tokenRepository.findRotatedFromForUpdate(member.getMemberId(), token).stream()
+                .findFirst()
+                .map(rotated -> inGrace(rotated, now) ? TokenState.GRACE : TokenState.REUSED)
+                .orElse(TokenState.UNKNOWN);
+    }
+
+    @Override
+    public void revoke(String token) {
+        tokenRepository.deleteByToken(token);
+    }
+
+    @Override
+    public void revokeAll(Member member) {
+        tokenRepository.deleteAllByMember(member);
+    }
+
+    @Override
+    public int purgeExpired() {
+        tokenRepository.backfillLegacy(expiresAt());
+        return tokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private boolean inGrace(RefreshToken rotated, LocalDateTime now) {
+        return rotated.getRotatedAt() != null && rotated.getRotatedAt().isAfter(now.minusSeconds(reuseGraceSeconds));
+    }
+
+    private LocalDateTime expiresAt() {
+        return LocalDateTime.now().plusSeconds(refreshTokenExpTime);
+    }
+}
@@ -0,0 +1,48 @@
+package fotcamp.finhub.common.service;
+
+/**
+ * 리프레시 토큰 저장소
+ * 소유자(회원/관리자)별로 기기(deviceId)마다 토큰 1개를 유지하며, 만료 시각(expiresAt) 인덱스로 만료분을 일괄 삭제한다.
+ * 교체할 때 직전 토큰과 교체 시각을 남겨, 동시 갱신/응답 유실 후 재시도(유예 시간 안)와 탈취 토큰 재사용(유예 시간 이후)을 구분한다.
+ * @param <O> 토큰 소유자
+ */
+public interface RefreshTokenStore<O> {
+
+    String DEFAULT_DEVICE_ID = "default";
+
+    /** 로그인 시 기기별 토큰 저장 (있으면 교체, 없으면 추가. 유니크 키 upsert 라 동시 로그인에도 안전) */
+    void issue(O owner, String deviceId, String token);
+
+    /**
+     * 소유자의 기기에 저장된 oldToken 이 유효할 때만 newToken 으로 교체한다. 단일 UPDATE 로 처리한다.
+     * 교체에 실패했는데 oldToken 이 방금 교체된 직전 토큰이면 GRACE 와 현재 토큰을 돌려준다.
+     */
+    Rotation rotate(O owner, String deviceId, String oldToken, String newToken);
+
+    /** 토큰 상태 확인 (액세스 토큰 재발급용, 교체하지 않는다) */
+    TokenState inspect(O owner, String token);
+
+    /** 로그아웃 */
+    void revoke(String token);
+
+    /** 이미 교체된 토큰이 유예 시간 이후 다시 쓰이면(재사용 감지) 탈취로 보고 소유자의 모든 기기 세션을 끊는다 */
+    void revokeAll(O owner);
+
+    /** 기기/만료 시각이 없는 이전 행을 채운 뒤 만료 토큰을 삭제한다. @return 삭제된 만료 토큰 수 */
+    int purgeExpired();
+
+    static String normalizeDeviceId(String deviceId) {
+        return (deviceId == null || deviceId.isBlank()) ? DEFAULT_DEVICE_ID : deviceId;
+    }
+
+    enum TokenState {
+        ACTIVE,   // 저장된 현재 토큰
+        GRACE,    // 유예 시간 안에 다시 쓰인 직전 토큰 (동시 갱신, 재시도)
+        REUSED,   // 유예 시간이 지난 직전 토큰 (탈취 의심)
+        UNKNOWN   // 로그아웃/만료되었거나 저장된 적 없는 토큰
+    }
+
+    /** @param refreshToken 클라이언트가 이어서 쓸 리프레시 토큰 (ACTIVE 면 새 토큰, GRACE 면 이미 교체된 현재 토큰, 그 외 null) */
+    record Rotation(TokenState state, String refreshToken) {
+    }
+}
@@ -1,19 +1,24 @@
 package fotcamp.finhub.common.service;
 
-import com.slack.api.Slack;
-import com.slack.api.webhook.Payload;
-import com.slack.api.webhook.WebhookResponse;
+import fotcamp.finhub.common.http.OutboundDestination;
+import fotcamp.finhub.common.http.OutboundHttpClients;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-
-import java.io.IOException;
+import org.springframework.web.client.RestClientException;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class SlackWebhookService {
 
+    private final OutboundHttpClients outboundHttpClients;
+
     @Value("${slack.webhook-url}")
     private String webhookUrl;
 
@@ -22,7 +27,6 @@ public class SlackWebhookService {
 
     @Async
     public void sendMsg(String email, String text, Long id) {
-        Slack slack = Slack.getInstance();
         StringBuilder sb = new StringBuilder();
         String detailUrl = String.format("%s/services/feedback/%d", domain, id);
         String truncatedText = text.length() > 100 ? text.substring(0, 100) + "..." : text;
@@ -58,9 +62,11 @@ public class SlackWebhookService {
                 .append("  ]\n")
                 .append("}");
         String message = sb.toString();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
         try {
-            WebhookResponse response = slack.send(webhookUrl, message);
-        } catch (IOException e) {
+            outboundHttpClients.get(OutboundDestination.SLACK).postForEntity(webhookUrl, new HttpEntity<>(message, headers), String.class);
+        } catch (RestClientException e) {
             log.error("slack 메시지 발송 중 문제가 발생했습니다.", e.toString());
             throw new RuntimeException(e);
         }
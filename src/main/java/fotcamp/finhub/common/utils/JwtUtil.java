@@ -17,6 +17,7 @@ import org.springframework.util.StringUtils;
 import java.security.Key;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.UUID;
 
 /** JWT 생성, 유효성 검증, 클레임 추출 메소드 */
 @Component
@@ -61,8 +62,12 @@ public class JwtUtil {
         ZonedDateTime now = ZonedDateTime.now();
         ZonedDateTime tokenValidity = now.plusSeconds(expireTime);
 
-        return Jwts.builder()
-                .setClaims(claims)
+        JwtBuilder builder = Jwts.builder().setClaims(claims);
+        if (!type.equals("Access")) {
+            // iat 가 초 단위라 같은 초에 발급한 리프레시 토큰이 기기마다 같아지지 않도록 jti 를 넣는다
+            builder.setId(UUID.randomUUID().toString());
+        }
+        return builder
                 .setIssuedAt(Date.from(now.toInstant()))
                 .setExpiration(Date.from(tokenValidity.toInstant()))
                 .signWith(key, SignatureAlgorithm.HS256)
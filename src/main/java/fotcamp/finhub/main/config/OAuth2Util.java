@@ -1,22 +1,26 @@
 package fotcamp.finhub.main.config;
 
+import fotcamp.finhub.common.http.OutboundDestination;
+import fotcamp.finhub.common.http.OutboundHttpClients;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.Map;
 
 @Component
+@RequiredArgsConstructor
 public class OAuth2Util {
 
-    public String getAccessToken(String tokenUrl, HttpHeaders headers, Map<String, String> bodyMap) { // 카카오로그인, 구글로그인
+    private final OutboundHttpClients outboundHttpClients;
+
+    public String getAccessToken(OutboundDestination destination, String tokenUrl, HttpHeaders headers, Map<String, String> bodyMap) { // 카카오로그인, 구글로그인
         MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
         body.setAll(bodyMap);
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(body, headers);
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<Map> response = restTemplate.postForEntity(tokenUrl, request, Map.class);
+        ResponseEntity<Map> response = outboundHttpClients.get(destination).postForEntity(tokenUrl, request, Map.class);
         return (String) response.getBody().get("access_token");
     }
 
@@ -24,17 +28,15 @@ public class OAuth2Util {
         MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
         body.setAll(bodyMap);
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(body, headers);
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<Map> response = restTemplate.postForEntity(tokenUrl, request, Map.class);
+        ResponseEntity<Map> response = outboundHttpClients.get(OutboundDestination.APPLE).postForEntity(tokenUrl, request, Map.class);
         return (String) response.getBody().get("id_token");
     }
 
-    public Map getUserInfo(String userInfoUrl, String accessToken) {
+    public Map getUserInfo(OutboundDestination destination, String userInfoUrl, String accessToken) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(accessToken);
         HttpEntity<String> request = new HttpEntity<>(headers);
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<Map> response = restTemplate.exchange(userInfoUrl, HttpMethod.GET, request, Map.class);
+        ResponseEntity<Map> response = outboundHttpClients.get(destination).exchange(userInfoUrl, HttpMethod.GET, request, Map.class);
         return response.getBody();
     }
 }
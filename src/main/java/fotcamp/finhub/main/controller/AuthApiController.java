@@ -54,25 +54,28 @@ public class AuthApiController {
     @GetMapping("/login/oauth2/callback/kakao")
     @Operation(summary = " 카카오 로그인", description = "카카오서버로부터 받은 액세스토큰 넣어서 진행하는 로그인절차")
     public ResponseEntity<ApiResponseWrapper> kakaoLogin(@RequestParam(name = "code") String code,
-                                                         @RequestParam(name = "origin") String origin) throws JsonProcessingException {
+                                                         @RequestParam(name = "origin") String origin,
+                                                         @RequestHeader(name = "deviceId", required = false) String deviceId) throws JsonProcessingException {
 
         // 카카오서버로 인가코드와 관련 정보를 전송해서 카카오가 발행하는 액세스토큰이 정상적으로 수신되면,
         // 자체 jwt 발행하여 서비스 권한부여
-        return authService2.loginKakao(code, origin);
+        return authService2.loginKakao(code, origin, deviceId);
     }
 
     @GetMapping("/login/oauth2/callback/google")
     @Operation(summary = " 구글 로그인", description = "구글 서버로부터 받은 액세스토큰 넣어서 진행하는 로그인절차")
     public ResponseEntity<ApiResponseWrapper> googleLogin( @RequestParam(name = "code")String code,
-                                                           @RequestParam(name = "origin") String origin) throws JsonProcessingException {
-        return authService2.loginGoogle(code, origin);
+                                                           @RequestParam(name = "origin") String origin,
+                                                           @RequestHeader(name = "deviceId", required = false) String deviceId) throws JsonProcessingException {
+        return authService2.loginGoogle(code, origin, deviceId);
     }
 
     @GetMapping("/login/oauth2/callback/apple")
     @Operation(summary = " 애플 로그인", description = "애플 서버로부터 받은 액세스토큰 넣어서 진행하는 로그인절차")
     public ResponseEntity<ApiResponseWrapper> appleLogin(@RequestParam(name = "code") String code,
-                                                         @RequestParam(name = "origin") String origin) throws IOException, ParseException, JOSEException {
-        return authService2.loginApple(code, origin);
+                                                         @RequestParam(name = "origin") String origin,
+                                                         @RequestHeader(name = "deviceId", required = false) String deviceId) throws IOException, ParseException, JOSEException {
+        return authService2.loginApple(code, origin, deviceId);
     }
 
     @GetMapping("/updateAccessToken") //헤더에 bearer 토큰 담지 말고 전송!
@@ -89,6 +92,12 @@ public class AuthApiController {
         return authService2.autoLogin(request);
     }
 
+    @PostMapping("/logout") //헤더에 refreshToken 담아서 전송
+    @Operation(summary = "로그아웃", description = "요청한 기기의 리프레시 토큰 폐기")
+    public ResponseEntity<ApiResponseWrapper> logout(HttpServletRequest request){
+        return authService2.logout(request);
+    }
+
     // 단순 정보 제공용
     @GetMapping("/info")
     @Operation(summary = "단순 멤버 정보제공", description = "단순 정보제공")
@@ -300,6 +300,16 @@ public class MainController {
         return mainService.alarmList(userDetails, cursorId, size);
     }
 
+    // 안읽은 알람 수 (배지)
+    @GetMapping("/alarm/unread-count")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = " 안읽은 알람 수 조회하기 ", description = "앱 배지 표시용")
+    public ResponseEntity<ApiResponseWrapper> unreadAlarmCount(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ){
+        return mainService.unreadAlarmCount(userDetails);
+    }
+
     // 알람 상세조회
     @PostMapping("/alarm")
     @PreAuthorize("hasRole('USER')")
@@ -0,0 +1,16 @@
+package fotcamp.finhub.main.dto.response;
+
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class UnreadAlarmCountResponseDto {
+
+    private long unreadCount;
+
+    public UnreadAlarmCountResponseDto(long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+}
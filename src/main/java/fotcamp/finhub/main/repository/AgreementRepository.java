@@ -1,7 +1,9 @@
 package fotcamp.finhub.main.repository;
 
+import fotcamp.finhub.admin.service.push.PushTarget;
 import fotcamp.finhub.common.domain.Member;
 import fotcamp.finhub.common.domain.MemberAgreement;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,5 +22,18 @@ public interface AgreementRepository extends JpaRepository<MemberAgreement, Long
     @Query("SELECT ma.member FROM MemberAgreement ma WHERE ma.pushYn = true AND ma.member.email IN :emails")
     List<Member> findMembersByPushYnTrueAndEmails(@Param("emails") List<String> emails);
 
+    // 푸시 대상 keyset 페이징 (엔티티 대신 발송에 필요한 값만 조회)
+    @Query("SELECT new fotcamp.finhub.admin.service.push.PushTarget(m.memberId, m.name, m.fcmToken) " +
+            "FROM MemberAgreement ma JOIN ma.member m WHERE ma.pushYn = true AND m.memberId > :lastMemberId ORDER BY m.memberId")
+    List<PushTarget> findPushTargetsAfter(@Param("lastMemberId") Long lastMemberId, Pageable pageable);
+
+    @Query("SELECT new fotcamp.finhub.admin.service.push.PushTarget(m.memberId, m.name, m.fcmToken) " +
+            "FROM MemberAgreement ma JOIN ma.member m WHERE ma.pushYn = true AND m.email IN :emails")
+    List<PushTarget> findPushTargetsByEmails(@Param("emails") List<String> emails);
+
+    @Query("SELECT new fotcamp.finhub.admin.service.push.PushTarget(m.memberId, m.name, m.fcmToken) " +
+            "FROM MemberAgreement ma JOIN ma.member m WHERE ma.pushYn = true AND m.memberId IN :memberIds ORDER BY m.memberId")
+    List<PushTarget> findPushTargetsByMemberIds(@Param("memberIds") List<Long> memberIds);
+
 
 }
@@ -1,55 +1,23 @@
 package fotcamp.finhub.main.repository;
 
-import com.querydsl.core.types.Expression;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import fotcamp.finhub.common.domain.CommentsReport;
-import lombok.RequiredArgsConstructor;
+import fotcamp.finhub.common.repository.QuerydslPagingSupport;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-
-import java.util.List;
 
 import static fotcamp.finhub.common.domain.QCommentsReport.commentsReport;
 
-@RequiredArgsConstructor
-public class CommentsReportRepositoryImpl implements CommentsReportRepositoryCustom{
+public class CommentsReportRepositoryImpl extends QuerydslPagingSupport<CommentsReport> implements CommentsReportRepositoryCustom {
 
-    private final JPAQueryFactory queryFactory;
+    public CommentsReportRepositoryImpl(JPAQueryFactory queryFactory) {
+        super(queryFactory, commentsReport, "id", "createdTime");
+    }
 
     @Override
     public Page<CommentsReport> searchAllTCommentsReportFilterList(Pageable pageable, String useYn) {
-        // 데이터 목록 조회
-        List<CommentsReport> commentsReports = queryFactory
-                .selectFrom(commentsReport)
-                .where(useYNEq(useYn))
-                .orderBy(getOrderSpecifiers(pageable.getSort())) // 정렬 조건 적용
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .stream().toList();
-
-        long total = queryFactory
-                .selectFrom(commentsReport)
-                .where(useYNEq(useYn))
-                .stream().count();
-
-        return new PageImpl<>(commentsReports, pageable, total);
-    }
-
-    // Pageable의 Sort 객체를 이용해 Querydsl의 OrderSpecifier 배열로 변환
-    private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
-        return sort.stream()
-                .map(order -> {
-                    PathBuilder<CommentsReport> entityPath = new PathBuilder<>(CommentsReport.class, "commentsReport");
-                    Expression<?> expression = entityPath.get(order.getProperty());
-                    return new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, expression);
-                })
-                .toArray(OrderSpecifier[]::new);
+        return fetchPage(pageable, useYNEq(useYn));
     }
 
     private BooleanExpression useYNEq(String useYn) {
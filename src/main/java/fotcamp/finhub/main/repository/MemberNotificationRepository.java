@@ -7,22 +7,37 @@ import fotcamp.finhub.common.domain.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MemberNotificationRepository extends JpaRepository<MemberNotification, Long> {
+public interface MemberNotificationRepository extends JpaRepository<MemberNotification, Long>, MemberNotificationRepositoryCustom {
 
     List<MemberNotification> findByMember(Member member);
     Optional<MemberNotification> findByMemberAndNotification(Member member, Notification notification);
 
+    // 다른 요청이 방금 커밋한 행도 보이도록 잠금 읽기로 다시 조회한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT mn FROM MemberNotification mn WHERE mn.member = :member AND mn.notification = :notification")
+    Optional<MemberNotification> findForUpdate(@Param("member") Member member, @Param("notification") Notification notification);
+
+    // 처음 읽을 때만 읽음 처리된다. @return 읽음 처리했으면 1
+    @Modifying
+    @Query("UPDATE MemberNotification mn SET mn.receivedAt = :now WHERE mn.id = :id AND mn.receivedAt IS NULL")
+    int markReceived(@Param("id") Long id, @Param("now") LocalDateTime now);
+
     @Query("SELECT mn FROM MemberNotification mn LEFT JOIN FETCH mn.notification " +
             "WHERE mn.member = :member " +
+            "AND (mn.notification.audience IS NULL OR mn.notification.audience <> fotcamp.finhub.common.domain.NotificationAudience.BROADCAST) " +
             "AND (mn.notification.id < :cursorId OR (mn.receivedAt IS NOT NULL AND mn.notification.id >= :cursorId)) " +
             "ORDER BY (CASE WHEN mn.receivedAt IS NULL THEN 0 ELSE 1 END), " +
             "mn.sentAt DESC, mn.notification.id DESC")
@@ -0,0 +1,15 @@
+package fotcamp.finhub.main.repository;
+
+import java.util.List;
+
+public interface MemberNotificationRepositoryCustom {
+
+    // 알림 발송 대상 회원의 알림함 행 일괄 저장 (JDBC batch)
+    void bulkInsert(Long notificationId, List<Long> memberIds);
+
+    // 회원 알림함 행 한 건 저장. (member_id, noti_id) 유니크 키에 걸리면 무시. @return 실제로 저장했으면 1
+    int insertIgnore(Long notificationId, Long memberId);
+
+    // 알림의 회원 알림함 행 삭제. 안 읽은 행은 카운터도 함께 -1. @return 삭제된 행 수
+    int deleteByNotification(Long notificationId);
+}
@@ -0,0 +1,53 @@
+package fotcamp.finhub.main.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MemberNotification 은 IDENTITY 전략이라 Hibernate 가 insert 를 묶지 못하므로(행마다 1회 왕복),
+ * 대량 발송 시에는 JdbcTemplate batch 로 직접 저장한다. (MariaDB 드라이버는 batch 를 bulk 프로토콜로 전송)
+ */
+@RequiredArgsConstructor
+public class MemberNotificationRepositoryImpl implements MemberNotificationRepositoryCustom {
+
+    static final int BATCH_SIZE = 1000;
+    static final String INSERT_SQL = "INSERT INTO member_notification (member_id, noti_id, sent_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void bulkInsert(Long notificationId, List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        Timestamp sentAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, memberIds, BATCH_SIZE, (ps, memberId) -> {
+            ps.setLong(1, memberId);
+            ps.setLong(2, notificationId);
+            ps.setTimestamp(3, sentAt);
+        });
+    }
+
+    @Override
+    public int insertIgnore(Long notificationId, Long memberId) {
+        return jdbcTemplate.update("INSERT IGNORE INTO member_notification (member_id, noti_id, sent_at) VALUES (?, ?, ?)",
+                memberId, notificationId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Override
+    public int deleteByNotification(Long notificationId) {
+        // 지우는 이력만큼 카운터를 되돌린다. 개별 알림은 안 읽은 행만큼 unread_count, BROADCAST 는 읽음 기록 행만큼 broadcast_read_count
+        jdbcTemplate.update("UPDATE member_unread_counter c JOIN member_notification mn ON mn.member_id = c.member_id " +
+                "JOIN notification n ON n.noti_id = mn.noti_id " +
+                "SET c.unread_count = CASE WHEN n.audience <> 'BROADCAST' AND mn.received_at IS NULL " +
+                "THEN GREATEST(c.unread_count - 1, 0) ELSE c.unread_count END, " +
+                "c.broadcast_read_count = CASE WHEN n.audience = 'BROADCAST' " +
+                "THEN GREATEST(c.broadcast_read_count - 1, 0) ELSE c.broadcast_read_count END " +
+                "WHERE mn.noti_id = ?", notificationId);
+        return jdbcTemplate.update("DELETE FROM member_notification WHERE noti_id = ?", notificationId);
+    }
+}
@@ -2,10 +2,12 @@ package fotcamp.finhub.main.repository;
 
 import fotcamp.finhub.common.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +16,13 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByMemberUuid(String uuid);
 
+    @Modifying
+    @Query("UPDATE Member m SET m.fcmToken = NULL, m.fcmTokenCreatedAt = NULL WHERE m.fcmToken IN :tokens")
+    int clearFcmTokens(@Param("tokens") Collection<String> tokens);
+
+    @Query("SELECT COALESCE(MAX(m.memberId), 0) FROM Member m")
+    Long findMaxMemberId();
+
     List<Member> findByCalendarEmoticon(CalendarEmoticon calendarEmoticon);
     boolean existsByNickname(String nickname);
 
@@ -0,0 +1,16 @@
+package fotcamp.finhub.main.repository;
+
+import fotcamp.finhub.common.domain.MemberUnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MemberUnreadCounterRepository extends JpaRepository<MemberUnreadCounter, Long>, MemberUnreadCounterRepositoryCustom {
+
+    @Modifying
+    @Query("UPDATE MemberUnreadCounter c SET c.unreadCount = c.unreadCount - 1 WHERE c.memberId = :memberId AND c.unreadCount > 0")
+    int decrementUnread(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,21 @@
+package fotcamp.finhub.main.repository;
+
+import java.util.List;
+
+public interface MemberUnreadCounterRepositoryCustom {
+
+    // 개별 발송 대상 회원들의 안 읽은 수 +1 (행이 없으면 생성). 카운터 도입 이전 회원은 먼저 backfillMissing 으로 채워야 이전 알림이 빠지지 않는다
+    void incrementUnread(List<Long> memberIds);
+
+    // BROADCAST 알림 첫 열람 시 +1 (행이 없으면 생성)
+    void incrementBroadcastRead(Long memberId);
+
+    // 카운터 행이 없는 회원의 행을 알림함 기준으로 생성. 그 사이 발송/열람으로 행이 생겼으면 건드리지 않는다
+    void backfill(Long memberId);
+
+    // 회원들 중 카운터 행이 없는 회원만 backfill. 이번 발송 이력을 저장하기 전에 호출한다
+    void backfillMissing(List<Long> memberIds);
+
+    // [fromMemberId, toMemberId) 구간 카운터를 알림함 기준으로 다시 계산. @return 값이 바뀐 회원 수
+    int reconcile(Long fromMemberId, Long toMemberId);
+}
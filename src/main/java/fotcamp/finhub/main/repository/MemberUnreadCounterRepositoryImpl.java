@@ -0,0 +1,102 @@
+package fotcamp.finhub.main.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// MariaDB upsert(ON DUPLICATE KEY UPDATE)로 카운터 행 생성과 증가를 한 번에 처리
+@RequiredArgsConstructor
+public class MemberUnreadCounterRepositoryImpl implements MemberUnreadCounterRepositoryCustom {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String BACKFILL_SQL = "INSERT IGNORE INTO member_unread_counter (member_id, unread_count, broadcast_read_count) " +
+            "SELECT ?, " +
+            "COALESCE(SUM(CASE WHEN n.audience = 'BROADCAST' THEN 0 WHEN mn.received_at IS NULL THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN n.audience = 'BROADCAST' THEN 1 ELSE 0 END), 0) " +
+            "FROM member_notification mn JOIN notification n ON n.noti_id = mn.noti_id WHERE mn.member_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void incrementUnread(List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member_unread_counter (member_id, unread_count, broadcast_read_count) VALUES (?, 1, 0) " +
+                "ON DUPLICATE KEY UPDATE unread_count = unread_count + 1", memberIds, BATCH_SIZE, (ps, memberId) -> ps.setLong(1, memberId));
+    }
+
+    @Override
+    public void incrementBroadcastRead(Long memberId) {
+        jdbcTemplate.update("INSERT INTO member_unread_counter (member_id, unread_count, broadcast_read_count) VALUES (?, 0, 1) " +
+                "ON DUPLICATE KEY UPDATE broadcast_read_count = broadcast_read_count + 1", memberId);
+    }
+
+    @Override
+    public void backfill(Long memberId) {
+        jdbcTemplate.update(BACKFILL_SQL, memberId, memberId);
+    }
+
+    @Override
+    public void backfillMissing(List<Long> memberIds) {
+        for (int from = 0; from < memberIds.size(); from += BATCH_SIZE) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + BATCH_SIZE, memberIds.size()));
+            Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT member_id FROM member_unread_counter WHERE member_id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                    Long.class, chunk.toArray()));
+            List<Long> missing = chunk.stream().filter(memberId -> !existing.contains(memberId)).toList();
+            if (!missing.isEmpty()) {
+                jdbcTemplate.batchUpdate(BACKFILL_SQL, missing, BATCH_SIZE, (ps, memberId) -> {
+                    ps.setLong(1, memberId);
+                    ps.setLong(2, memberId);
+                });
+            }
+        }
+    }
+
+    @Override
+    public int reconcile(Long fromMemberId, Long toMemberId) {
+        // 카운터 행을 먼저 잠가 진행 중인 발송/열람의 증감과 겹치지 않게 한다
+        Map<Long, long[]> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT member_id, unread_count, broadcast_read_count FROM member_unread_counter " +
+                        "WHERE member_id >= ? AND member_id < ? FOR UPDATE",
+                rs -> {
+                    stored.put(rs.getLong(1), new long[]{rs.getLong(2), rs.getLong(3)});
+                }, fromMemberId, toMemberId);
+
+        Map<Long, long[]> actual = new HashMap<>();
+        jdbcTemplate.query("SELECT mn.member_id, " +
+                        "SUM(CASE WHEN n.audience = 'BROADCAST' THEN 0 WHEN mn.received_at IS NULL THEN 1 ELSE 0 END), " +
+                        "SUM(CASE WHEN n.audience = 'BROADCAST' THEN 1 ELSE 0 END) " +
+                        "FROM member_notification mn JOIN notification n ON n.noti_id = mn.noti_id " +
+                        "WHERE mn.member_id >= ? AND mn.member_id < ? GROUP BY mn.member_id",
+                rs -> {
+                    actual.put(rs.getLong(1), new long[]{rs.getLong(2), rs.getLong(3)});
+                }, fromMemberId, toMemberId);
+
+        int repaired = 0;
+        for (Map.Entry<Long, long[]> entry : actual.entrySet()) {
+            long[] counts = stored.remove(entry.getKey());
+            if (counts == null || counts[0] != entry.getValue()[0] || counts[1] != entry.getValue()[1]) {
+                jdbcTemplate.update("INSERT INTO member_unread_counter (member_id, unread_count, broadcast_read_count) VALUES (?, ?, ?) " +
+                                "ON DUPLICATE KEY UPDATE unread_count = VALUES(unread_count), broadcast_read_count = VALUES(broadcast_read_count)",
+                        entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+                repaired++;
+            }
+        }
+        // 알림함이 비어있는데 남아있는 카운터
+        for (Map.Entry<Long, long[]> entry : stored.entrySet()) {
+            if (entry.getValue()[0] != 0 || entry.getValue()[1] != 0) {
+                jdbcTemplate.update("UPDATE member_unread_counter SET unread_count = 0, broadcast_read_count = 0 WHERE member_id = ?", entry.getKey());
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+}
@@ -2,13 +2,60 @@ package fotcamp.finhub.main.repository;
 
 import fotcamp.finhub.common.domain.Member;
 import fotcamp.finhub.common.domain.RefreshToken;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
-public interface TokenRepository extends JpaRepository<RefreshToken, String> {
+public interface TokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByMember(Member member);
+    // (member_id, device_id) 유니크 키 기준 upsert. 같은 기기 로그인이 동시에 와도 중복 키 오류가 나지 않는다
+    // ON DUPLICATE KEY UPDATE 는 MariaDB/MySQL 전용 문법이다 (테스트는 H2 MariaDB 호환 모드)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO refresh_token (member_id, device_id, token, expires_at) VALUES (:memberId, :deviceId, :token, :expiresAt) " +
+            "ON DUPLICATE KEY UPDATE token = VALUES(token), expires_at = VALUES(expires_at)", nativeQuery = true)
+    int upsert(@Param("memberId") Long memberId, @Param("deviceId") String deviceId,
+               @Param("token") String token, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 회원의 해당 기기 토큰이 oldToken 이고 유효할 때만 교체하고 직전 토큰과 교체 시각을 남긴다 (영향받은 행 수 0 이면 교체 실패)
+    // previousToken 을 token 보다 먼저 대입해야 MariaDB 에서 교체 전 값이 들어간다 (SET 을 왼쪽부터 평가)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.previousToken = r.token, r.rotatedAt = :now, r.token = :newToken, r.expiresAt = :expiresAt " +
+            "WHERE r.member.memberId = :memberId AND r.deviceId = :deviceId AND r.token = :oldToken " +
+            "AND (r.expiresAt IS NULL OR r.expiresAt > :now)")
+    int rotate(@Param("memberId") Long memberId, @Param("deviceId") String deviceId, @Param("oldToken") String oldToken,
+               @Param("newToken") String newToken, @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    // token 에서 교체된 행. 동시 갱신의 승자가 커밋한 결과를 보도록 잠금 조회한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RefreshToken r WHERE r.member.memberId = :memberId AND r.previousToken = :token")
+    List<RefreshToken> findRotatedFromForUpdate(@Param("memberId") Long memberId, @Param("token") String token);
+
+    @Query("SELECT COUNT(r) > 0 FROM RefreshToken r WHERE r.token = :token AND (r.expiresAt IS NULL OR r.expiresAt > :now)")
+    boolean existsActiveToken(@Param("token") String token, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.token = :token")
+    int deleteByToken(@Param("token") String token);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.member = :member")
+    int deleteAllByMember(@Param("member") Member member);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    // 기기/만료 시각 도입 이전 행 : 행마다 다른 기기 ID 와 만료 시각을 채워 만료 정리 대상이 되게 한다
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.deviceId = CONCAT('legacy-', CAST(r.id AS String)), r.expiresAt = :expiresAt " +
+            "WHERE r.deviceId IS NULL OR r.expiresAt IS NULL")
+    int backfillLegacy(@Param("expiresAt") LocalDateTime expiresAt);
 }
@@ -0,0 +1,25 @@
+package fotcamp.finhub.main.scheduler;
+
+import fotcamp.finhub.common.service.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/** 만료된 리프레시 토큰 정리 (expires_at 인덱스 범위 삭제) */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSweepScheduler {
+    private final List<RefreshTokenStore<?>> refreshTokenStores;
+
+    @Scheduled(cron = "${refresh-token.sweep-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void purgeExpiredRefreshTokens() {
+        for (RefreshTokenStore<?> store : refreshTokenStores) {
+            int deleted = store.purgeExpired();
+            log.info("만료 리프레시 토큰 삭제 [{}] {}건", store.getClass().getSimpleName(), deleted);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package fotcamp.finhub.main.scheduler;
+
+import fotcamp.finhub.main.repository.MemberRepository;
+import fotcamp.finhub.main.repository.MemberUnreadCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** 알림 배지 카운터 보정. 회원 id 구간별 짧은 트랜잭션으로 알림함 기준 값과 비교해 어긋난 카운터만 고친다. */
+@Slf4j
+@Component
+public class UnreadCounterReconcileScheduler {
+
+    private final MemberRepository memberRepository;
+    private final MemberUnreadCounterRepository memberUnreadCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.unread-reconcile.range-size:1000}")
+    private long rangeSize;
+
+    public UnreadCounterReconcileScheduler(MemberRepository memberRepository, MemberUnreadCounterRepository memberUnreadCounterRepository,
+                                           PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.memberUnreadCounterRepository = memberUnreadCounterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${notification.unread-reconcile.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        long maxMemberId = memberRepository.findMaxMemberId();
+        int repaired = 0;
+        for (long from = 1; from <= maxMemberId; from += rangeSize) {
+            long start = from;
+            Integer count = transactionTemplate.execute(status -> memberUnreadCounterRepository.reconcile(start, start + rangeSize));
+            repaired += count == null ? 0 : count;
+        }
+        log.info("알림 배지 카운터 보정 {}건", repaired);
+    }
+}
@@ -10,13 +10,18 @@ import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import fotcamp.finhub.admin.repository.ManagerRepository;
+import fotcamp.finhub.admin.service.ManagerRefreshTokenStore;
 import fotcamp.finhub.common.api.ApiResponseWrapper;
 import fotcamp.finhub.common.domain.MemberAgreement;
 import fotcamp.finhub.common.domain.Member;
-import fotcamp.finhub.common.domain.RefreshToken;
+import fotcamp.finhub.common.http.OutboundDestination;
+import fotcamp.finhub.common.http.OutboundHttpClients;
 import fotcamp.finhub.common.security.CustomUserDetails;
 import fotcamp.finhub.common.security.TokenDto;
 import fotcamp.finhub.common.service.AwsS3Service;
+import fotcamp.finhub.common.service.MemberRefreshTokenStore;
+import fotcamp.finhub.common.service.RefreshTokenStore;
 import fotcamp.finhub.common.utils.JwtUtil;
 import fotcamp.finhub.main.config.AppleJwtConfig;
 import fotcamp.finhub.main.config.GoogleConfig;
@@ -30,7 +35,6 @@ import fotcamp.finhub.main.dto.response.login.MemberInfoResponseDto;
 import fotcamp.finhub.main.dto.response.login.UpdateAccessTokenResponseDto;
 import fotcamp.finhub.main.repository.MemberRepository;
 import fotcamp.finhub.main.repository.AgreementRepository;
-import fotcamp.finhub.main.repository.TokenRepository;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.persistence.EntityNotFoundException;
@@ -42,12 +46,10 @@ import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.*;
 
 import java.io.IOException;
-import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.PrivateKey;
@@ -73,12 +75,15 @@ public class AuthService2 {
     private final AppleJwtConfig appleConfig;
     private final AwsS3Service awsS3Service;
     private final OAuth2Util oAuth2Util;
+    private final OutboundHttpClients outboundHttpClients;
 
     private final AgreementRepository agreementRepository;
     private final MemberRepository memberRepository;
-    private final TokenRepository tokenRepository;
+    private final MemberRefreshTokenStore memberRefreshTokenStore;
+    private final ManagerRepository managerRepository;
+    private final ManagerRefreshTokenStore managerRefreshTokenStore;
 
-    public ResponseEntity<ApiResponseWrapper> loginKakao(String code, String origin) throws JsonProcessingException {
+    public ResponseEntity<ApiResponseWrapper> loginKakao(String code, String origin, String deviceId) throws JsonProcessingException {
         String kakaoAccessToken = getKakaoAccessToken(code, origin);
         KakaoUserInfoProcessDto kakaoUserInfo = getKakaoUserInfo(kakaoAccessToken);
         String email = kakaoUserInfo.getEmail();
@@ -95,7 +100,7 @@ public class AuthService2 {
             member.updateMemberUuid(uuid);
         }
         TokenDto allTokens = jwtUtil.createAllTokens(member.getMemberUuid(), member.getRole().toString(), member.getProvider());
-        saveOrUpdateRefreshToken(member, allTokens.getRefreshToken());
+        memberRefreshTokenStore.issue(member, deviceId, allTokens.getRefreshToken());
         // 응답 데이터 생성: 닉네임, 이메일, 유저아바타 이미지, 직업명, 직업아바타이미지, 푸시알림 정보, 기존회원유무
         UserInfoProcessDto userInfoProcessDto = createUserInfoProcessDto(member, isMember);
         LoginResponseDto loginResponseDto = new LoginResponseDto(allTokens, userInfoProcessDto);
@@ -112,7 +117,7 @@ public class AuthService2 {
         body.put("redirect_uri", redirectUri);
         body.put("code", code);
         body.put("client_secret", kakaoConfig.getClient_secretId());
-        return oAuth2Util.getAccessToken(kakaoConfig.getAccessTokenRequestUrl(), headers, body);
+        return oAuth2Util.getAccessToken(OutboundDestination.KAKAO, kakaoConfig.getAccessTokenRequestUrl(), headers, body);
     }
 
     private String getKakaoRedirectUri(String origin) {
@@ -136,8 +141,7 @@ public class AuthService2 {
         headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
 
         HttpEntity<String> request = new HttpEntity<>(headers);
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<String> response = restTemplate.exchange(
+        ResponseEntity<String> response = outboundHttpClients.get(OutboundDestination.KAKAO).exchange(
                 kakaoConfig.getUser_info_uri(),
                 HttpMethod.POST,
                 request,
@@ -164,9 +168,9 @@ public class AuthService2 {
                 .build();
     }
 
-    public ResponseEntity<ApiResponseWrapper> loginGoogle(String code, String origin) throws JsonProcessingException {
+    public ResponseEntity<ApiResponseWrapper> loginGoogle(String code, String origin, String deviceId) throws JsonProcessingException {
         String googleAccessToken = getGoogleAccessToken(code, origin);
-        Map<String, Object> userInfo = oAuth2Util.getUserInfo(googleConfig.getUser_info_uri(), googleAccessToken);
+        Map<String, Object> userInfo = oAuth2Util.getUserInfo(OutboundDestination.GOOGLE, googleConfig.getUser_info_uri(), googleAccessToken);
         String email = (String) userInfo.get("email");
         String name = (String) userInfo.get("name");
         String sub = (String) userInfo.get("sub");
@@ -181,7 +185,7 @@ public class AuthService2 {
             member.updateMemberUuid(sub);
         }
         TokenDto allTokens = jwtUtil.createAllTokens(member.getMemberUuid(), member.getRole().toString(), provider);
-        saveOrUpdateRefreshToken(member, allTokens.getRefreshToken());
+        memberRefreshTokenStore.issue(member, deviceId, allTokens.getRefreshToken());
         UserInfoProcessDto userInfoProcessDto = createUserInfoProcessDto(member, isMember);
         LoginResponseDto loginResponseDto = new LoginResponseDto(allTokens, userInfoProcessDto);
         return ResponseEntity.ok(ApiResponseWrapper.success(loginResponseDto));
@@ -199,7 +203,7 @@ public class AuthService2 {
         body.put("code", decode);
         body.put("grant_type", googleConfig.getGrant_type());
         body.put("redirect_uri", redirectUri);
-        return oAuth2Util.getAccessToken(googleConfig.getAccessTokenRequestUrl(), headers, body);
+        return oAuth2Util.getAccessToken(OutboundDestination.GOOGLE, googleConfig.getAccessTokenRequestUrl(), headers, body);
     }
 
     private String getGoogleRedirectUri(String origin) {
@@ -217,7 +221,7 @@ public class AuthService2 {
         }
     }
 
-    public ResponseEntity<ApiResponseWrapper> loginApple(String code, String origin) throws ParseException, IOException, JOSEException {
+    public ResponseEntity<ApiResponseWrapper> loginApple(String code, String origin, String deviceId) throws ParseException, IOException, JOSEException {
         String identityToken = getAppleIdentityToken(code, origin);
         if (!validateAppleIdToken(identityToken)) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseWrapper.fail("애플로그인 정보 오류 발생."));
@@ -238,7 +242,7 @@ public class AuthService2 {
             member.updateMemberUuid(sub);
         }
         TokenDto allTokens = jwtUtil.createAllTokens(member.getMemberUuid(), member.getRole().toString(), provider);
-        saveOrUpdateRefreshToken(member, allTokens.getRefreshToken());
+        memberRefreshTokenStore.issue(member, deviceId, allTokens.getRefreshToken());
         UserInfoProcessDto userInfoProcessDto = createUserInfoProcessDto(member, isMember);
         LoginResponseDto loginResponseDto = new LoginResponseDto(allTokens, userInfoProcessDto);
         return ResponseEntity.ok(ApiResponseWrapper.success(loginResponseDto));
@@ -298,7 +302,8 @@ public class AuthService2 {
     private boolean validateAppleIdToken(String idToken) throws ParseException, IOException, JOSEException {
         SignedJWT signedJWT = SignedJWT.parse(idToken);
         // Apple의 공개 키를 가져옴
-        JWKSet jwkSet = JWKSet.load(new URL(appleConfig.getPublic_key_url()));
+        String publicKeys = outboundHttpClients.get(OutboundDestination.APPLE).getForObject(appleConfig.getPublic_key_url(), String.class);
+        JWKSet jwkSet = JWKSet.parse(publicKeys);
         JWK jwk = jwkSet.getKeyByKeyId(signedJWT.getHeader().getKeyID());
         // 검증을 위한 RSA 공개 키 생성
         RSAKey rsaKey = (RSAKey) jwk;
@@ -307,20 +312,9 @@ public class AuthService2 {
         return signedJWT.verify(verifier);
     }
 
-    private void saveOrUpdateRefreshToken(Member member, String refreshToken) {
-        Optional<RefreshToken> existingRefreshToken = tokenRepository.findByMember(member);
-        if (existingRefreshToken.isPresent()) {
-            RefreshToken token = existingRefreshToken.get();
-            token.updateToken(refreshToken);
-            tokenRepository.save(token);
-        } else {
-            tokenRepository.save(new RefreshToken(member, refreshToken));
-        }
-    }
-
     public ResponseEntity<ApiResponseWrapper> validRefreshToken(HttpServletRequest request){
         String refreshToken = request.getHeader("refreshToken");
-        if(refreshToken!= null && jwtUtil.validateToken(refreshToken)){
+        if(refreshToken!= null && jwtUtil.validateToken(refreshToken) && isStoredRefreshToken(refreshToken)){
             String uuid = jwtUtil.getUuid(refreshToken);
             String  roleType = jwtUtil.getRoleType(refreshToken);
             String provider = jwtUtil.getProvider(refreshToken);
@@ -333,10 +327,46 @@ public class AuthService2 {
         }
     }
 
+    // 로그아웃으로 폐기되었거나 저장소에 없는 리프레시 토큰은 서명이 유효해도 거부
+    // 방금 교체된 직전 토큰(유예 시간 안)은 동시 갱신/재시도로 보고 허용하고,
+    // 유예 시간이 지난 직전 토큰은 탈취 토큰의 재사용으로 보고 해당 소유자의 모든 기기 세션을 끊는다
+    private boolean isStoredRefreshToken(String refreshToken) {
+        String uuid = jwtUtil.getUuid(refreshToken);
+        if ("ROLE_USER".equals(jwtUtil.getRoleType(refreshToken))) {
+            return memberRepository.findByMemberUuid(uuid)
+                    .map(member -> acceptOrRevoke(memberRefreshTokenStore, member, refreshToken, uuid))
+                    .orElse(false);
+        }
+        return managerRepository.findByManagerUuid(uuid)
+                .map(manager -> acceptOrRevoke(managerRefreshTokenStore, manager, refreshToken, uuid))
+                .orElse(false);
+    }
+
+    private <O> boolean acceptOrRevoke(RefreshTokenStore<O> store, O owner, String refreshToken, String uuid) {
+        RefreshTokenStore.TokenState state = store.inspect(owner, refreshToken);
+        if (state == RefreshTokenStore.TokenState.REUSED) {
+            store.revokeAll(owner);
+            log.warn("폐기된 리프레시 토큰 재사용 감지 - uuid: {}, 모든 기기 세션 폐기", uuid);
+        }
+        return state == RefreshTokenStore.TokenState.ACTIVE || state == RefreshTokenStore.TokenState.GRACE;
+    }
+
+    // 로그아웃 : 요청한 기기의 리프레시 토큰만 폐기
+    public ResponseEntity<ApiResponseWrapper> logout(HttpServletRequest request){
+        String refreshToken = request.getHeader("refreshToken");
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseWrapper.fail("리프레시 토큰이 없습니다."));
+        }
+        memberRefreshTokenStore.revoke(refreshToken);
+        managerRefreshTokenStore.revoke(refreshToken);
+        return ResponseEntity.ok(ApiResponseWrapper.success());
+    }
+
     // 자동로그인
     public ResponseEntity<ApiResponseWrapper> autoLogin(HttpServletRequest request){
         String accessTokenHeader = request.getHeader("Authorization");
         String refreshToken = request.getHeader("refreshToken");
+        String deviceId = request.getHeader("deviceId");
         String accessToken = null;
         if (accessTokenHeader != null && accessTokenHeader.startsWith("Bearer ")) {
             accessToken = accessTokenHeader.substring(7); // "Bearer " 이후의 JWT만 추출
@@ -346,32 +376,37 @@ public class AuthService2 {
             String uuid = jwtUtil.getUuid(accessToken);
             Member member = memberRepository.findByMemberUuid(uuid).orElseThrow(
                     () -> new EntityNotFoundException("MEMBER ID가 존재하지 않습니다."));
-            LoginResponseDto loginResponseDto = updatingLoginResponse(member);
+            LoginResponseDto loginResponseDto = updatingLoginResponse(member, deviceId);
             return ResponseEntity.ok(ApiResponseWrapper.success(loginResponseDto));
         }
         if (jwtUtil.validateTokenServiceLayer(refreshToken)) {
-            // 액세스토큰 유효x, 리프레시토큰 유효할 때
+            // 액세스토큰 유효x, 리프레시토큰 유효할 때 : 저장된 토큰과 일치할 때만 새 토큰으로 교체
             String uuid = jwtUtil.getUuid(refreshToken);
             Member member = memberRepository.findByMemberUuid(uuid).orElseThrow(
                     () -> new EntityNotFoundException("MEMBER ID가 존재하지 않습니다."));
-            LoginResponseDto loginResponseDto = updatingLoginResponse(member);
-            return ResponseEntity.ok(ApiResponseWrapper.success(loginResponseDto));
+            TokenDto allTokens = jwtUtil.createAllTokens(member.getMemberUuid(), member.getRole().toString(), member.getProvider());
+            RefreshTokenStore.Rotation rotation = memberRefreshTokenStore.rotate(member, deviceId, refreshToken, allTokens.getRefreshToken());
+            if (rotation.refreshToken() != null) {
+                // 유예 시간 안의 중복 갱신이면 이미 교체된 리프레시 토큰을 그대로 돌려준다
+                TokenDto tokens = new TokenDto(allTokens.getAccessToken(), rotation.refreshToken());
+                return ResponseEntity.ok(ApiResponseWrapper.success(createLoginResponse(member, tokens)));
+            }
+            if (rotation.state() == RefreshTokenStore.TokenState.REUSED) {
+                // 유예 시간이 지난 직전 토큰의 재사용 : 탈취로 보고 모든 기기 세션 폐기
+                memberRefreshTokenStore.revokeAll(member);
+                log.warn("폐기된 리프레시 토큰 재사용 감지 - memberId: {}, 모든 기기 세션 폐기", member.getMemberId());
+            }
         }
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponseWrapper.fail("로그인이 필요합니다"));
     }
 
-    public LoginResponseDto updatingLoginResponse(Member member){
+    public LoginResponseDto updatingLoginResponse(Member member, String deviceId){
         TokenDto allTokens = jwtUtil.createAllTokens(member.getMemberUuid(), member.getRole().toString(), member.getProvider());
-        Optional<RefreshToken> existingRefreshToken = tokenRepository.findByMember(member);
-        if (existingRefreshToken.isPresent()) {
-            // 기존 리프레시 토큰 정보가 있는 경우, 새 리프레시 토큰으로 업데이트
-            RefreshToken refreshToken = existingRefreshToken.get();
-            refreshToken.updateToken(allTokens.getRefreshToken());
-            tokenRepository.save(refreshToken);
-        } else {
-            // 기존 리프레시 토큰 정보가 없는 경우, 새로운 리프레시 토큰 저장
-            tokenRepository.save(new RefreshToken(member, allTokens.getRefreshToken()));
-        }
+        memberRefreshTokenStore.issue(member, deviceId, allTokens.getRefreshToken());
+        return createLoginResponse(member, allTokens);
+    }
+
+    private LoginResponseDto createLoginResponse(Member member, TokenDto allTokens){
         // 응답 데이터 : 닉네임, 이메일, 유저아바타 이미지, 직업명, 직업아바타이미지, 푸시알림 정보
         UserInfoProcessDto userInfoProcessDto = UserInfoProcessDto.builder()
                 .nickname(member.getNickname())
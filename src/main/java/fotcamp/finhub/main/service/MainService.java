@@ -34,6 +34,7 @@ import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
@@ -42,6 +43,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -72,6 +74,7 @@ public class MainService {
     private final QuitReasonsRepository quitReasonsRepository;
     private final QuitMemberRepository quitMemberRepository;
     private final MemberNotificationRepository memberNotificationRepository;
+    private final MemberUnreadCounterRepository memberUnreadCounterRepository;
     private final NotificationRepository notificationRepository;
     private final BlockRepository blockRepository;
     private final CommentsLikeRepository commentsLikeRepository;
@@ -603,6 +606,7 @@ public class MainService {
 
     }
 
+    // 개별 발송 알림(MemberNotification) 과 전체 발송 알림(BROADCAST) 을 같은 정렬/커서 조건으로 각각 읽어 합친다
     public ResponseEntity<ApiResponseWrapper> alarmList(CustomUserDetails userDetails, Long cursorId, int size) {
         Member member = memberRepository.findById(userDetails.getMemberIdasLong())
                 .orElseThrow(() -> new EntityNotFoundException("회원ID가 존재하지 않습니다."));
@@ -621,21 +625,68 @@ public class MainService {
                                 .sentAt(memberNotification.getSentAt())
                                 .receivedAt(memberNotification.getReceivedAt())
                                 .build())
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(ApiResponseWrapper.success(new AlarmListResponseDto(notificationResponseDto)));
+                .collect(Collectors.toCollection(ArrayList::new));
+        notificationResponseDto.addAll(notificationRepository.findBroadcastsForMember(member.getMemberId(), cursorId, pageable));
+
+        List<AlarmDetailProcessDto> alarmList = notificationResponseDto.stream()
+                .sorted(ALARM_ORDER)
+                .limit(size)
+                .toList();
+        return ResponseEntity.ok(ApiResponseWrapper.success(new AlarmListResponseDto(alarmList)));
     }
 
+    private static final Comparator<AlarmDetailProcessDto> ALARM_ORDER =
+            Comparator.comparing((AlarmDetailProcessDto alarm) -> alarm.getReceivedAt() != null)
+                    .thenComparing(AlarmDetailProcessDto::getSentAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(AlarmDetailProcessDto::getId, Comparator.reverseOrder());
+
+    // BROADCAST 알림은 처음 읽을 때 읽음 기록(MemberNotification)을 만든다
     public ResponseEntity<ApiResponseWrapper> alarmDetail(CustomUserDetails userDetails, AlarmDetailRequestDto dto) {
         Member member = memberRepository.findById(userDetails.getMemberIdasLong())
                 .orElseThrow(() -> new EntityNotFoundException("회원ID가 존재하지 않습니다."));
         Notification notification = notificationRepository.findById(dto.getId()).orElseThrow(() -> new EntityNotFoundException("알람이 존재하지 않습니다."));
-        MemberNotification memberNotification = memberNotificationRepository.findByMemberAndNotification(member, notification).orElseThrow(() -> new EntityNotFoundException("기록이 존재하지 않습니다."));
+        MemberNotification memberNotification = memberNotificationRepository.findByMemberAndNotification(member, notification)
+                .orElse(null);
+        if (memberNotification == null) {
+            if (!notification.isVisibleTo(member.getMemberId())) {
+                throw new EntityNotFoundException("기록이 존재하지 않습니다.");
+            }
+            // 카운터 행이 없으면 읽음 기록을 넣기 전에 먼저 채운다 (없는 채로 증가하면 이전 안 읽은 알림이 빠진다)
+            memberUnreadCounterRepository.backfillMissing(List.of(member.getMemberId()));
+            // 같은 알림을 동시에 열어도 유니크 키로 한 행만 저장되고, 실제로 저장한 요청만 읽은 수를 올린다
+            if (memberNotificationRepository.insertIgnore(notification.getId(), member.getMemberId()) > 0) {
+                memberUnreadCounterRepository.incrementBroadcastRead(member.getMemberId());
+            }
+            memberNotification = memberNotificationRepository.findForUpdate(member, notification)
+                    .orElseThrow(() -> new EntityNotFoundException("기록이 존재하지 않습니다."));
+        }
 
         String url = notification.getUrl();
-        memberNotification.updateMemberNotification();
+        // 조건부 UPDATE 로 실제 읽음 처리한 요청만 안 읽은 수를 줄인다 (동시 열람 시 중복 감소 방지)
+        boolean firstRead = memberNotificationRepository.markReceived(memberNotification.getId(), LocalDateTime.now()) > 0;
+        if (firstRead && !notification.isBroadcast()) {
+            memberUnreadCounterRepository.decrementUnread(member.getMemberId());
+        }
         return ResponseEntity.ok(ApiResponseWrapper.success(new AlarmDetailResponseDto(url)));
     }
 
+    // 배지용 안 읽은 알림 수 = 안 읽은 개별 알림 + (노출 대상 BROADCAST - 읽은 BROADCAST)
+    // 카운터 행이 없으면(카운터 도입 이전 회원 등) 알림함 기준으로 그 회원의 카운터를 채운 뒤 읽는다
+    public ResponseEntity<ApiResponseWrapper> unreadAlarmCount(CustomUserDetails userDetails) {
+        Long memberId = userDetails.getMemberIdasLong();
+        MemberUnreadCounter counter = memberUnreadCounterRepository.findById(memberId).orElse(null);
+        if (counter == null) {
+            memberUnreadCounterRepository.backfill(memberId);
+            counter = memberUnreadCounterRepository.findById(memberId).orElse(null);
+        }
+        long unreadDirect = counter == null ? 0 : counter.getUnreadCount();
+        long broadcastRead = counter == null ? 0 : counter.getBroadcastReadCount();
+        long unreadBroadcast = Math.max(0, notificationRepository.countBroadcastsVisibleTo(memberId) - broadcastRead);
+        return ResponseEntity.ok(ApiResponseWrapper.success(new UnreadAlarmCountResponseDto(unreadDirect + unreadBroadcast)));
+    }
+
+    // S3 업로드, 푸시, 슬랙 알림이 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행한다 (저장/조회는 리포지토리 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseEntity<ApiResponseWrapper> feedback(String userAgent, String appVersion, FeedbackRequestDto dto, CustomUserDetails userDetails) throws IOException, MessagingException {
         // 이미지 파일 리스트 s3에 업로드 진행 후, url들 db에 저장
         List<String> uploadedFileUrls = awsS3Service.uploadFiles(dto.getFiles(), "feedback");
@@ -0,0 +1,12 @@
+-- GptLog 본문 압축 저장 전환 (MariaDB 10.0+)
+-- 배포 전에 한 번 실행한다. 새 로그는 question_data/answer_data 에만 쓰고 question/answer 는 비워 두는데,
+-- 기존 question 컬럼은 NOT NULL 이고 ddl-auto(update) 는 NOT NULL 제약을 풀지 않으므로 새 로그 저장이 실패한다.
+-- 기존 평문 로그는 GptLogArchiver 가 압축 컬럼으로 옮기고 평문을 비운다.
+
+-- 1. 압축 본문 컬럼 (ddl-auto 로 이미 생겼으면 생략된다)
+ALTER TABLE gpt_log ADD COLUMN IF NOT EXISTS question_data MEDIUMBLOB NULL;
+ALTER TABLE gpt_log ADD COLUMN IF NOT EXISTS answer_data MEDIUMBLOB NULL;
+
+-- 2. 평문 본문 컬럼을 nullable 로
+ALTER TABLE gpt_log MODIFY COLUMN question VARCHAR(255) NULL;
+ALTER TABLE gpt_log MODIFY COLUMN answer MEDIUMTEXT NULL;
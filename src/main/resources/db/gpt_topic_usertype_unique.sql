@@ -0,0 +1,22 @@
+-- Gpt (topic_id, usertype_id) 유니크 키 적용 (MariaDB 10.2+)
+-- 배포 전에 한 번 실행한다. 중복이 남아 있으면 ddl-auto 의 유니크 키 생성이 실패하고, 수정/일괄 생성이 어느 행을 고칠지 정할 수 없다.
+-- 같은 셀에 여러 행이 있으면 노출 중(use_yn = 'Y')인 행, 그다음 가장 최근(id 가 큰) 행 하나만 남긴다.
+
+-- 1. 중복 확인
+SELECT topic_id, usertype_id, COUNT(*) AS cnt
+FROM gpt
+WHERE topic_id IS NOT NULL AND usertype_id IS NOT NULL
+GROUP BY topic_id, usertype_id
+HAVING COUNT(*) > 1;
+
+-- 2. 중복 정리
+DELETE g FROM gpt g
+JOIN (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY topic_id, usertype_id ORDER BY (use_yn = 'Y') DESC, id DESC) AS rn
+    FROM gpt
+    WHERE topic_id IS NOT NULL AND usertype_id IS NOT NULL
+) ranked ON ranked.id = g.id
+WHERE ranked.rn > 1;
+
+-- 3. 유니크 키 추가 (이미 있으면 생략)
+ALTER TABLE gpt ADD CONSTRAINT uk_gpt_topic_usertype UNIQUE (topic_id, usertype_id);
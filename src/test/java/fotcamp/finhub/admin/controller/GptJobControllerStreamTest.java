@@ -0,0 +1,116 @@
+package fotcamp.finhub.admin.controller;
+
+import fotcamp.finhub.admin.service.gpt.GptJobService;
+import fotcamp.finhub.common.config.RateLimitProperties;
+import fotcamp.finhub.common.config.SecurityConfig;
+import fotcamp.finhub.common.domain.RoleType;
+import fotcamp.finhub.common.ratelimit.InMemoryRateLimitStore;
+import fotcamp.finhub.common.security.CustomAccessDeniedHandler;
+import fotcamp.finhub.common.security.CustomUserDetailService;
+import fotcamp.finhub.common.security.CustomUserDetails;
+import fotcamp.finhub.common.security.CustomUserInfo;
+import fotcamp.finhub.common.utils.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GPT 작업 SSE 구독을 실제 SecurityConfig 필터 체인으로 끝까지 받는다.
+ * 최초 요청은 JwtAuthFilter 로 인증하고, 완료 후 비동기 재디스패치(DispatcherType.ASYNC)는 인증 없이 통과해야 한다.
+ */
+@WebMvcTest(controllers = GptJobController.class)
+@Import({SecurityConfig.class, RateLimitProperties.class, InMemoryRateLimitStore.class, CustomAccessDeniedHandler.class})
+@TestPropertySource(properties = {
+        "api-header.key=X-Finhub-Key",
+        "api-header.value=finhub",
+        "origin.prod.admin=http://localhost:1",
+        "origin.prod.main=http://localhost:2",
+        "origin.prod.api=http://localhost:3",
+        "origin.dev.admin=http://localhost:4",
+        "origin.dev.main=http://localhost:5",
+        "origin.dev.api=http://localhost:6",
+        "origin.local.localOne=http://localhost:7",
+        "origin.local.localTwo=http://localhost:8",
+        "origin.local.localThree=http://localhost:9",
+        "origin.local.localFour=http://localhost:10"
+})
+class GptJobControllerStreamTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    GptJobService gptJobService;
+    @MockBean
+    CustomUserDetailService customUserDetailService;
+    @MockBean
+    JwtUtil jwtUtil;
+    @MockBean
+    JpaMetamodelMappingContext jpaMetamodelMappingContext; // FinhubApplication 의 @EnableJpaAuditing
+
+    @BeforeEach
+    void authenticateManager() {
+        given(jwtUtil.resolveToken(any())).willReturn("access-token");
+        given(jwtUtil.validateToken("access-token")).willReturn(true);
+        given(jwtUtil.getUuid("access-token")).willReturn("manager-uuid");
+        given(jwtUtil.getRoleType("access-token")).willReturn("ROLE_SUPER");
+        given(customUserDetailService.loadAdminByRole(anyString())).willReturn(new CustomUserDetails(
+                new CustomUserInfo(7L, "manager-uuid", "manager@finhub.com", "관리자", RoleType.ROLE_SUPER)));
+    }
+
+    @Test
+    @DisplayName("관리자는 작업 답변 조각과 done 이벤트를 끝까지 받는다")
+    void streamsToCompletion() throws Exception {
+        SseEmitter emitter = new SseEmitter();
+        given(gptJobService.subscribe(1L)).willReturn(emitter);
+
+        MvcResult started = mockMvc.perform(get("/api/v1/admin/gpt-job/1/stream")
+                        .header("X-Finhub-Key", "finhub")
+                        .header("Authorization", "Bearer access-token")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        emitter.send(SseEmitter.event().name("delta").data("interest"));
+        emitter.send(SseEmitter.event().name("delta").data(" is the price of money"));
+        emitter.send(SseEmitter.event().name("done").data("COMPLETED"));
+        emitter.complete();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("event:delta\ndata:interest")))
+                .andExpect(content().string(containsString("event:done\ndata:COMPLETED")));
+    }
+
+    @Test
+    @DisplayName("인증 없이 구독하면 비동기 응답을 시작하지 않는다")
+    void rejectsAnonymousSubscribe() throws Exception {
+        given(jwtUtil.resolveToken(any())).willReturn(null);
+
+        mockMvc.perform(get("/api/v1/admin/gpt-job/1/stream")
+                        .header("X-Finhub-Key", "finhub")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isForbidden());
+    }
+}
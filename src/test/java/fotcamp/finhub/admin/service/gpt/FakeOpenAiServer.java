@@ -0,0 +1,205 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 테스트용 OpenAI chat completions 대역 서버. POST /v1/chat/completions 에 응답한다.
+ * 답변은 responder(마지막 user 메시지 -> 답변)로 정하고, 요청마다 latency 만큼 지연한다.
+ * stream=true 요청은 답변을 chunkSize 글자씩 나눠 SSE(data: ... / data: [DONE])로 chunkDelay 간격을 두고 보낸다.
+ * errorRate 확률로 OpenAI 형식의 오류 응답(errorStatus)을 돌려준다.
+ * GptConfig 의 gpt.base-url 을 baseUrl() 로 바꿔 사용한다.
+ */
+class FakeOpenAiServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Function<String, String> responder;
+    private final Duration latency;
+    private final int chunkSize;
+    private final Duration chunkDelay;
+    private final double errorRate;
+    private final int errorStatus;
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong streamed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final ConcurrentLinkedQueue<String> prompts = new ConcurrentLinkedQueue<>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    FakeOpenAiServer(Function<String, String> responder, Duration latency) {
+        this(responder, latency, 8, Duration.ZERO, 0.0, 500);
+    }
+
+    FakeOpenAiServer(Function<String, String> responder, Duration latency, int chunkSize, Duration chunkDelay,
+                     double errorRate, int errorStatus) {
+        this.responder = responder;
+        this.latency = latency;
+        this.chunkSize = chunkSize;
+        this.chunkDelay = chunkDelay;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+    }
+
+    FakeOpenAiServer start() throws IOException {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 8192);
+        server.setExecutor(executor);
+        server.createContext("/v1/chat/completions", this::handle);
+        server.start();
+        return this;
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    long receivedCount() {
+        return received.get();
+    }
+
+    long streamedCount() {
+        return streamed.get();
+    }
+
+    long failedCount() {
+        return failed.get();
+    }
+
+    List<String> prompts() {
+        return List.copyOf(prompts);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            JsonNode request = MAPPER.readTree(body);
+            long sequence = received.incrementAndGet();
+            String prompt = lastUserMessage(request);
+            prompts.add(prompt);
+            sleep(latency);
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                failed.incrementAndGet();
+                respond(exchange, errorStatus, "{\"error\":{\"message\":\"fake error\",\"type\":\"server_error\",\"param\":null,\"code\":null}}");
+                return;
+            }
+
+            String model = request.path("model").asText();
+            String answer = responder.apply(prompt);
+            if (request.path("stream").asBoolean(false)) {
+                streamed.incrementAndGet();
+                stream(exchange, sequence, model, answer);
+            } else {
+                respond(exchange, 200, MAPPER.writeValueAsString(completion(sequence, model, prompt, answer)));
+            }
+        }
+    }
+
+    private String lastUserMessage(JsonNode request) {
+        String prompt = "";
+        for (JsonNode message : request.path("messages")) {
+            if ("user".equals(message.path("role").asText())) {
+                prompt = message.path("content").asText();
+            }
+        }
+        return prompt;
+    }
+
+    private ObjectNode completion(long sequence, String model, String prompt, String answer) {
+        ObjectNode result = MAPPER.createObjectNode()
+                .put("id", "chatcmpl-fake-" + sequence)
+                .put("object", "chat.completion")
+                .put("created", System.currentTimeMillis() / 1000)
+                .put("model", model);
+        ObjectNode choice = result.putArray("choices").addObject().put("index", 0).put("finish_reason", "stop");
+        choice.putObject("message").put("role", "assistant").put("content", answer);
+        // 토큰 수는 글자 수로 흉내낸다
+        result.putObject("usage")
+                .put("prompt_tokens", prompt.length())
+                .put("completion_tokens", answer.length())
+                .put("total_tokens", prompt.length() + answer.length());
+        return result;
+    }
+
+    private void stream(HttpExchange exchange, long sequence, String model, String answer) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0); // chunked
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int from = 0; from < answer.length(); from += chunkSize) {
+                String delta = answer.substring(from, Math.min(from + chunkSize, answer.length()));
+                writeEvent(out, MAPPER.writeValueAsString(chunk(sequence, model, delta, null)));
+                sleep(chunkDelay);
+            }
+            writeEvent(out, MAPPER.writeValueAsString(chunk(sequence, model, null, "stop")));
+            writeEvent(out, "[DONE]");
+        }
+    }
+
+    private ObjectNode chunk(long sequence, String model, String delta, String finishReason) {
+        ObjectNode chunk = MAPPER.createObjectNode()
+                .put("id", "chatcmpl-fake-" + sequence)
+                .put("object", "chat.completion.chunk")
+                .put("created", System.currentTimeMillis() / 1000)
+                .put("model", model);
+        ArrayNode choices = chunk.putArray("choices");
+        ObjectNode choice = choices.addObject().put("index", 0).put("finish_reason", finishReason);
+        ObjectNode message = choice.putObject("delta");
+        if (delta != null) {
+            message.put("content", delta);
+        }
+        return chunk;
+    }
+
+    private void writeEvent(OutputStream out, String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
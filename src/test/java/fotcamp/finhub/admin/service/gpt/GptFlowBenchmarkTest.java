@@ -0,0 +1,151 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptBulkRun;
+import fotcamp.finhub.admin.domain.GptJob;
+import fotcamp.finhub.admin.domain.GptJobStatus;
+import fotcamp.finhub.admin.dto.request.CreateGptBulkRunRequestDto;
+import fotcamp.finhub.admin.dto.request.CreateGptContentRequestDto;
+import fotcamp.finhub.admin.dto.response.GptBulkRunResponseDto;
+import fotcamp.finhub.admin.dto.response.GptJobResponseDto;
+import fotcamp.finhub.admin.repository.GptBulkRunRepository;
+import fotcamp.finhub.admin.repository.GptJobRepository;
+import fotcamp.finhub.admin.service.AdminService;
+import fotcamp.finhub.common.domain.Topic;
+import fotcamp.finhub.common.domain.UserType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GPT 생성 흐름 처리량 측정. GptFlowIntegrationTest 와 같은 H2(MariaDB 모드) 구성에 FakeOpenAiServer(응답 OPENAI_LATENCY)를 붙여
+ * 비동기 작업(gpt.job.concurrency), 일괄 생성(gpt.bulk.concurrency), 관리자 동기 API(SYNC_CONCURRENCY 스레드)를
+ * CELLS 건씩 DB 저장까지 실행하고 초당 처리 건수를 로그로 남긴다. 응답 캐시는 건너뛰도록 셀마다 프롬프트가 다르거나 강제 재생성한다.
+ * H2 인메모리 DB 라 DB 왕복 비용은 실제 MariaDB 보다 작게 나온다.
+ * 실행 : ./gradlew loadTest
+ */
+@Tag("load")
+@TestPropertySource(properties = "gpt.bulk.tokens-per-minute=100000000")
+class GptFlowBenchmarkTest extends GptFlowTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(GptFlowBenchmarkTest.class);
+
+    private static final Duration OPENAI_LATENCY = Duration.ofMillis(200);
+    private static final int TOPICS = 20;
+    private static final int USERTYPES = 10;
+    private static final int CELLS = TOPICS * USERTYPES;
+    private static final int SYNC_CONCURRENCY = 4;
+
+    private static FakeOpenAiServer fakeOpenAi;
+
+    @Autowired
+    GptJobService gptJobService;
+    @Autowired
+    GptJobRepository gptJobRepository;
+    @Autowired
+    GptBulkRunService gptBulkRunService;
+    @Autowired
+    GptBulkRunDispatcher gptBulkRunDispatcher;
+    @Autowired
+    GptBulkRunRepository gptBulkRunRepository;
+    @Autowired
+    AdminService adminService;
+
+    @DynamicPropertySource
+    static void openAi(DynamicPropertyRegistry registry) throws IOException {
+        fakeOpenAi = new FakeOpenAiServer(prompt -> "[설명] : " + prompt + " 에 대한 설명입니다.", OPENAI_LATENCY).start();
+        registry.add("gpt.base-url", fakeOpenAi::baseUrl);
+    }
+
+    @AfterAll
+    static void stopOpenAi() {
+        fakeOpenAi.close();
+    }
+
+    @Test
+    @DisplayName("비동기 작업 처리량 (제출부터 GptLog, 작업 행 저장까지)")
+    void jobThroughput() throws Exception {
+        Fixture fixture = seed("bench-job", TOPICS, USERTYPES);
+
+        long start = System.nanoTime();
+        List<Long> jobIds = new ArrayList<>(CELLS);
+        for (Topic topic : fixture.topics()) {
+            for (UserType userType : fixture.userTypes()) {
+                CreateGptContentRequestDto request = new CreateGptContentRequestDto(fixture.category().getId(), topic.getId(), userType.getId());
+                jobIds.add(((GptJobResponseDto) gptJobService.submitTopicUsertype(request, false, false, MANAGER).getBody().data()).id());
+            }
+        }
+        await(() -> gptJobRepository.findAllById(jobIds).stream()
+                .map(GptJob::getStatus)
+                .noneMatch(status -> status == GptJobStatus.PENDING || status == GptJobStatus.RUNNING), 600_000);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long completed = gptJobRepository.findAllById(jobIds).stream().filter(job -> job.getStatus() == GptJobStatus.COMPLETED).count();
+        log.info("job  : {}건 {} jobs/sec", completed, String.format("%.1f", CELLS / seconds));
+        assertThat(completed).isEqualTo(CELLS);
+    }
+
+    @Test
+    @DisplayName("일괄 생성 처리량 (셀 적재부터 Gpt 내용 저장까지)")
+    void bulkRunThroughput() throws Exception {
+        Fixture fixture = seed("bench-bulk", TOPICS, USERTYPES);
+
+        long start = System.nanoTime();
+        Long runId = ((GptBulkRunResponseDto) gptBulkRunService.createRun(
+                new CreateGptBulkRunRequestDto(fixture.category().getId(), null), MANAGER).getBody().data()).id();
+        await(() -> {
+            gptBulkRunDispatcher.dispatch();
+            return gptBulkRunRepository.findById(runId).orElseThrow().isFinished();
+        }, 600_000);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        GptBulkRun run = gptBulkRunRepository.findById(runId).orElseThrow();
+        log.info("bulk : {}건 {} cells/sec", run.getSucceededCount(), String.format("%.1f", run.getTotalCount() / seconds));
+        assertThat(run.getSucceededCount()).isEqualTo(run.getTotalCount());
+    }
+
+    @Test
+    @DisplayName("관리자 동기 API 처리량 (GPT 호출과 GptLog 저장)")
+    void syncThroughput() throws Exception {
+        Fixture fixture = seed("bench-sync", TOPICS, USERTYPES);
+
+        ExecutorService executor = Executors.newFixedThreadPool(SYNC_CONCURRENCY);
+        long start = System.nanoTime();
+        List<Future<HttpStatus>> futures = new ArrayList<>(CELLS);
+        for (Topic topic : fixture.topics()) {
+            for (UserType userType : fixture.userTypes()) {
+                CreateGptContentRequestDto request = new CreateGptContentRequestDto(fixture.category().getId(), topic.getId(), userType.getId());
+                futures.add(executor.submit(() -> HttpStatus.valueOf(
+                        adminService.createTopicUsertypeGptContent(request, true, MANAGER).getStatusCode().value())));
+            }
+        }
+        int succeeded = 0;
+        for (Future<HttpStatus> future : futures) {
+            if (future.get() == HttpStatus.OK) {
+                succeeded++;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        executor.shutdown();
+
+        log.info("sync : {}건 {} calls/sec (동시 {})", succeeded, String.format("%.1f", CELLS / seconds), SYNC_CONCURRENCY);
+        assertThat(succeeded).isEqualTo(CELLS);
+    }
+}
@@ -0,0 +1,180 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptBulkRun;
+import fotcamp.finhub.admin.domain.GptBulkRunStatus;
+import fotcamp.finhub.admin.domain.GptJob;
+import fotcamp.finhub.admin.domain.GptJobStatus;
+import fotcamp.finhub.admin.domain.GptUsageDaily;
+import fotcamp.finhub.admin.dto.request.CreateGptBulkRunRequestDto;
+import fotcamp.finhub.admin.dto.request.CreateGptContentRequestDto;
+import fotcamp.finhub.admin.dto.response.GptBulkRunResponseDto;
+import fotcamp.finhub.admin.dto.response.GptJobResponseDto;
+import fotcamp.finhub.admin.repository.GptBulkRunRepository;
+import fotcamp.finhub.admin.repository.GptJobRepository;
+import fotcamp.finhub.admin.repository.GptLogRepository;
+import fotcamp.finhub.admin.repository.GptRepository;
+import fotcamp.finhub.admin.repository.GptUsageDailyRepository;
+import fotcamp.finhub.admin.service.AdminService;
+import fotcamp.finhub.common.api.ApiResponseWrapper;
+import fotcamp.finhub.common.domain.Topic;
+import fotcamp.finhub.common.domain.UserType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GPT 생성 흐름을 H2(MariaDB 모드) 와 FakeOpenAiServer 로 끝까지 실행해 DB 에 남는 결과를 확인한다.
+ * - 비동기 작업 : 제출 -> GptJobExecutor -> GptLog, 작업 행, 일별 사용량
+ * - 일괄 생성 : 셀 적재 -> GptBulkRunDispatcher -> Gpt 내용, 진행률, 범위가 겹치는 일괄 생성 거절
+ * - 관리자 동기 API : AdminService -> GptLog 저장, 같은 프롬프트는 응답 캐시에서, 파싱되지 않는 답변은 캐시하지 않음
+ */
+class GptFlowIntegrationTest extends GptFlowTestSupport {
+
+    private static final String MALFORMED = "malformed";
+
+    private static FakeOpenAiServer fakeOpenAi;
+
+    @Autowired
+    GptJobService gptJobService;
+    @Autowired
+    GptJobRepository gptJobRepository;
+    @Autowired
+    GptLogRepository gptLogRepository;
+    @Autowired
+    GptUsageMeter gptUsageMeter;
+    @Autowired
+    GptUsageDailyRepository gptUsageDailyRepository;
+    @Autowired
+    GptBulkRunService gptBulkRunService;
+    @Autowired
+    GptBulkRunDispatcher gptBulkRunDispatcher;
+    @Autowired
+    GptBulkRunRepository gptBulkRunRepository;
+    @Autowired
+    GptRepository gptRepository;
+    @Autowired
+    AdminService adminService;
+
+    @DynamicPropertySource
+    static void openAi(DynamicPropertyRegistry registry) throws IOException {
+        fakeOpenAi = new FakeOpenAiServer(prompt -> prompt.contains(MALFORMED)
+                ? "형식이 맞지 않는 답변입니다."
+                : "[설명] : " + prompt + " 에 대한 설명입니다.", Duration.ZERO).start();
+        registry.add("gpt.base-url", fakeOpenAi::baseUrl);
+    }
+
+    @AfterAll
+    static void stopOpenAi() {
+        fakeOpenAi.close();
+    }
+
+    @Test
+    @DisplayName("비동기 작업은 실행 스레드에서 GPT 를 호출하고 GptLog, 작업 결과, 관리자별 사용량을 저장한다")
+    void jobFlow() throws Exception {
+        Fixture fixture = seed("job", 1, 1);
+        Topic topic = fixture.topics().get(0);
+        UserType userType = fixture.userTypes().get(0);
+
+        ResponseEntity<ApiResponseWrapper> response = gptJobService.submitTopicUsertype(
+                new CreateGptContentRequestDto(fixture.category().getId(), topic.getId(), userType.getId()), false, false, MANAGER);
+        Long jobId = ((GptJobResponseDto) response.getBody().data()).id();
+        await(() -> gptJobRepository.findById(jobId).orElseThrow().getStatus() != GptJobStatus.PENDING
+                && gptJobRepository.findById(jobId).orElseThrow().getStatus() != GptJobStatus.RUNNING, 10_000);
+
+        GptJob job = gptJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(GptJobStatus.COMPLETED);
+        assertThat(job.getManagerId()).isEqualTo(7L);
+        assertThat(job.getResult()).contains("job-토픽-0").endsWith("에 대한 설명입니다.");
+        assertThat(gptLogRepository.findById(job.getGptLogId())).hasValueSatisfying(gptLog -> {
+            assertThat(gptLog.getTopicId()).isEqualTo(topic.getId());
+            assertThat(gptLog.getQuestion()).isEqualTo(job.getPrompt());
+            assertThat(gptLog.getTotalTokens()).isPositive();
+        });
+
+        gptUsageMeter.flush();
+        List<GptUsageDaily> usage = gptUsageDailyRepository.findByUsageDateBetweenOrderByUsageDateDescAdminAscEndpointAsc(LocalDate.now(), LocalDate.now());
+        assertThat(usage).anySatisfy(row -> {
+            assertThat(row.getAdmin()).isEqualTo("7");
+            assertThat(row.getEndpoint()).isEqualTo("job:TOPIC_USERTYPE");
+        });
+    }
+
+    @Test
+    @DisplayName("일괄 생성은 비어 있는 (토픽, 유저타입) 셀을 모두 채우고, 진행 중에는 범위가 겹치는 일괄 생성을 거절한다")
+    void bulkRunFlow() throws Exception {
+        Fixture fixture = seed("bulk", 3, 2);
+        long usertypes = userTypeRepository.count();
+        CreateGptBulkRunRequestDto request = new CreateGptBulkRunRequestDto(fixture.category().getId(), null);
+
+        ResponseEntity<ApiResponseWrapper> created = gptBulkRunService.createRun(request, MANAGER);
+        Long runId = ((GptBulkRunResponseDto) created.getBody().data()).id();
+        assertThat(gptBulkRunService.createRun(request, MANAGER).getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+        await(() -> {
+            gptBulkRunDispatcher.dispatch();
+            return gptBulkRunRepository.findById(runId).orElseThrow().isFinished();
+        }, 30_000);
+
+        GptBulkRun run = gptBulkRunRepository.findById(runId).orElseThrow();
+        assertThat(run.getStatus()).isEqualTo(GptBulkRunStatus.COMPLETED);
+        assertThat(run.getTotalCount()).isEqualTo(3 * usertypes);
+        assertThat(run.getSucceededCount()).isEqualTo(run.getTotalCount());
+        assertThat(run.getUsedTokens()).isPositive();
+        for (Topic topic : fixture.topics()) {
+            for (UserType userType : fixture.userTypes()) {
+                assertThat(gptRepository.existsByTopicIdAndUserTypeId(topic.getId(), userType.getId())).isTrue();
+            }
+        }
+        // 끝난 뒤에는 같은 범위로 다시 만들 수 있다 (채울 셀이 없으므로 0건)
+        assertThat(gptBulkRunService.createRun(request, MANAGER).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("관리자 동기 API 는 답변을 파싱해 반환하고 GptLog 를 남기며, 같은 프롬프트는 캐시에서 답한다")
+    void syncFlow() {
+        Fixture fixture = seed("sync", 1, 1);
+        CreateGptContentRequestDto request = new CreateGptContentRequestDto(
+                fixture.category().getId(), fixture.topics().get(0).getId(), fixture.userTypes().get(0).getId());
+        long logsBefore = gptLogRepository.count();
+        long callsBefore = fakeOpenAi.receivedCount();
+
+        ResponseEntity<ApiResponseWrapper> first = adminService.createTopicUsertypeGptContent(request, false, MANAGER);
+        ResponseEntity<ApiResponseWrapper> second = adminService.createTopicUsertypeGptContent(request, false, MANAGER);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getBody()).isEqualTo(first.getBody());
+        assertThat(fakeOpenAi.receivedCount() - callsBefore).isEqualTo(1);
+        assertThat(gptLogRepository.count() - logsBefore).isEqualTo(2);
+
+        adminService.createTopicUsertypeGptContent(request, true, MANAGER); // 강제 재생성은 캐시를 건너뛴다
+        assertThat(fakeOpenAi.receivedCount() - callsBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("파싱되지 않는 답변은 캐시하지 않아 같은 프롬프트를 다시 요청하면 GPT 를 다시 호출한다")
+    void malformedAnswerIsNotCached() {
+        Fixture fixture = seed(MALFORMED, 1, 1);
+        CreateGptContentRequestDto request = new CreateGptContentRequestDto(
+                fixture.category().getId(), fixture.topics().get(0).getId(), fixture.userTypes().get(0).getId());
+        long callsBefore = fakeOpenAi.receivedCount();
+
+        ResponseEntity<ApiResponseWrapper> first = adminService.createTopicUsertypeGptContent(request, false, MANAGER);
+        ResponseEntity<ApiResponseWrapper> second = adminService.createTopicUsertypeGptContent(request, false, MANAGER);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(fakeOpenAi.receivedCount() - callsBefore).isEqualTo(2);
+    }
+}
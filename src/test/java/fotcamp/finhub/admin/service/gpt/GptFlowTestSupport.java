@@ -0,0 +1,141 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptPrompt;
+import fotcamp.finhub.admin.repository.CategoryRepository;
+import fotcamp.finhub.admin.repository.GptPromptRepository;
+import fotcamp.finhub.admin.repository.TopicRepository;
+import fotcamp.finhub.admin.repository.UserTypeRepository;
+import fotcamp.finhub.admin.service.AdminService;
+import fotcamp.finhub.admin.service.EmailService;
+import fotcamp.finhub.admin.service.ManagerRefreshTokenStore;
+import fotcamp.finhub.admin.service.push.PushCampaignService;
+import fotcamp.finhub.common.config.GptConfig;
+import fotcamp.finhub.common.config.QuerydslConfig;
+import fotcamp.finhub.common.domain.Category;
+import fotcamp.finhub.common.domain.RoleType;
+import fotcamp.finhub.common.domain.Topic;
+import fotcamp.finhub.common.domain.UserType;
+import fotcamp.finhub.common.http.ExternalCallGuard;
+import fotcamp.finhub.common.security.CustomUserDetails;
+import fotcamp.finhub.common.security.CustomUserInfo;
+import fotcamp.finhub.common.service.AwsS3Service;
+import fotcamp.finhub.common.service.CommonService;
+import fotcamp.finhub.common.utils.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * GPT 생성 흐름(비동기 작업, 일괄 생성, 관리자 동기 API) 테스트 공통 구성.
+ * H2 MariaDB 호환 모드 DB 에 실제 JPA/JDBC 리포지토리를 붙이고, GptService 는 하위 클래스가 띄운 FakeOpenAiServer(gpt.base-url)를 호출한다.
+ * 흐름마다 트랜잭션을 직접 나누므로 테스트 트랜잭션은 쓰지 않는다. GPT 와 무관한 AdminService 협력 객체만 mock 이다.
+ * 스케줄러(작업 정리, 일괄 생성 poll, 사용량 flush)는 주기를 길게 잡고 테스트에서 직접 호출한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+@Import({QuerydslConfig.class, GptConfig.class, ExternalCallGuard.class, GptService.class, GptResponseCache.class,
+        GptUsageMeter.class, GptPromptBuilder.class, GptJobStreamHub.class, GptJobExecutor.class, GptJobService.class,
+        GptTokenBudget.class, GptBulkRunService.class, GptBulkRunDispatcher.class, AdminService.class,
+        GptFlowTestSupport.MetricsConfig.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:gptflow;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "gpt.token=sk-fake",
+        "promise.category=%category%",
+        "promise.topic=%topic%",
+        "promise.usertype=%usertype%",
+        "gpt.job.queue-capacity=1000",
+        "gpt.job.sweep-interval-ms=3600000",
+        "gpt.job.heartbeat-interval-ms=3600000",
+        "gpt.bulk.poll-interval-ms=3600000",
+        "gpt.bulk.retry-backoff-ms=0",
+        "gpt.usage.flush-interval-ms=3600000",
+        "gpt.budget.refresh-ms=3600000"
+})
+abstract class GptFlowTestSupport {
+
+    static final String PROMPT = "%category% 카테고리의 %topic% 을 %usertype% 에게 설명해줘";
+    static final CustomUserDetails MANAGER = new CustomUserDetails(
+            new CustomUserInfo(7L, "manager-uuid", "manager@finhub.com", "관리자", RoleType.ROLE_SUPER));
+
+    @MockBean
+    AwsS3Service awsS3Service;
+    @MockBean
+    CommonService commonService;
+    @MockBean
+    ManagerRefreshTokenStore managerRefreshTokenStore;
+    @MockBean
+    JwtUtil jwtUtil;
+    @MockBean
+    PushCampaignService pushCampaignService;
+    @MockBean
+    EmailService emailService;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+    @Autowired
+    TopicRepository topicRepository;
+    @Autowired
+    UserTypeRepository userTypeRepository;
+    @Autowired
+    GptPromptRepository gptPromptRepository;
+
+    // 토픽 topics 개, 유저타입 usertypes 개를 새로 만든다 (이름에 prefix 를 붙여 테스트 간 캐시 키가 겹치지 않게 한다)
+    Fixture seed(String prefix, int topics, int usertypes) {
+        if (gptPromptRepository.count() == 0) {
+            gptPromptRepository.save(GptPrompt.builder().prompt(PROMPT).createdBy("SUPER").build());
+        }
+        Category category = categoryRepository.save(Category.builder().name(prefix + "-금리").build());
+        List<Topic> topicList = IntStream.range(0, topics)
+                .mapToObj(i -> topicRepository.save(Topic.builder()
+                        .category(category)
+                        .title(prefix + "-토픽-" + i)
+                        .definition(prefix + "-정의-" + i)
+                        .summary(prefix + "-요약-" + i)
+                        .build()))
+                .toList();
+        List<UserType> userTypeList = IntStream.range(0, usertypes)
+                .mapToObj(i -> userTypeRepository.save(UserType.builder().name(prefix + "-유저타입-" + i).build()))
+                .toList();
+        return new Fixture(category, topicList, userTypeList);
+    }
+
+    static void await(BooleanSupplier condition, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError(timeoutMs + "ms 안에 끝나지 않음");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    record Fixture(Category category, List<Topic> topics, List<UserType> userTypes) {
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptJob;
+import fotcamp.finhub.admin.domain.GptJobStatus;
+import fotcamp.finhub.admin.domain.GptJobType;
+import fotcamp.finhub.admin.repository.GptJobRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공용 @Scheduled 스레드를 일괄 생성/푸시 캠페인 dispatch 가 오래 잡고 있어도
+ * GptJobExecutor 의 heartbeat 는 전용 스레드에서 계속 돌아 살아있는 노드의 작업이 INTERRUPTED 로 실패 처리되지 않는지 확인한다.
+ */
+@TestPropertySource(properties = {
+        "gpt.job.heartbeat-interval-ms=100",
+        "gpt.job.node-timeout-ms=2000"
+})
+class GptJobLivenessTest extends GptFlowTestSupport {
+
+    @Autowired
+    GptJobExecutor gptJobExecutor;
+    @Autowired
+    GptJobRepository gptJobRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    SlowDispatcher slowDispatcher;
+
+    @Test
+    @DisplayName("dispatch 가 공용 스케줄러 스레드를 잡고 있는 동안에도 heartbeat 가 갱신돼 작업이 실패 처리되지 않는다")
+    void heartbeatSurvivesLongDispatch() throws Exception {
+        assertThat(slowDispatcher.started.await(10, TimeUnit.SECONDS)).isTrue();
+        try {
+            Long jobId = gptJobRepository.save(GptJob.builder()
+                    .type(GptJobType.TOPIC_USERTYPE)
+                    .prompt("heartbeat")
+                    .createdBy("SUPER")
+                    .ownerNode(gptJobExecutor.getNodeId())
+                    .build()).getId();
+            LocalDateTime stale = LocalDateTime.now().minusMinutes(10);
+            jdbcTemplate.update("UPDATE GPT_JOB SET heartbeat_at = ? WHERE GPT_JOB_ID = ?", Timestamp.valueOf(stale), jobId);
+
+            await(() -> gptJobRepository.findById(jobId).orElseThrow().getHeartbeatAt().isAfter(stale), 5_000);
+            Thread.sleep(2_500); // node-timeout 보다 오래 dispatch 가 스레드를 잡고 있다
+            gptJobExecutor.failStaleJobs();
+
+            assertThat(slowDispatcher.release.getCount()).isEqualTo(1);
+            assertThat(gptJobRepository.findById(jobId).orElseThrow().getStatus()).isEqualTo(GptJobStatus.PENDING);
+        } finally {
+            slowDispatcher.release.countDown();
+        }
+    }
+
+    static class SlowDispatcher {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        // 몇 분씩 걸리는 dispatch 처럼 공용 스케줄러 스레드를 잡고 있는다
+        @Scheduled(fixedDelay = 3_600_000)
+        public void dispatch() throws InterruptedException {
+            started.countDown();
+            release.await(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @TestConfiguration
+    static class SlowDispatcherConfig {
+        @Bean
+        SlowDispatcher slowDispatcher() {
+            return new SlowDispatcher();
+        }
+    }
+}
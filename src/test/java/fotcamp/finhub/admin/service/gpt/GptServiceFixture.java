@@ -0,0 +1,35 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.common.config.GptConfig;
+import fotcamp.finhub.common.http.ExternalCallGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 스프링 컨텍스트/DB 없이 FakeOpenAiServer 를 호출하는 GptService 구성.
+ * 응답 캐시는 끄고, 사용량 계량은 메모리 집계와 메트릭만 쓴다 (예산 무제한, flush 하지 않음).
+ */
+final class GptServiceFixture {
+
+    private GptServiceFixture() {
+    }
+
+    static GptService create(String baseUrl, int maxConcurrentCalls, MeterRegistry meterRegistry) {
+        GptConfig gptConfig = new GptConfig();
+        ReflectionTestUtils.setField(gptConfig, "token", "sk-fake");
+        ReflectionTestUtils.setField(gptConfig, "baseUrl", baseUrl);
+        ReflectionTestUtils.setField(gptConfig, "timeoutSeconds", 30L);
+        ReflectionTestUtils.setField(gptConfig, "maxRequests", maxConcurrentCalls);
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("resilience.openai.max-concurrent-calls", String.valueOf(maxConcurrentCalls));
+        ExternalCallGuard externalCallGuard = new ExternalCallGuard(environment, meterRegistry);
+
+        GptResponseCache gptResponseCache = new GptResponseCache(null, null, meterRegistry);
+        ReflectionTestUtils.setField(gptResponseCache, "enabled", false);
+        GptUsageMeter gptUsageMeter = new GptUsageMeter(null, null, meterRegistry);
+
+        return new GptService(gptConfig.openAiService(), externalCallGuard, gptResponseCache, gptUsageMeter, maxConcurrentCalls, 30_000L);
+    }
+}
@@ -0,0 +1,86 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptJobType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * GptService 를 로컬 OpenAI 대역 서버(FakeOpenAiServer)에 붙여 일반/스트리밍 호출, 답변 파싱, 사용량 기록을 확인한다.
+ * 네트워크 없이 실행된다.
+ */
+class GptServiceIntegrationTest {
+
+    private static final String ANSWER = "[설명] : 금리는 돈을 빌린 대가로 내는 이자의 비율입니다. 금리가 오르면 대출 이자도 오릅니다.";
+    private static final GptUsageTag TAG = GptUsageTag.sync(GptJobType.TOPIC_USERTYPE, 1L, "SUPER");
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FakeOpenAiServer fakeOpenAi;
+
+    @AfterEach
+    void tearDown() {
+        if (fakeOpenAi != null) {
+            fakeOpenAi.close();
+        }
+    }
+
+    @Test
+    @DisplayName("일반 호출은 대역 서버 답변과 토큰 사용량을 반환하고 사용량 메트릭을 남긴다")
+    void generate() throws Exception {
+        fakeOpenAi = new FakeOpenAiServer(prompt -> ANSWER, Duration.ZERO).start();
+        GptService gptService = GptServiceFixture.create(fakeOpenAi.baseUrl(), 4, meterRegistry);
+
+        GptAnswer answer = gptService.generate("금리를 설명해줘", false, TAG, GptJobType.TOPIC_USERTYPE);
+
+        assertThat(answer.content()).isEqualTo(ANSWER);
+        assertThat(answer.cached()).isFalse();
+        assertThat(answer.promptTokens()).isEqualTo("금리를 설명해줘".length());
+        assertThat(answer.completionTokens()).isEqualTo(ANSWER.length());
+        assertThat(GptAnswerParser.parse(GptJobType.TOPIC_USERTYPE, answer.content())).startsWith("금리는");
+        assertThat(fakeOpenAi.prompts()).containsExactly("금리를 설명해줘");
+        assertThat(meterRegistry.get("finhub.gpt.tokens").tag("type", "completion").counter().count())
+                .isEqualTo(ANSWER.length());
+    }
+
+    @Test
+    @DisplayName("스트리밍 호출은 조각을 순서대로 넘기고 합친 답변을 반환한다")
+    void stream() throws Exception {
+        fakeOpenAi = new FakeOpenAiServer(prompt -> ANSWER, Duration.ZERO, 5, Duration.ofMillis(1), 0.0, 500).start();
+        GptService gptService = GptServiceFixture.create(fakeOpenAi.baseUrl(), 4, meterRegistry);
+        List<String> deltas = new ArrayList<>();
+        GptAnswerParser parser = GptAnswerParser.of(GptJobType.TOPIC_USERTYPE);
+        StringBuilder displayed = new StringBuilder();
+
+        GptAnswer answer = gptService.stream("금리를 설명해줘", false, TAG, GptJobType.TOPIC_USERTYPE, delta -> {
+            deltas.add(delta);
+            displayed.append(parser.feed(delta));
+        });
+
+        assertThat(deltas).hasSize((ANSWER.length() + 4) / 5);
+        assertThat(String.join("", deltas)).isEqualTo(ANSWER);
+        assertThat(answer.content()).isEqualTo(ANSWER);
+        assertThat(answer.completionTokens()).isEqualTo(deltas.size()); // 스트리밍은 조각 수로 추정
+        assertThat(parser.finish()).isEqualTo(GptAnswerParser.parse(GptJobType.TOPIC_USERTYPE, ANSWER));
+        assertThat(displayed.toString().trim()).isEqualTo(parser.finish());
+        assertThat(fakeOpenAi.streamedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대역 서버 오류 응답은 예외로 전파된다")
+    void serverError() throws Exception {
+        fakeOpenAi = new FakeOpenAiServer(prompt -> ANSWER, Duration.ZERO, 8, Duration.ZERO, 1.0, 500).start();
+        GptService gptService = GptServiceFixture.create(fakeOpenAi.baseUrl(), 4, meterRegistry);
+
+        assertThatThrownBy(() -> gptService.generate("금리를 설명해줘", false, TAG, GptJobType.TOPIC_USERTYPE)).isInstanceOf(RuntimeException.class);
+        assertThat(fakeOpenAi.failedCount()).isEqualTo(1);
+    }
+}
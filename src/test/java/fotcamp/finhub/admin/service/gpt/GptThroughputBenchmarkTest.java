@@ -0,0 +1,107 @@
+package fotcamp.finhub.admin.service.gpt;
+
+import fotcamp.finhub.admin.domain.GptJobType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GPT 관리자 생성 흐름 처리량 측정. GptService 를 FakeOpenAiServer(첫 응답 OPENAI_LATENCY, 스트리밍 조각 간격 CHUNK_DELAY) 에 붙여
+ * 동시 호출 수별로 일반/스트리밍 호출을 CALLS 건씩 보내고 초당 호출 수, 호출 지연 p50/p99/max 를 로그로 남긴다.
+ * 캐시와 DB 저장은 제외한다. 네트워크 없이 실행된다.
+ * 실행 : ./gradlew loadTest
+ */
+@Tag("load")
+class GptThroughputBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(GptThroughputBenchmarkTest.class);
+
+    private static final Duration OPENAI_LATENCY = Duration.ofMillis(200);
+    private static final Duration CHUNK_DELAY = Duration.ofMillis(5);
+    private static final int CALLS = 400;
+    private static final String ANSWER = "[설명] : " + "금리는 돈을 빌린 대가로 내는 이자의 비율입니다. ".repeat(20);
+
+    private FakeOpenAiServer fakeOpenAi;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fakeOpenAi = new FakeOpenAiServer(prompt -> ANSWER, OPENAI_LATENCY, 16, CHUNK_DELAY, 0.0, 500).start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fakeOpenAi.close();
+    }
+
+    @ParameterizedTest(name = "동시 {0}건, stream={1}")
+    @CsvSource({"4, false", "16, false", "64, false", "4, true", "16, true", "64, true"})
+    @DisplayName("GPT 호출 처리량")
+    void throughput(int concurrency, boolean stream) throws Exception {
+        GptService gptService = GptServiceFixture.create(fakeOpenAi.baseUrl(), concurrency, new SimpleMeterRegistry());
+        GptUsageTag tag = GptUsageTag.job(GptJobType.TOPIC_USERTYPE, 1L, "SUPER");
+        long[] latencies = new long[CALLS];
+        AtomicInteger latencyIndex = new AtomicInteger();
+        AtomicInteger streamedDeltas = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        List<Future<GptAnswer>> futures = new ArrayList<>(CALLS);
+        for (int i = 0; i < CALLS; i++) {
+            String prompt = "prompt-" + i;
+            futures.add(executor.submit(() -> {
+                long begin = System.nanoTime();
+                try {
+                    return stream
+                            ? gptService.stream(prompt, false, tag, GptJobType.TOPIC_USERTYPE, delta -> streamedDeltas.incrementAndGet())
+                            : gptService.generate(prompt, false, tag, GptJobType.TOPIC_USERTYPE);
+                } finally {
+                    latencies[latencyIndex.getAndIncrement()] = System.nanoTime() - begin;
+                }
+            }));
+        }
+        int completed = 0;
+        for (Future<GptAnswer> future : futures) {
+            if (ANSWER.equals(future.get().content())) {
+                completed++;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        log.info("[concurrency {}, stream {}] {} calls/sec ({}s), latency p50 {}ms p99 {}ms max {}ms",
+                concurrency, stream, String.format("%.1f", CALLS / seconds), String.format("%.1f", seconds),
+                toMillis(percentile(latencies, 0.50)), toMillis(percentile(latencies, 0.99)), toMillis(latencies[CALLS - 1]));
+
+        assertThat(completed).isEqualTo(CALLS);
+        assertThat(fakeOpenAi.receivedCount()).isEqualTo(CALLS);
+        if (stream) {
+            assertThat(streamedDeltas.get()).isEqualTo(CALLS * ((ANSWER.length() + 15) / 16));
+        }
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private long toMillis(long nanos) {
+        return Duration.ofNanos(nanos).toMillis();
+    }
+}
@@ -0,0 +1,114 @@
+package fotcamp.finhub.admin.service.push;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 FCM HTTP v1 대역 서버. POST /v1/projects/{id}/messages:send 에 응답한다.
+ * 요청마다 latency 만큼 지연하고, errorRate 확률로 FCM 형식의 오류 응답(status + details[].errorCode)을 돌려준다.
+ * FcmSender 의 push.fcm.base-url 을 baseUrl() 로 바꿔 사용한다.
+ */
+class FakeFcmServer implements AutoCloseable {
+
+    private final Duration latency;
+    private final double errorRate;
+    private final int errorStatus;
+    private final String errorCode;
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    FakeFcmServer(Duration latency) {
+        this(latency, 0.0, 404, "UNREGISTERED");
+    }
+
+    FakeFcmServer(Duration latency, double errorRate, int errorStatus, String errorCode) {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        this.errorCode = errorCode;
+    }
+
+    FakeFcmServer start() throws IOException {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 8192);
+        server.setExecutor(executor);
+        server.createContext("/v1/projects/", this::handle);
+        server.start();
+        return this;
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    long receivedCount() {
+        return received.get();
+    }
+
+    long failedCount() {
+        return failed.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+            long sequence = received.incrementAndGet();
+            sleep();
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                failed.incrementAndGet();
+                respond(exchange, errorStatus, errorBody());
+            } else {
+                respond(exchange, 200, "{\"name\":\"projects/fake/messages/" + sequence + "\"}");
+            }
+        }
+    }
+
+    private String errorBody() {
+        return "{\"error\":{\"code\":" + errorStatus + ",\"message\":\"Requested entity was not found.\",\"status\":\"NOT_FOUND\"," +
+                "\"details\":[{\"@type\":\"type.googleapis.com/google.firebase.fcm.v1.FcmError\",\"errorCode\":\"" + errorCode + "\"}]}}";
+    }
+
+    private void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void sleep() {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
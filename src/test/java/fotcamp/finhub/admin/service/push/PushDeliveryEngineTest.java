@@ -0,0 +1,47 @@
+package fotcamp.finhub.admin.service.push;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PushDeliveryEngineTest {
+
+    private static final int CONCURRENCY = 4;
+
+    private final PushDeliveryEngine engine = new PushDeliveryEngine(CONCURRENCY, true);
+
+    @AfterEach
+    void tearDown() {
+        engine.destroy();
+    }
+
+    @Test
+    @DisplayName("동기 발송과 캠페인 발송이 동시에 들어와도 엔진 전체 동시 실행 수는 push.delivery.concurrency 를 넘지 않는다")
+    void concurrencyIsSharedAcrossCalls() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        PushDeliveryEngine.PushTask<Integer> task = target -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } finally {
+                running.decrementAndGet();
+            }
+        };
+        List<Integer> targets = IntStream.range(0, 40).boxed().toList();
+
+        CompletableFuture<List<Integer>> sync = CompletableFuture.supplyAsync(() -> engine.deliver(targets, task));
+        CompletableFuture<List<Integer>> campaign = CompletableFuture.supplyAsync(() -> engine.deliver(targets, task));
+
+        assertThat(sync.join()).isEmpty();
+        assertThat(campaign.join()).isEmpty();
+        assertThat(peak.get()).isLessThanOrEqualTo(CONCURRENCY);
+    }
+}
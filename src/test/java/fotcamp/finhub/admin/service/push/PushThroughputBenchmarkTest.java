@@ -0,0 +1,349 @@
+package fotcamp.finhub.admin.service.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fotcamp.finhub.admin.domain.PushCampaign;
+import fotcamp.finhub.admin.domain.PushCampaignStatus;
+import fotcamp.finhub.admin.domain.PushDelivery;
+import fotcamp.finhub.admin.domain.PushDeliveryStatus;
+import fotcamp.finhub.admin.dto.request.CreateFcmMessageRequestDto;
+import fotcamp.finhub.admin.dto.response.FcmResponseDto;
+import fotcamp.finhub.admin.repository.PushCampaignRepository;
+import fotcamp.finhub.admin.repository.PushDeliveryRepository;
+import fotcamp.finhub.admin.service.FcmService;
+import fotcamp.finhub.common.api.ApiResponseWrapper;
+import fotcamp.finhub.common.config.HttpClientConfig;
+import fotcamp.finhub.common.http.ExternalCallGuard;
+import fotcamp.finhub.common.http.OutboundHttpClients;
+import fotcamp.finhub.main.config.FcmConfig;
+import fotcamp.finhub.main.dto.process.FcmMessageProcessDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 회원 전체 발송 처리량 측정. FcmService(즉시 발송)와 PushCampaignDispatcher(캠페인 발송)를 그대로 돌리고,
+ * 대상 조회/이력 저장/발송 대기 행은 메모리 stub 으로, FCM 은 FakeFcmServer(지연 FCM_LATENCY, ERROR_RATE 확률로 UNREGISTERED) 로 대체한다.
+ * HTTP 클라이언트는 HttpClientConfig 로 만들어 ExternalCallGuard(FCM 벌크헤드 50, max-wait 0) 를 거치고,
+ * 발송 동시성은 push.delivery.concurrency 기본값(32)을 쓴다.
+ * 초당 발송 수, 발송 지연 p50/p99/max, 발송 중 최대 힙 사용량을 로그로 남긴다.
+ * 실행 : ./gradlew loadTest
+ */
+@Tag("load")
+class PushThroughputBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PushThroughputBenchmarkTest.class);
+
+    private static final Duration FCM_LATENCY = Duration.ofMillis(20);
+    private static final double ERROR_RATE = 0.01;
+    private static final int DELIVERY_CONCURRENCY = 32; // push.delivery.concurrency 기본값
+    private static final int AUDIENCE_CHUNK_SIZE = 1000; // push.audience.chunk-size 기본값
+    private static final int CAMPAIGN_CHUNK_SIZE = 500; // push.campaign.chunk-size 기본값
+    private static final long CAMPAIGN_ID = 1L;
+
+    private FakeFcmServer fakeFcm;
+    private LatencyRecorder latencies;
+    private FcmSender fcmSender;
+    private PushDeliveryEngine engine;
+    private FcmCredentialProvider fcmCredentialProvider;
+    private FcmTokenPruner fcmTokenPruner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fakeFcm = new FakeFcmServer(FCM_LATENCY, ERROR_RATE, 404, "UNREGISTERED").start();
+        latencies = new LatencyRecorder();
+
+        // 운영과 같은 구성 : 대상별 HttpClient + ExternalCallGuard 인터셉터 (resilience.fcm.* 기본값)
+        MockEnvironment environment = new MockEnvironment();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExternalCallGuard externalCallGuard = new ExternalCallGuard(environment, meterRegistry);
+        HttpClientConfig httpClientConfig = new HttpClientConfig();
+        ReflectionTestUtils.setField(httpClientConfig, "defaultConnectTimeoutMs", 3000L);
+        ReflectionTestUtils.setField(httpClientConfig, "defaultReadTimeoutMs", 10000L);
+        ReflectionTestUtils.setField(httpClientConfig, "virtualThreadsEnabled", true);
+        OutboundHttpClients outboundHttpClients = httpClientConfig.outboundHttpClients(environment, meterRegistry, externalCallGuard);
+
+        FcmConfig fcmConfig = new FcmConfig();
+        ReflectionTestUtils.setField(fcmConfig, "projectId", "fake");
+        fcmSender = new FcmSender(fcmConfig, new ObjectMapper(), outboundHttpClients) {
+            @Override
+            public void send(String accessToken, String fcmToken, PushContent content) {
+                long begin = System.nanoTime();
+                try {
+                    super.send(accessToken, fcmToken, content);
+                } finally {
+                    latencies.record(System.nanoTime() - begin);
+                }
+            }
+        };
+        ReflectionTestUtils.setField(fcmSender, "baseUrl", fakeFcm.baseUrl());
+        engine = new PushDeliveryEngine(DELIVERY_CONCURRENCY, true);
+
+        fcmCredentialProvider = mock(FcmCredentialProvider.class);
+        when(fcmCredentialProvider.getAccessToken()).thenReturn("benchmark-access-token");
+        fcmTokenPruner = mock(FcmTokenPruner.class);
+        when(fcmTokenPruner.prune(any())).thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0).size());
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.destroy();
+        fakeFcm.close();
+    }
+
+    @ParameterizedTest(name = "회원 {0}명")
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    @DisplayName("FcmService 회원 전체 즉시 발송 처리량")
+    void fcmServiceBroadcastThroughput(int members) throws Exception {
+        PushAudienceReader pushAudienceReader = mock(PushAudienceReader.class);
+        doAnswer(invocation -> {
+            Consumer<List<PushTarget>> chunkConsumer = invocation.getArgument(3);
+            for (int from = 0; from < members; from += AUDIENCE_CHUNK_SIZE) {
+                chunkConsumer.accept(syntheticChunk(from, Math.min(from + AUDIENCE_CHUNK_SIZE, members)));
+            }
+            return null;
+        }).when(pushAudienceReader).forEachChunk(eq(2L), any(), any(), any());
+        PushHistoryRecorder pushHistoryRecorder = mock(PushHistoryRecorder.class);
+        when(pushHistoryRecorder.createNotification(any(), anyLong())).thenReturn(1L);
+
+        FcmService fcmService = new FcmService(new ObjectMapper(), pushAudienceReader, pushHistoryRecorder, engine,
+                fcmSender, fcmCredentialProvider, fcmTokenPruner);
+        CreateFcmMessageRequestDto dto = CreateFcmMessageRequestDto.builder()
+                .type(2L)
+                .target(new ArrayList<>())
+                .title("벤치마크")
+                .content("처리량 측정")
+                .view("home")
+                .action(FcmMessageProcessDto.Action.builder().date("20260101").build())
+                .build();
+
+        HeapSampler heapSampler = new HeapSampler();
+        heapSampler.start();
+        long start = System.nanoTime();
+        ResponseEntity<ApiResponseWrapper> response = fcmService.sendFcmNotifications(dto);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long peakHeapMb = heapSampler.stopAndGetPeakMb();
+
+        FcmResponseDto result = (FcmResponseDto) response.getBody().data();
+        report("FcmService", members, seconds, peakHeapMb, result.failList().size(), result.prunedTokenCount());
+
+        assertThat(fakeFcm.receivedCount()).isEqualTo(members);
+        // 벌크헤드(50)가 발송 동시성(32)보다 커서 BULKHEAD_FULL 없이 FCM 오류만 실패로 남는다
+        assertThat(result.failList()).hasSize((int) fakeFcm.failedCount());
+        assertThat(result.prunedTokenCount()).isEqualTo(fakeFcm.failedCount());
+    }
+
+    @ParameterizedTest(name = "회원 {0}명")
+    @ValueSource(ints = {10_000, 100_000})
+    @DisplayName("PushCampaignDispatcher 캠페인 발송 처리량")
+    void campaignDispatchThroughput(int members) throws Exception {
+        PushCampaign campaign = PushCampaign.builder().type(2L).title("벤치마크").content("처리량 측정").view("home").actionJson("{}").build();
+        ReflectionTestUtils.setField(campaign, "id", CAMPAIGN_ID);
+        campaign.prepared(members);
+        InMemoryDeliveries deliveries = new InMemoryDeliveries(members);
+
+        PushCampaignRepository pushCampaignRepository = mock(PushCampaignRepository.class);
+        when(pushCampaignRepository.findById(CAMPAIGN_ID)).thenReturn(Optional.of(campaign));
+        AtomicLong sent = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicLong pruned = new AtomicLong();
+        when(pushCampaignRepository.addProgress(eq(CAMPAIGN_ID), anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            sent.addAndGet(invocation.<Integer>getArgument(1));
+            failed.addAndGet(invocation.<Integer>getArgument(2));
+            pruned.addAndGet(invocation.<Integer>getArgument(3));
+            return 1;
+        });
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        PushCampaignDispatcher dispatcher = new PushCampaignDispatcher(pushCampaignRepository, deliveries.repository(), engine,
+                fcmSender, fcmCredentialProvider, fcmTokenPruner, mock(PushCampaignService.class), transactionManager);
+        ReflectionTestUtils.setField(dispatcher, "chunkSize", CAMPAIGN_CHUNK_SIZE);
+        ReflectionTestUtils.setField(dispatcher, "leaseMs", 300_000L);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 5);
+        ReflectionTestUtils.setField(dispatcher, "baseBackoffMs", 30_000L);
+        ReflectionTestUtils.setField(dispatcher, "maxBackoffMs", 1_800_000L);
+
+        HeapSampler heapSampler = new HeapSampler();
+        heapSampler.start();
+        long start = System.nanoTime();
+        while (dispatcher.dispatchChunk(CAMPAIGN_ID)) {
+            // 스케줄러 tick 제한 없이 남은 chunk 를 모두 발송
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long peakHeapMb = heapSampler.stopAndGetPeakMb();
+
+        report("PushCampaignDispatcher", members, seconds, peakHeapMb, failed.get(), pruned.get());
+
+        assertThat(fakeFcm.receivedCount()).isEqualTo(members);
+        // 재시도 대기(RETRY) 행이 남으면 완료되지 않는다
+        assertThat(campaign.getStatus()).isEqualTo(PushCampaignStatus.COMPLETED);
+        assertThat(sent.get() + failed.get()).isEqualTo(members);
+        assertThat(failed.get()).isEqualTo(fakeFcm.failedCount());
+    }
+
+    private void report(String target, int members, double seconds, long peakHeapMb, long failed, long pruned) {
+        long[] sorted = latencies.sorted();
+        log.info("[{} {} members] {} msg/sec ({}s), latency p50 {}ms p99 {}ms max {}ms, peak heap {}MB, failed {} (pruned {})",
+                target, members, String.format("%.0f", members / seconds), String.format("%.1f", seconds),
+                toMillis(percentile(sorted, 0.50)), toMillis(percentile(sorted, 0.99)), toMillis(sorted[sorted.length - 1]),
+                peakHeapMb, failed, pruned);
+    }
+
+    private static List<PushTarget> syntheticChunk(int from, int to) {
+        List<PushTarget> chunk = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            chunk.add(new PushTarget((long) i + 1, "member" + i, "token-" + i));
+        }
+        return chunk;
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private long toMillis(long nanos) {
+        return Duration.ofNanos(nanos).toMillis();
+    }
+
+    /**
+     * push_delivery 테이블 대역. PushCampaignDispatcher 가 쓰는 조회/점유 쿼리만 id 순 리스트로 흉내낸다.
+     * 디스패처는 한 스레드에서 점유/결과 반영을 하므로 동기화하지 않는다.
+     */
+    private static class InMemoryDeliveries {
+
+        private final List<PushDelivery> rows;
+        private final Map<String, List<PushDelivery>> claimed = new HashMap<>();
+        private int cursor; // 앞쪽의 끝난 행은 다시 보지 않는다
+
+        InMemoryDeliveries(int members) {
+            rows = new ArrayList<>(members);
+            for (PushTarget target : syntheticChunk(0, members)) {
+                PushDelivery delivery = new PushDelivery(CAMPAIGN_ID, target.memberId(), target.name(), target.fcmToken());
+                ReflectionTestUtils.setField(delivery, "id", (long) rows.size() + 1);
+                rows.add(delivery);
+            }
+        }
+
+        PushDeliveryRepository repository() {
+            PushDeliveryRepository repository = mock(PushDeliveryRepository.class);
+            when(repository.findDueIds(eq(CAMPAIGN_ID), any(), any(), any())).thenAnswer(invocation ->
+                    findDueIds(invocation.getArgument(1), invocation.getArgument(2), invocation.<Pageable>getArgument(3).getPageSize()));
+            when(repository.claim(any(), any(), any(), any(), any(), any())).thenAnswer(invocation ->
+                    claim(invocation.getArgument(0), invocation.getArgument(3), invocation.getArgument(4)));
+            when(repository.findByClaimToken(any())).thenAnswer(invocation ->
+                    claimed.getOrDefault(invocation.<String>getArgument(0), List.of()));
+            when(repository.findClaimedForUpdate(any(), eq(PushDeliveryStatus.SENDING))).thenAnswer(invocation ->
+                    claimed.getOrDefault(invocation.<String>getArgument(0), List.of()).stream()
+                            .filter(delivery -> delivery.getStatus() == PushDeliveryStatus.SENDING)
+                            .toList());
+            when(repository.countByCampaignIdAndStatusIn(eq(CAMPAIGN_ID), any())).thenAnswer(invocation ->
+                    rows.subList(cursor, rows.size()).stream()
+                            .filter(delivery -> invocation.<Collection<PushDeliveryStatus>>getArgument(1).contains(delivery.getStatus()))
+                            .count());
+            return repository;
+        }
+
+        private List<Long> findDueIds(Collection<PushDeliveryStatus> statuses, LocalDateTime now, int limit) {
+            while (cursor < rows.size() && !PushDeliveryStatus.UNFINISHED.contains(rows.get(cursor).getStatus())) {
+                cursor++;
+            }
+            List<Long> ids = new ArrayList<>(limit);
+            for (int i = cursor; i < rows.size() && ids.size() < limit; i++) {
+                PushDelivery delivery = rows.get(i);
+                if (statuses.contains(delivery.getStatus()) && !delivery.getNextAttemptAt().isAfter(now)) {
+                    ids.add(delivery.getId());
+                }
+            }
+            return ids;
+        }
+
+        private int claim(Collection<Long> ids, String claimToken, LocalDateTime leaseUntil) {
+            claimed.clear(); // 이전 chunk 는 결과 반영이 끝났다
+            List<PushDelivery> deliveries = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                PushDelivery delivery = rows.get((int) (id - 1));
+                ReflectionTestUtils.setField(delivery, "status", PushDeliveryStatus.SENDING);
+                ReflectionTestUtils.setField(delivery, "claimToken", claimToken);
+                ReflectionTestUtils.setField(delivery, "nextAttemptAt", leaseUntil);
+                deliveries.add(delivery);
+            }
+            claimed.put(claimToken, deliveries);
+            return deliveries.size();
+        }
+    }
+
+    /** 발송 건별 FcmSender 호출 시간(ns). 재시도가 있어도 넘치지 않게 넉넉히 잡고, 넘치면 버린다 */
+    private static class LatencyRecorder {
+
+        private final long[] values = new long[2_100_000];
+        private final AtomicInteger size = new AtomicInteger();
+
+        void record(long nanos) {
+            int index = size.getAndIncrement();
+            if (index < values.length) {
+                values[index] = nanos;
+            }
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, Math.max(1, Math.min(size.get(), values.length)));
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    /** 발송 중 힙 사용량을 주기적으로 읽어 최대값을 기록 */
+    private static class HeapSampler extends Thread {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private volatile boolean running = true;
+        private volatile long peakBytes;
+
+        HeapSampler() {
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                peakBytes = Math.max(peakBytes, memory.getHeapMemoryUsage().getUsed());
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        long stopAndGetPeakMb() throws InterruptedException {
+            running = false;
+            join();
+            return peakBytes / (1024 * 1024);
+        }
+    }
+}
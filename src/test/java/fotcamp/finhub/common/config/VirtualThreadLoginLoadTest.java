@@ -0,0 +1,289 @@
+package fotcamp.finhub.common.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import fotcamp.finhub.admin.repository.ManagerRepository;
+import fotcamp.finhub.admin.service.ManagerRefreshTokenStore;
+import fotcamp.finhub.common.domain.Member;
+import fotcamp.finhub.common.http.ExternalCallGuard;
+import fotcamp.finhub.common.service.AwsS3Service;
+import fotcamp.finhub.common.service.MemberRefreshTokenStore;
+import fotcamp.finhub.common.utils.JwtUtil;
+import fotcamp.finhub.main.config.AppleJwtConfig;
+import fotcamp.finhub.main.config.GoogleConfig;
+import fotcamp.finhub.main.config.KakaoConfig;
+import fotcamp.finhub.main.config.OAuth2Util;
+import fotcamp.finhub.main.controller.AuthApiController;
+import fotcamp.finhub.main.repository.AgreementRepository;
+import fotcamp.finhub.main.repository.MemberRepository;
+import fotcamp.finhub.main.service.AuthService2;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 느린 카카오 로그인을 동시에 몇 개까지 붙잡고 있을 수 있는지 spring.threads.virtual.enabled 설정별로 측정한다.
+ * 스프링부트가 띄운 Tomcat 위에서 실제 AuthApiController, AuthService2, OAuth2Util, HttpClientConfig 를 그대로 타고,
+ * 카카오 토큰 API 는 응답을 PROVIDER_DELAY 만큼 지연시키는 스텁 서버로 대체한다.
+ * DB 없이 로그인 흐름만 재므로 저장소/토큰 저장소는 목으로 두고, 트랜잭션 자동설정은 올리지 않는다.
+ * 카카오 벌크헤드(기본 20)는 동시 로그인 수만큼 열어 스레드 모델 차이만 보이게 한다.
+ * 실행 : ./gradlew loadTest
+ */
+@Tag("load")
+class VirtualThreadLoginLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoginLoadTest.class);
+
+    private static final Duration PROVIDER_DELAY = Duration.ofSeconds(2);
+    private static final int CONCURRENT_LOGINS = 1000;
+    private static final int PLATFORM_MAX_THREADS = 200;
+
+    private HttpServer slowProvider;
+    private ExecutorService providerExecutor;
+
+    @BeforeEach
+    void startSlowProvider() throws IOException {
+        providerExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        slowProvider = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        slowProvider.setExecutor(providerExecutor);
+        slowProvider.createContext("/oauth/token", exchange -> {
+            try {
+                Thread.sleep(PROVIDER_DELAY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respondJson(exchange, "{\"access_token\":\"stub\"}");
+        });
+        slowProvider.createContext("/v2/user/me", exchange -> respondJson(exchange,
+                "{\"id\":1,\"properties\":{\"nickname\":\"finhub\"},\"kakao_account\":{\"email\":\"load@finhub.com\"}}"));
+        slowProvider.start();
+    }
+
+    @AfterEach
+    void stopSlowProvider() {
+        slowProvider.stop(0);
+        providerExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드는 플랫폼 스레드 모드보다 많은 느린 로그인을 동시에 처리한다")
+    void compareConcurrentSlowLogins() throws Exception {
+        LoadResult platform = runLoad(false);
+        LoadResult virtual = runLoad(true);
+
+        log.info("platform : peak {} completed {} virtual-handled {} elapsed {}ms",
+                platform.peakInFlight(), platform.completed(), platform.virtualHandled(), platform.elapsedMillis());
+        log.info("virtual  : peak {} completed {} virtual-handled {} elapsed {}ms",
+                virtual.peakInFlight(), virtual.completed(), virtual.virtualHandled(), virtual.elapsedMillis());
+
+        assertThat(platform.completed()).isEqualTo(CONCURRENT_LOGINS);
+        assertThat(platform.virtualHandled()).isZero();
+        assertThat(platform.peakInFlight()).isLessThanOrEqualTo(PLATFORM_MAX_THREADS);
+
+        assertThat(virtual.completed()).isEqualTo(CONCURRENT_LOGINS);
+        assertThat(virtual.virtualHandled()).isEqualTo(CONCURRENT_LOGINS);
+        assertThat(virtual.peakInFlight()).isGreaterThan(PLATFORM_MAX_THREADS);
+        assertThat(virtual.elapsedMillis()).isLessThan(platform.elapsedMillis());
+    }
+
+    private LoadResult runLoad(boolean virtualThreads) throws Exception {
+        String providerUrl = "http://127.0.0.1:" + slowProvider.getAddress().getPort();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoginSlice.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + PLATFORM_MAX_THREADS,
+                        "resilience.kakao.max-concurrent-calls=" + CONCURRENT_LOGINS,
+                        "spring.security.oauth2.client.provider.kakao.token-uri=" + providerUrl + "/oauth/token",
+                        "spring.security.oauth2.client.provider.kakao.user-info-uri=" + providerUrl + "/v2/user/me",
+                        "spring.security.oauth2.client.registration.kakao.client-id=load-test",
+                        "spring.security.oauth2.client.registration.kakao.client-secret=load-test",
+                        "spring.security.oauth2.client.registration.kakao.authorization-grant-type=authorization_code",
+                        "spring.security.oauth2.client.registration.kakao.client-name=kakao",
+                        "custom-redirect-uri.kakao.felocal=http://localhost:3000/callback",
+                        "custom-redirect-uri.kakao.feprod=http://localhost:3000/callback",
+                        "custom-redirect-uri.kakao.belocal=http://localhost:8090/callback",
+                        "custom-redirect-uri.kakao.beprod=http://localhost:8090/callback",
+                        "custom-redirect-uri.kakao.bedev=http://localhost:8090/callback",
+                        "jwt.key=ZmluaHViLXZpcnR1YWwtdGhyZWFkLWxvZ2luLWxvYWQtdGVzdC1rZXktMzItYnl0ZXM=",
+                        "jwt.accessTokenExpirationTime=1800",
+                        "jwt.refreshTokenExpirationTime=1209600")
+                .run()) {
+            LoginProbe probe = context.getBean(LoginProbe.class);
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI loginUri = URI.create("http://127.0.0.1:" + port + "/api/v1/auth/login/oauth2/callback/kakao?code=stub&origin=belocal");
+
+            HttpClient loadClient = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+                HttpRequest request = HttpRequest.newBuilder(loginUri).timeout(Duration.ofMinutes(2)).GET().build();
+                responses.add(loadClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+            }
+            int completed = 0;
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                HttpResponse<String> login = response.join();
+                if (login.statusCode() == 200 && login.body().contains("accessToken")) {
+                    completed++;
+                }
+            }
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            return new LoadResult(probe.peakInFlight.get(), probe.virtualHandled.get(), completed, elapsedMillis);
+        }
+    }
+
+    private static void respondJson(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private record LoadResult(int peakInFlight, int virtualHandled, int completed, long elapsedMillis) {
+    }
+
+    /** 요청 스레드에서 동시 처리 수와 가상 스레드 여부를 기록한다 */
+    static class LoginProbe extends OncePerRequestFilter {
+
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger peakInFlight = new AtomicInteger();
+        final AtomicInteger virtualHandled = new AtomicInteger();
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            if (Thread.currentThread().isVirtual()) {
+                virtualHandled.incrementAndGet();
+            }
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            EmbeddedWebServerFactoryCustomizerAutoConfiguration.class, // spring.threads.virtual.enabled 를 Tomcat 에 적용
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            JacksonAutoConfiguration.class
+    })
+    @Import({AuthApiController.class, AuthService2.class, KakaoConfig.class, OAuth2Util.class, JwtUtil.class,
+            HttpClientConfig.class, ExternalCallGuard.class})
+    static class LoginSlice {
+
+        @Bean
+        LoginProbe loginProbe() {
+            return new LoginProbe();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        MemberRepository memberRepository() {
+            MemberRepository memberRepository = stub(MemberRepository.class);
+            given(memberRepository.findByMemberUuid(anyString())).willAnswer(invocation ->
+                    Optional.of(new Member("load@finhub.com", "finhub", "kakao", invocation.getArgument(0))));
+            return memberRepository;
+        }
+
+        @Bean
+        MemberRefreshTokenStore memberRefreshTokenStore() {
+            return stub(MemberRefreshTokenStore.class);
+        }
+
+        @Bean
+        ManagerRefreshTokenStore managerRefreshTokenStore() {
+            return stub(ManagerRefreshTokenStore.class);
+        }
+
+        @Bean
+        ManagerRepository managerRepository() {
+            return stub(ManagerRepository.class);
+        }
+
+        @Bean
+        AgreementRepository agreementRepository() {
+            return stub(AgreementRepository.class);
+        }
+
+        @Bean
+        AwsS3Service awsS3Service() {
+            return stub(AwsS3Service.class);
+        }
+
+        @Bean
+        GoogleConfig googleConfig() {
+            return stub(GoogleConfig.class);
+        }
+
+        @Bean
+        AppleJwtConfig appleJwtConfig() {
+            return stub(AppleJwtConfig.class);
+        }
+
+        // 동시 로그인 1000건의 호출 기록을 쌓지 않는다
+        private static <T> T stub(Class<T> type) {
+            return mock(type, withSettings().stubOnly());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package fotcamp.finhub.common.service;
+
+import fotcamp.finhub.common.config.QuerydslConfig;
+import fotcamp.finhub.common.domain.Member;
+import fotcamp.finhub.common.security.TokenDto;
+import fotcamp.finhub.common.service.RefreshTokenStore.Rotation;
+import fotcamp.finhub.common.service.RefreshTokenStore.TokenState;
+import fotcamp.finhub.common.utils.JwtUtil;
+import fotcamp.finhub.main.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리프레시 토큰 교체(rotate)를 H2(MariaDB 모드) 에서 확인한다.
+ * - 같은 초에 두 기기로 발급해도 토큰이 다르고, 교체는 (회원, 기기) 행만 바꾼다
+ * - 같은 토큰으로 동시에(또는 응답 유실 후 재시도로) 갱신하면 한쪽은 교체, 다른 쪽은 유예 시간 안이라 교체된 토큰을 받는다
+ * - 유예 시간이 지난 직전 토큰은 재사용(REUSED)으로 판정한다
+ * 스레드마다 트랜잭션이 커밋돼야 하므로 테스트 트랜잭션은 쓰지 않는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+@Import({QuerydslConfig.class, JwtUtil.class, MemberRefreshTokenStore.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:refreshtoken;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "jwt.key=ZmluaHViLXJlZnJlc2gtdG9rZW4tcm90YXRpb24tdGVzdC1rZXktMzItYnl0ZXM=",
+        "jwt.accessTokenExpirationTime=1800",
+        "jwt.refreshTokenExpirationTime=1209600",
+        "jwt.refresh-reuse-grace-seconds=30"
+})
+class MemberRefreshTokenStoreTest {
+
+    @Autowired
+    MemberRefreshTokenStore store;
+    @Autowired
+    JwtUtil jwtUtil;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 초에 두 기기로 발급한 토큰은 서로 다르고, 한 기기의 교체가 다른 기기 세션을 바꾸지 않는다")
+    void sameSecondIssuanceOnTwoDevices() {
+        Member member = newMember();
+        String phone = refreshToken(member);
+        String tablet = refreshToken(member);
+        assertThat(phone).isNotEqualTo(tablet);
+
+        store.issue(member, "phone", phone);
+        store.issue(member, "tablet", tablet);
+        String rotated = refreshToken(member);
+
+        assertThat(store.rotate(member, "phone", phone, rotated)).isEqualTo(new Rotation(TokenState.ACTIVE, rotated));
+        assertThat(store.inspect(member, tablet)).isEqualTo(TokenState.ACTIVE);
+        assertThat(store.inspect(member, rotated)).isEqualTo(TokenState.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("토큰 문자열이 같은 기존 세션이 있어도 교체는 요청한 기기 행만 바꾼다")
+    void rotateIsKeyedByDevice() {
+        Member member = newMember();
+        String legacy = refreshToken(member);
+        store.issue(member, "phone", legacy);
+        store.issue(member, "tablet", legacy);
+        String rotated = refreshToken(member);
+
+        assertThat(store.rotate(member, "phone", legacy, rotated).state()).isEqualTo(TokenState.ACTIVE);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT token FROM refresh_token WHERE member_id = ? AND device_id = 'tablet'", String.class, member.getMemberId()))
+                .isEqualTo(legacy);
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 동시에 갱신하면 하나는 교체되고 나머지는 유예 시간 안이라 같은 새 토큰을 받는다")
+    void concurrentRefresh() throws Exception {
+        Member member = newMember();
+        String old = refreshToken(member);
+        store.issue(member, "phone", old);
+
+        int racers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(racers);
+        try {
+            List<Future<Rotation>> futures = new ArrayList<>();
+            for (int i = 0; i < racers; i++) {
+                String candidate = refreshToken(member);
+                Callable<Rotation> refresh = () -> {
+                    start.await();
+                    return store.rotate(member, "phone", old, candidate);
+                };
+                futures.add(executor.submit(refresh));
+            }
+            start.countDown();
+            List<Rotation> rotations = new ArrayList<>();
+            for (Future<Rotation> future : futures) {
+                rotations.add(future.get());
+            }
+
+            assertThat(rotations).filteredOn(rotation -> rotation.state() == TokenState.ACTIVE).hasSize(1);
+            assertThat(rotations).filteredOn(rotation -> rotation.state() == TokenState.GRACE).hasSize(racers - 1);
+            String winner = rotations.stream().filter(rotation -> rotation.state() == TokenState.ACTIVE).findFirst().orElseThrow().refreshToken();
+            assertThat(rotations).allSatisfy(rotation -> assertThat(rotation.refreshToken()).isEqualTo(winner));
+            assertThat(store.inspect(member, winner)).isEqualTo(TokenState.ACTIVE);
+        } finally {
+            executor.shutdown();
+        }
+
+        // 응답을 못 받은 클라이언트의 재시도도 유예 시간 안이면 같은 토큰을 돌려받는다
+        Rotation retry = store.rotate(member, "phone", old, refreshToken(member));
+        assertThat(retry.state()).isEqualTo(TokenState.GRACE);
+        assertThat(store.inspect(member, retry.refreshToken())).isEqualTo(TokenState.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 직전 토큰을 다시 쓰면 재사용으로 판정하고, 모르는 토큰은 재사용으로 보지 않는다")
+    void reuseAfterGrace() {
+        Member member = newMember();
+        String old = refreshToken(member);
+        String rotated = refreshToken(member);
+        store.issue(member, "phone", old);
+        store.rotate(member, "phone", old, rotated);
+        jdbcTemplate.update("UPDATE refresh_token SET rotated_at = ? WHERE member_id = ?",
+                LocalDateTime.now().minusMinutes(1), member.getMemberId());
+
+        assertThat(store.rotate(member, "phone", old, refreshToken(member))).isEqualTo(new Rotation(TokenState.REUSED, null));
+        assertThat(store.inspect(member, old)).isEqualTo(TokenState.REUSED);
+        assertThat(store.inspect(member, refreshToken(member))).isEqualTo(TokenState.UNKNOWN);
+
+        store.revokeAll(member);
+        assertThat(store.inspect(member, rotated)).isEqualTo(TokenState.UNKNOWN);
+    }
+
+    private Member newMember() {
+        String uuid = UUID.randomUUID().toString();
+        return memberRepository.save(new Member(uuid + "@finhub.com", "회원", "kakao", uuid));
+    }
+
+    private String refreshToken(Member member) {
+        TokenDto tokens = jwtUtil.createAllTokens(member.getMemberUuid(), "ROLE_USER", "kakao");
+        return tokens.getRefreshToken();
+    }
+}
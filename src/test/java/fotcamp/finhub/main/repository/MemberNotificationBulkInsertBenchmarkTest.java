@@ -0,0 +1,104 @@
+package fotcamp.finhub.main.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림함 fan-out 저장을 행 단위 IDENTITY insert(기존 saveAll 경로) 와 JDBC batch insert 로 비교한다.
+ * H2 MariaDB 호환 모드의 인메모리 DB 라 네트워크 왕복이 없어 실제 MariaDB 에서의 차이보다 작게 나온다.
+ * 실행 : ./gradlew loadTest
+ */
+@Tag("load")
+class MemberNotificationBulkInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberNotificationBulkInsertBenchmarkTest.class);
+
+    private static final int ROWS = 100_000;
+    private static final long NOTIFICATION_ID = 1L;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:fanout;MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("CREATE TABLE member_notification (" +
+                "member_noti_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "member_id BIGINT, noti_id BIGINT, sent_at TIMESTAMP, received_at TIMESTAMP)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE member_notification");
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("JDBC batch insert 가 행 단위 IDENTITY insert 보다 초당 저장 건수가 높다")
+    void batchInsertOutperformsRowByRowInsert() {
+        List<Long> memberIds = LongStream.rangeClosed(1, ROWS).boxed().toList();
+
+        double before = measure(() -> insertRowByRow(memberIds));
+        jdbcTemplate.execute("TRUNCATE TABLE member_notification");
+        MemberNotificationRepositoryImpl repository = new MemberNotificationRepositoryImpl(jdbcTemplate);
+        double after = measure(() -> repository.bulkInsert(NOTIFICATION_ID, memberIds));
+
+        log.info("row-by-row : {} rows/sec", String.format("%.0f", before));
+        log.info("jdbc batch : {} rows/sec", String.format("%.0f", after));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member_notification", Long.class))
+                .isEqualTo(ROWS);
+        assertThat(after).isGreaterThan(before);
+    }
+
+    private double measure(Runnable insert) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> insert.run());
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return ROWS / seconds;
+    }
+
+    // Hibernate 가 IDENTITY 엔티티를 저장할 때처럼 행마다 insert 후 생성 키를 읽는다
+    private void insertRowByRow(List<Long> memberIds) {
+        Timestamp sentAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    MemberNotificationRepositoryImpl.INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Long memberId : memberIds) {
+                    ps.setLong(1, memberId);
+                    ps.setLong(2, NOTIFICATION_ID);
+                    ps.setTimestamp(3, sentAt);
+                    ps.executeUpdate();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        keys.next();
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}